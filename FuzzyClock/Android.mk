@@ -4,6 +4,7 @@ include $(CLEAR_VARS)
 LOCAL_PACKAGE_NAME  := FuzzyClock
 # We have a nonstandard directory stucture
 LOCAL_SRC_FILES     := $(call all-java-files-under, src/main/java)
+LOCAL_SRC_FILES     += $(call all-java-files-under, src/generated/java)
 LOCAL_SRC_FILES     += $(call all-java-files-under, src/tapas/java)
 LOCAL_MANIFEST_FILE := src/main/AndroidManifest.xml
 # Include an extra overlay to rename the app
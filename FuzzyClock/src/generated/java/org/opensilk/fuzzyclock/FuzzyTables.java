@@ -0,0 +1,2139 @@
+/*
+ * Generated by the generateFuzzyTables task from src/main/logic, do not edit.
+ */
+package org.opensilk.fuzzyclock;
+
+/**
+ * Precompiled tables for the built in logics, see FuzzyTable.decode()
+ */
+final class FuzzyTables {
+
+    private FuzzyTables() {
+        //static
+    }
+
+    static final int[] PHRASES = {
+            -1,
+            R.string.fuzzy_midnight,
+            R.string.fuzzy_five,
+            R.string.fuzzy_past,
+            R.string.fuzzy_ten,
+            R.string.fuzzy_quarter,
+            R.string.fuzzy_twenty,
+            R.string.fuzzy_twenty_five,
+            R.string.fuzzy_half,
+            R.string.fuzzy_one,
+            R.string.fuzzy_to,
+            R.string.fuzzy_oclock,
+            R.string.fuzzy_two,
+            R.string.fuzzy_three,
+            R.string.fuzzy_four,
+            R.string.fuzzy_six,
+            R.string.fuzzy_seven,
+            R.string.fuzzy_eight,
+            R.string.fuzzy_nine,
+            R.string.fuzzy_eleven,
+            R.string.fuzzy_noon,
+            R.string.fuzzy_thirteen,
+            R.string.fuzzy_fourteen,
+            R.string.fuzzy_fifteen,
+            R.string.fuzzy_sixteen,
+            R.string.fuzzy_seventeen,
+            R.string.fuzzy_eighteen,
+            R.string.fuzzy_nineteen,
+            R.string.fuzzy_twenty_one,
+            R.string.fuzzy_twenty_two,
+            R.string.fuzzy_twenty_three,
+            R.string.fuzzy_twelve,
+            R.string.fuzzy_twenty_four,
+            R.string.fuzzy_twenty_six,
+            R.string.fuzzy_twenty_seven,
+            R.string.fuzzy_twenty_eight,
+            R.string.fuzzy_twenty_nine
+    };
+
+    static final class Fast12 {
+        // fuzzy_logic_fast.xml, 12 hour
+        static final FuzzyTable TABLE = FuzzyTable.decode(PHRASES,
+                "\u0001\u0000\u0000\u0002\u0001\u0003\u0004\u0001\u0003\u0005\u0001\u0003"
+                + "\u0006\u0001\u0003\u0007\u0001\u0003\u0008\u0001\u0003\u0007\u0009\n"
+                + "\u0006\u0009\n\u0005\u0009\n\u0004\u0009\n\u0002\u0009\n"
+                + "\u0009\u000b\u0000\u0002\u0009\u0003\u0004\u0009\u0003\u0005\u0009\u0003"
+                + "\u0006\u0009\u0003\u0007\u0009\u0003\u0008\u0009\u0003\u0007\u000c\n"
+                + "\u0006\u000c\n\u0005\u000c\n\u0004\u000c\n\u0002\u000c\n"
+                + "\u000c\u000b\u0000\u0002\u000c\u0003\u0004\u000c\u0003\u0005\u000c\u0003"
+                + "\u0006\u000c\u0003\u0007\u000c\u0003\u0008\u000c\u0003\u0007\r\n"
+                + "\u0006\r\n\u0005\r\n\u0004\r\n\u0002\r\n"
+                + "\r\u000b\u0000\u0002\r\u0003\u0004\r\u0003\u0005\r\u0003"
+                + "\u0006\r\u0003\u0007\r\u0003\u0008\r\u0003\u0007\u000e\n"
+                + "\u0006\u000e\n\u0005\u000e\n\u0004\u000e\n\u0002\u000e\n"
+                + "\u000e\u000b\u0000\u0002\u000e\u0003\u0004\u000e\u0003\u0005\u000e\u0003"
+                + "\u0006\u000e\u0003\u0007\u000e\u0003\u0008\u000e\u0003\u0007\u0002\n"
+                + "\u0006\u0002\n\u0005\u0002\n\u0004\u0002\n\u0002\u0002\n"
+                + "\u0002\u000b\u0000\u0002\u0002\u0003\u0004\u0002\u0003\u0005\u0002\u0003"
+                + "\u0006\u0002\u0003\u0007\u0002\u0003\u0008\u0002\u0003\u0007\u000f\n"
+                + "\u0006\u000f\n\u0005\u000f\n\u0004\u000f\n\u0002\u000f\n"
+                + "\u000f\u000b\u0000\u0002\u000f\u0003\u0004\u000f\u0003\u0005\u000f\u0003"
+                + "\u0006\u000f\u0003\u0007\u000f\u0003\u0008\u000f\u0003\u0007\u0010\n"
+                + "\u0006\u0010\n\u0005\u0010\n\u0004\u0010\n\u0002\u0010\n"
+                + "\u0010\u000b\u0000\u0002\u0010\u0003\u0004\u0010\u0003\u0005\u0010\u0003"
+                + "\u0006\u0010\u0003\u0007\u0010\u0003\u0008\u0010\u0003\u0007\u0011\n"
+                + "\u0006\u0011\n\u0005\u0011\n\u0004\u0011\n\u0002\u0011\n"
+                + "\u0011\u000b\u0000\u0002\u0011\u0003\u0004\u0011\u0003\u0005\u0011\u0003"
+                + "\u0006\u0011\u0003\u0007\u0011\u0003\u0008\u0011\u0003\u0007\u0012\n"
+                + "\u0006\u0012\n\u0005\u0012\n\u0004\u0012\n\u0002\u0012\n"
+                + "\u0012\u000b\u0000\u0002\u0012\u0003\u0004\u0012\u0003\u0005\u0012\u0003"
+                + "\u0006\u0012\u0003\u0007\u0012\u0003\u0008\u0012\u0003\u0007\u0004\n"
+                + "\u0006\u0004\n\u0005\u0004\n\u0004\u0004\n\u0002\u0004\n"
+                + "\u0004\u000b\u0000\u0002\u0004\u0003\u0004\u0004\u0003\u0005\u0004\u0003"
+                + "\u0006\u0004\u0003\u0007\u0004\u0003\u0008\u0004\u0003\u0007\u0013\n"
+                + "\u0006\u0013\n\u0005\u0013\n\u0004\u0013\n\u0002\u0013\n"
+                + "\u0013\u000b\u0000\u0002\u0013\u0003\u0004\u0013\u0003\u0005\u0013\u0003"
+                + "\u0006\u0013\u0003\u0007\u0013\u0003\u0008\u0013\u0003\u0007\u0014\n"
+                + "\u0006\u0014\n\u0005\u0014\n\u0004\u0014\n\u0002\u0014\n"
+                + "\u0014\u0000\u0000\u0002\u0014\u0003\u0004\u0014\u0003\u0005\u0014\u0003"
+                + "\u0006\u0014\u0003\u0007\u0014\u0003\u0008\u0014\u0003\u0007\u0001\n"
+                + "\u0006\u0001\n\u0005\u0001\n\u0004\u0001\n\u0002\u0001\n",
+                "\u0000\u0000\u0001\u0001\u0006\u0002\u000b\u0003\u0010\u0004\u0015\u0005"
+                + "\u001a\u0006\u001f\u0007\u0024\u0008\u0029\u0009\u002e\n\u0033\u000b"
+                + "\u0038\u000c\u003d\r\u0042\u000e\u0047\u000f\u004c\u0010\u0051\u0011"
+                + "\u0056\u0012\u005b\u0013\u0060\u0014\u0065\u0015\u006a\u0016\u006f\u0017"
+                + "\u0074\u0018\u0079\u0019\u007e\u001a\u0083\u001b\u0088\u001c\u008d\u001d"
+                + "\u0092\u001e\u0097\u001f\u009c\u0020\u00a1\u0021\u00a6\"\u00ab\u0023"
+                + "\u00b0\u0024\u00b5\u0025\u00ba\u0026\u00bf\u0027\u00c4\u0028\u00c9\u0029"
+                + "\u00ce\u002a\u00d3\u002b\u00d8\u002c\u00dd\u002d\u00e2\u002e\u00e7\u002f"
+                + "\u00ec\u0030\u00f1\u0031\u00f6\u0032\u00fb\u0033\u0100\u0034\u0105\u0035"
+                + "\u010a\u0036\u010f\u0037\u0114\u0038\u0119\u0039\u011e\u003a\u0123\u003b"
+                + "\u0128\u003c\u012d\u003d\u0132\u003e\u0137\u003f\u013c\u0040\u0141\u0041"
+                + "\u0146\u0042\u014b\u0043\u0150\u0044\u0155\u0045\u015a\u0046\u015f\u0047"
+                + "\u0164\u0048\u0169\u0049\u016e\u004a\u0173\u004b\u0178\u004c\u017d\u004d"
+                + "\u0182\u004e\u0187\u004f\u018c\u0050\u0191\u0051\u0196\u0052\u019b\u0053"
+                + "\u01a0\u0054\u01a5\u0055\u01aa\u0056\u01af\u0057\u01b4\u0058\u01b9\u0059"
+                + "\u01be\u005a\u01c3\u005b\u01c8\\\u01cd\u005d\u01d2\u005e\u01d7\u005f"
+                + "\u01dc\u0060\u01e1\u0061\u01e6\u0062\u01eb\u0063\u01f0\u0064\u01f5\u0065"
+                + "\u01fa\u0066\u01ff\u0067\u0204\u0068\u0209\u0069\u020e\u006a\u0213\u006b"
+                + "\u0218\u006c\u021d\u006d\u0222\u006e\u0227\u006f\u022c\u0070\u0231\u0071"
+                + "\u0236\u0072\u023b\u0073\u0240\u0074\u0245\u0075\u024a\u0076\u024f\u0077"
+                + "\u0254\u0078\u0259\u0079\u025e\u007a\u0263\u007b\u0268\u007c\u026d\u007d"
+                + "\u0272\u007e\u0277\u007f\u027c\u0080\u0281\u0081\u0286\u0082\u028b\u0083"
+                + "\u0290\u0084\u0295\u0085\u029a\u0086\u029f\u0087\u02a4\u0088\u02a9\u0089"
+                + "\u02ae\u008a\u02b3\u008b\u02b8\u008c\u02bd\u008d\u02c2\u008e\u02c7\u008f"
+                + "\u02cc\u0090\u02d1\u0091\u02d6\u0092\u02db\u0093\u02e0\u0094\u02e5\u0095"
+                + "\u02ea\u0096\u02ef\u0007\u02f4\u0008\u02f9\u0009\u02fe\n\u0303\u000b"
+                + "\u0308\u000c\u030d\r\u0312\u000e\u0317\u000f\u031c\u0010\u0321\u0011"
+                + "\u0326\u0012\u032b\u0013\u0330\u0014\u0335\u0015\u033a\u0016\u033f\u0017"
+                + "\u0344\u0018\u0349\u0019\u034e\u001a\u0353\u001b\u0358\u001c\u035d\u001d"
+                + "\u0362\u001e\u0367\u001f\u036c\u0020\u0371\u0021\u0376\"\u037b\u0023"
+                + "\u0380\u0024\u0385\u0025\u038a\u0026\u038f\u0027\u0394\u0028\u0399\u0029"
+                + "\u039e\u002a\u03a3\u002b\u03a8\u002c\u03ad\u002d\u03b2\u002e\u03b7\u002f"
+                + "\u03bc\u0030\u03c1\u0031\u03c6\u0032\u03cb\u0033\u03d0\u0034\u03d5\u0035"
+                + "\u03da\u0036\u03df\u0037\u03e4\u0038\u03e9\u0039\u03ee\u003a\u03f3\u003b"
+                + "\u03f8\u003c\u03fd\u003d\u0402\u003e\u0407\u003f\u040c\u0040\u0411\u0041"
+                + "\u0416\u0042\u041b\u0043\u0420\u0044\u0425\u0045\u042a\u0046\u042f\u0047"
+                + "\u0434\u0048\u0439\u0049\u043e\u004a\u0443\u004b\u0448\u004c\u044d\u004d"
+                + "\u0452\u004e\u0457\u004f\u045c\u0050\u0461\u0051\u0466\u0052\u046b\u0053"
+                + "\u0470\u0054\u0475\u0055\u047a\u0056\u047f\u0057\u0484\u0058\u0489\u0059"
+                + "\u048e\u005a\u0493\u005b\u0498\\\u049d\u005d\u04a2\u005e\u04a7\u005f"
+                + "\u04ac\u0060\u04b1\u0061\u04b6\u0062\u04bb\u0063\u04c0\u0064\u04c5\u0065"
+                + "\u04ca\u0066\u04cf\u0067\u04d4\u0068\u04d9\u0069\u04de\u006a\u04e3\u006b"
+                + "\u04e8\u006c\u04ed\u006d\u04f2\u006e\u04f7\u006f\u04fc\u0070\u0501\u0071"
+                + "\u0506\u0072\u050b\u0073\u0510\u0074\u0515\u0075\u051a\u0076\u051f\u0077"
+                + "\u0524\u0078\u0529\u0079\u052e\u007a\u0533\u007b\u0538\u007c\u053d\u007d"
+                + "\u0542\u007e\u0547\u007f\u054c\u0080\u0551\u0081\u0556\u0082\u055b\u0083"
+                + "\u0560\u0084\u0565\u0085\u056a\u0086\u056f\u0087\u0574\u0088\u0579\u0089"
+                + "\u057e\u008a\u0583\u0097\u0588\u0098\u058d\u0099\u0592\u009a\u0597\u009b"
+                + "\u059c\u0000",
+                "\u0001\u0006\u000b\u0010\u0015\u001a\u001f\u0024\u0029\u002e\u0033\u0038"
+                + "\u003d\u0042\u0047\u004c\u0051\u0056\u005b\u0060\u0065\u006a\u006f\u0074"
+                + "\u0079\u007e\u0083\u0088\u008d\u0092\u0097\u009c\u00a1\u00a6\u00ab\u00b0"
+                + "\u00b5\u00ba\u00bf\u00c4\u00c9\u00ce\u00d3\u00d8\u00dd\u00e2\u00e7\u00ec"
+                + "\u00f1\u00f6\u00fb\u0100\u0105\u010a\u010f\u0114\u0119\u011e\u0123\u0128"
+                + "\u012d\u0132\u0137\u013c\u0141\u0146\u014b\u0150\u0155\u015a\u015f\u0164"
+                + "\u0169\u016e\u0173\u0178\u017d\u0182\u0187\u018c\u0191\u0196\u019b\u01a0"
+                + "\u01a5\u01aa\u01af\u01b4\u01b9\u01be\u01c3\u01c8\u01cd\u01d2\u01d7\u01dc"
+                + "\u01e1\u01e6\u01eb\u01f0\u01f5\u01fa\u01ff\u0204\u0209\u020e\u0213\u0218"
+                + "\u021d\u0222\u0227\u022c\u0231\u0236\u023b\u0240\u0245\u024a\u024f\u0254"
+                + "\u0259\u025e\u0263\u0268\u026d\u0272\u0277\u027c\u0281\u0286\u028b\u0290"
+                + "\u0295\u029a\u029f\u02a4\u02a9\u02ae\u02b3\u02b8\u02bd\u02c2\u02c7\u02cc"
+                + "\u02d1\u02d6\u02db\u02e0\u02e5\u02ea\u02ef\u02f4\u02f9\u02fe\u0303\u0308"
+                + "\u030d\u0312\u0317\u031c\u0321\u0326\u032b\u0330\u0335\u033a\u033f\u0344"
+                + "\u0349\u034e\u0353\u0358\u035d\u0362\u0367\u036c\u0371\u0376\u037b\u0380"
+                + "\u0385\u038a\u038f\u0394\u0399\u039e\u03a3\u03a8\u03ad\u03b2\u03b7\u03bc"
+                + "\u03c1\u03c6\u03cb\u03d0\u03d5\u03da\u03df\u03e4\u03e9\u03ee\u03f3\u03f8"
+                + "\u03fd\u0402\u0407\u040c\u0411\u0416\u041b\u0420\u0425\u042a\u042f\u0434"
+                + "\u0439\u043e\u0443\u0448\u044d\u0452\u0457\u045c\u0461\u0466\u046b\u0470"
+                + "\u0475\u047a\u047f\u0484\u0489\u048e\u0493\u0498\u049d\u04a2\u04a7\u04ac"
+                + "\u04b1\u04b6\u04bb\u04c0\u04c5\u04ca\u04cf\u04d4\u04d9\u04de\u04e3\u04e8"
+                + "\u04ed\u04f2\u04f7\u04fc\u0501\u0506\u050b\u0510\u0515\u051a\u051f\u0524"
+                + "\u0529\u052e\u0533\u0538\u053d\u0542\u0547\u054c\u0551\u0556\u055b\u0560"
+                + "\u0565\u056a\u056f\u0574\u0579\u057e\u0583\u0588\u058d\u0592\u0597\u059c");
+    }
+
+    static final class Fast24 {
+        // fuzzy_logic_fast.xml, 24 hour
+        static final FuzzyTable TABLE = FuzzyTable.decode(PHRASES,
+                "\u0001\u0000\u0000\u0002\u0001\u0003\u0004\u0001\u0003\u0005\u0001\u0003"
+                + "\u0006\u0001\u0003\u0007\u0001\u0003\u0008\u0001\u0003\u0007\u0009\n"
+                + "\u0006\u0009\n\u0005\u0009\n\u0004\u0009\n\u0002\u0009\n"
+                + "\u0009\u000b\u0000\u0002\u0009\u0003\u0004\u0009\u0003\u0005\u0009\u0003"
+                + "\u0006\u0009\u0003\u0007\u0009\u0003\u0008\u0009\u0003\u0007\u000c\n"
+                + "\u0006\u000c\n\u0005\u000c\n\u0004\u000c\n\u0002\u000c\n"
+                + "\u000c\u000b\u0000\u0002\u000c\u0003\u0004\u000c\u0003\u0005\u000c\u0003"
+                + "\u0006\u000c\u0003\u0007\u000c\u0003\u0008\u000c\u0003\u0007\r\n"
+                + "\u0006\r\n\u0005\r\n\u0004\r\n\u0002\r\n"
+                + "\r\u000b\u0000\u0002\r\u0003\u0004\r\u0003\u0005\r\u0003"
+                + "\u0006\r\u0003\u0007\r\u0003\u0008\r\u0003\u0007\u000e\n"
+                + "\u0006\u000e\n\u0005\u000e\n\u0004\u000e\n\u0002\u000e\n"
+                + "\u000e\u000b\u0000\u0002\u000e\u0003\u0004\u000e\u0003\u0005\u000e\u0003"
+                + "\u0006\u000e\u0003\u0007\u000e\u0003\u0008\u000e\u0003\u0007\u0002\n"
+                + "\u0006\u0002\n\u0005\u0002\n\u0004\u0002\n\u0002\u0002\n"
+                + "\u0002\u000b\u0000\u0002\u0002\u0003\u0004\u0002\u0003\u0005\u0002\u0003"
+                + "\u0006\u0002\u0003\u0007\u0002\u0003\u0008\u0002\u0003\u0007\u000f\n"
+                + "\u0006\u000f\n\u0005\u000f\n\u0004\u000f\n\u0002\u000f\n"
+                + "\u000f\u000b\u0000\u0002\u000f\u0003\u0004\u000f\u0003\u0005\u000f\u0003"
+                + "\u0006\u000f\u0003\u0007\u000f\u0003\u0008\u000f\u0003\u0007\u0010\n"
+                + "\u0006\u0010\n\u0005\u0010\n\u0004\u0010\n\u0002\u0010\n"
+                + "\u0010\u000b\u0000\u0002\u0010\u0003\u0004\u0010\u0003\u0005\u0010\u0003"
+                + "\u0006\u0010\u0003\u0007\u0010\u0003\u0008\u0010\u0003\u0007\u0011\n"
+                + "\u0006\u0011\n\u0005\u0011\n\u0004\u0011\n\u0002\u0011\n"
+                + "\u0011\u000b\u0000\u0002\u0011\u0003\u0004\u0011\u0003\u0005\u0011\u0003"
+                + "\u0006\u0011\u0003\u0007\u0011\u0003\u0008\u0011\u0003\u0007\u0012\n"
+                + "\u0006\u0012\n\u0005\u0012\n\u0004\u0012\n\u0002\u0012\n"
+                + "\u0012\u000b\u0000\u0002\u0012\u0003\u0004\u0012\u0003\u0005\u0012\u0003"
+                + "\u0006\u0012\u0003\u0007\u0012\u0003\u0008\u0012\u0003\u0007\u0004\n"
+                + "\u0006\u0004\n\u0005\u0004\n\u0004\u0004\n\u0002\u0004\n"
+                + "\u0004\u000b\u0000\u0002\u0004\u0003\u0004\u0004\u0003\u0005\u0004\u0003"
+                + "\u0006\u0004\u0003\u0007\u0004\u0003\u0008\u0004\u0003\u0007\u0013\n"
+                + "\u0006\u0013\n\u0005\u0013\n\u0004\u0013\n\u0002\u0013\n"
+                + "\u0013\u000b\u0000\u0002\u0013\u0003\u0004\u0013\u0003\u0005\u0013\u0003"
+                + "\u0006\u0013\u0003\u0007\u0013\u0003\u0008\u0013\u0003\u0007\u0014\n"
+                + "\u0006\u0014\n\u0005\u0014\n\u0004\u0014\n\u0002\u0014\n"
+                + "\u0014\u0000\u0000\u0002\u0014\u0003\u0004\u0014\u0003\u0005\u0014\u0003"
+                + "\u0006\u0014\u0003\u0007\u0014\u0003\u0008\u0014\u0003\u0007\u0015\n"
+                + "\u0006\u0015\n\u0005\u0015\n\u0004\u0015\n\u0002\u0015\n"
+                + "\u0015\u000b\u0000\u0002\u0015\u0003\u0004\u0015\u0003\u0005\u0015\u0003"
+                + "\u0006\u0015\u0003\u0007\u0015\u0003\u0008\u0015\u0003\u0007\u0016\n"
+                + "\u0006\u0016\n\u0005\u0016\n\u0004\u0016\n\u0002\u0016\n"
+                + "\u0016\u000b\u0000\u0002\u0016\u0003\u0004\u0016\u0003\u0005\u0016\u0003"
+                + "\u0006\u0016\u0003\u0007\u0016\u0003\u0008\u0016\u0003\u0007\u0017\n"
+                + "\u0006\u0017\n\u0005\u0017\n\u0004\u0017\n\u0002\u0017\n"
+                + "\u0017\u000b\u0000\u0002\u0017\u0003\u0004\u0017\u0003\u0005\u0017\u0003"
+                + "\u0006\u0017\u0003\u0007\u0017\u0003\u0008\u0017\u0003\u0007\u0018\n"
+                + "\u0006\u0018\n\u0005\u0018\n\u0004\u0018\n\u0002\u0018\n"
+                + "\u0018\u000b\u0000\u0002\u0018\u0003\u0004\u0018\u0003\u0005\u0018\u0003"
+                + "\u0006\u0018\u0003\u0007\u0018\u0003\u0008\u0018\u0003\u0007\u0019\n"
+                + "\u0006\u0019\n\u0005\u0019\n\u0004\u0019\n\u0002\u0019\n"
+                + "\u0019\u000b\u0000\u0002\u0019\u0003\u0004\u0019\u0003\u0005\u0019\u0003"
+                + "\u0006\u0019\u0003\u0007\u0019\u0003\u0008\u0019\u0003\u0007\u001a\n"
+                + "\u0006\u001a\n\u0005\u001a\n\u0004\u001a\n\u0002\u001a\n"
+                + "\u001a\u000b\u0000\u0002\u001a\u0003\u0004\u001a\u0003\u0005\u001a\u0003"
+                + "\u0006\u001a\u0003\u0007\u001a\u0003\u0008\u001a\u0003\u0007\u001b\n"
+                + "\u0006\u001b\n\u0005\u001b\n\u0004\u001b\n\u0002\u001b\n"
+                + "\u001b\u000b\u0000\u0002\u001b\u0003\u0004\u001b\u0003\u0005\u001b\u0003"
+                + "\u0006\u001b\u0003\u0007\u001b\u0003\u0008\u001b\u0003\u0007\u0006\n"
+                + "\u0006\u0006\n\u0005\u0006\n\u0004\u0006\n\u0002\u0006\n"
+                + "\u0006\u000b\u0000\u0002\u0006\u0003\u0004\u0006\u0003\u0005\u0006\u0003"
+                + "\u0006\u0006\u0003\u0007\u0006\u0003\u0008\u0006\u0003\u0007\u001c\n"
+                + "\u0006\u001c\n\u0005\u001c\n\u0004\u001c\n\u0002\u001c\n"
+                + "\u001c\u000b\u0000\u0002\u001c\u0003\u0004\u001c\u0003\u0005\u001c\u0003"
+                + "\u0006\u001c\u0003\u0007\u001c\u0003\u0008\u001c\u0003\u0007\u001d\n"
+                + "\u0006\u001d\n\u0005\u001d\n\u0004\u001d\n\u0002\u001d\n"
+                + "\u001d\u000b\u0000\u0002\u001d\u0003\u0004\u001d\u0003\u0005\u001d\u0003"
+                + "\u0006\u001d\u0003\u0007\u001d\u0003\u0008\u001d\u0003\u0007\u001e\n"
+                + "\u0006\u001e\n\u0005\u001e\n\u0004\u001e\n\u0002\u001e\n"
+                + "\u001e\u000b\u0000\u0002\u001e\u0003\u0004\u001e\u0003\u0005\u001e\u0003"
+                + "\u0006\u001e\u0003\u0007\u001e\u0003\u0008\u001e\u0003\u0007\u0001\n"
+                + "\u0006\u0001\n\u0005\u0001\n\u0004\u0001\n\u0002\u0001\n",
+                "\u0000\u0000\u0001\u0001\u0006\u0002\u000b\u0003\u0010\u0004\u0015\u0005"
+                + "\u001a\u0006\u001f\u0007\u0024\u0008\u0029\u0009\u002e\n\u0033\u000b"
+                + "\u0038\u000c\u003d\r\u0042\u000e\u0047\u000f\u004c\u0010\u0051\u0011"
+                + "\u0056\u0012\u005b\u0013\u0060\u0014\u0065\u0015\u006a\u0016\u006f\u0017"
+                + "\u0074\u0018\u0079\u0019\u007e\u001a\u0083\u001b\u0088\u001c\u008d\u001d"
+                + "\u0092\u001e\u0097\u001f\u009c\u0020\u00a1\u0021\u00a6\"\u00ab\u0023"
+                + "\u00b0\u0024\u00b5\u0025\u00ba\u0026\u00bf\u0027\u00c4\u0028\u00c9\u0029"
+                + "\u00ce\u002a\u00d3\u002b\u00d8\u002c\u00dd\u002d\u00e2\u002e\u00e7\u002f"
+                + "\u00ec\u0030\u00f1\u0031\u00f6\u0032\u00fb\u0033\u0100\u0034\u0105\u0035"
+                + "\u010a\u0036\u010f\u0037\u0114\u0038\u0119\u0039\u011e\u003a\u0123\u003b"
+                + "\u0128\u003c\u012d\u003d\u0132\u003e\u0137\u003f\u013c\u0040\u0141\u0041"
+                + "\u0146\u0042\u014b\u0043\u0150\u0044\u0155\u0045\u015a\u0046\u015f\u0047"
+                + "\u0164\u0048\u0169\u0049\u016e\u004a\u0173\u004b\u0178\u004c\u017d\u004d"
+                + "\u0182\u004e\u0187\u004f\u018c\u0050\u0191\u0051\u0196\u0052\u019b\u0053"
+                + "\u01a0\u0054\u01a5\u0055\u01aa\u0056\u01af\u0057\u01b4\u0058\u01b9\u0059"
+                + "\u01be\u005a\u01c3\u005b\u01c8\\\u01cd\u005d\u01d2\u005e\u01d7\u005f"
+                + "\u01dc\u0060\u01e1\u0061\u01e6\u0062\u01eb\u0063\u01f0\u0064\u01f5\u0065"
+                + "\u01fa\u0066\u01ff\u0067\u0204\u0068\u0209\u0069\u020e\u006a\u0213\u006b"
+                + "\u0218\u006c\u021d\u006d\u0222\u006e\u0227\u006f\u022c\u0070\u0231\u0071"
+                + "\u0236\u0072\u023b\u0073\u0240\u0074\u0245\u0075\u024a\u0076\u024f\u0077"
+                + "\u0254\u0078\u0259\u0079\u025e\u007a\u0263\u007b\u0268\u007c\u026d\u007d"
+                + "\u0272\u007e\u0277\u007f\u027c\u0080\u0281\u0081\u0286\u0082\u028b\u0083"
+                + "\u0290\u0084\u0295\u0085\u029a\u0086\u029f\u0087\u02a4\u0088\u02a9\u0089"
+                + "\u02ae\u008a\u02b3\u008b\u02b8\u008c\u02bd\u008d\u02c2\u008e\u02c7\u008f"
+                + "\u02cc\u0090\u02d1\u0091\u02d6\u0092\u02db\u0093\u02e0\u0094\u02e5\u0095"
+                + "\u02ea\u0096\u02ef\u0097\u02f4\u0098\u02f9\u0099\u02fe\u009a\u0303\u009b"
+                + "\u0308\u009c\u030d\u009d\u0312\u009e\u0317\u009f\u031c\u00a0\u0321\u00a1"
+                + "\u0326\u00a2\u032b\u00a3\u0330\u00a4\u0335\u00a5\u033a\u00a6\u033f\u00a7"
+                + "\u0344\u00a8\u0349\u00a9\u034e\u00aa\u0353\u00ab\u0358\u00ac\u035d\u00ad"
+                + "\u0362\u00ae\u0367\u00af\u036c\u00b0\u0371\u00b1\u0376\u00b2\u037b\u00b3"
+                + "\u0380\u00b4\u0385\u00b5\u038a\u00b6\u038f\u00b7\u0394\u00b8\u0399\u00b9"
+                + "\u039e\u00ba\u03a3\u00bb\u03a8\u00bc\u03ad\u00bd\u03b2\u00be\u03b7\u00bf"
+                + "\u03bc\u00c0\u03c1\u00c1\u03c6\u00c2\u03cb\u00c3\u03d0\u00c4\u03d5\u00c5"
+                + "\u03da\u00c6\u03df\u00c7\u03e4\u00c8\u03e9\u00c9\u03ee\u00ca\u03f3\u00cb"
+                + "\u03f8\u00cc\u03fd\u00cd\u0402\u00ce\u0407\u00cf\u040c\u00d0\u0411\u00d1"
+                + "\u0416\u00d2\u041b\u00d3\u0420\u00d4\u0425\u00d5\u042a\u00d6\u042f\u00d7"
+                + "\u0434\u00d8\u0439\u00d9\u043e\u00da\u0443\u00db\u0448\u00dc\u044d\u00dd"
+                + "\u0452\u00de\u0457\u00df\u045c\u00e0\u0461\u00e1\u0466\u00e2\u046b\u00e3"
+                + "\u0470\u00e4\u0475\u00e5\u047a\u00e6\u047f\u00e7\u0484\u00e8\u0489\u00e9"
+                + "\u048e\u00ea\u0493\u00eb\u0498\u00ec\u049d\u00ed\u04a2\u00ee\u04a7\u00ef"
+                + "\u04ac\u00f0\u04b1\u00f1\u04b6\u00f2\u04bb\u00f3\u04c0\u00f4\u04c5\u00f5"
+                + "\u04ca\u00f6\u04cf\u00f7\u04d4\u00f8\u04d9\u00f9\u04de\u00fa\u04e3\u00fb"
+                + "\u04e8\u00fc\u04ed\u00fd\u04f2\u00fe\u04f7\u00ff\u04fc\u0100\u0501\u0101"
+                + "\u0506\u0102\u050b\u0103\u0510\u0104\u0515\u0105\u051a\u0106\u051f\u0107"
+                + "\u0524\u0108\u0529\u0109\u052e\u010a\u0533\u010b\u0538\u010c\u053d\u010d"
+                + "\u0542\u010e\u0547\u010f\u054c\u0110\u0551\u0111\u0556\u0112\u055b\u0113"
+                + "\u0560\u0114\u0565\u0115\u056a\u0116\u056f\u0117\u0574\u0118\u0579\u0119"
+                + "\u057e\u011a\u0583\u011b\u0588\u011c\u058d\u011d\u0592\u011e\u0597\u011f"
+                + "\u059c\u0000",
+                "\u0001\u0006\u000b\u0010\u0015\u001a\u001f\u0024\u0029\u002e\u0033\u0038"
+                + "\u003d\u0042\u0047\u004c\u0051\u0056\u005b\u0060\u0065\u006a\u006f\u0074"
+                + "\u0079\u007e\u0083\u0088\u008d\u0092\u0097\u009c\u00a1\u00a6\u00ab\u00b0"
+                + "\u00b5\u00ba\u00bf\u00c4\u00c9\u00ce\u00d3\u00d8\u00dd\u00e2\u00e7\u00ec"
+                + "\u00f1\u00f6\u00fb\u0100\u0105\u010a\u010f\u0114\u0119\u011e\u0123\u0128"
+                + "\u012d\u0132\u0137\u013c\u0141\u0146\u014b\u0150\u0155\u015a\u015f\u0164"
+                + "\u0169\u016e\u0173\u0178\u017d\u0182\u0187\u018c\u0191\u0196\u019b\u01a0"
+                + "\u01a5\u01aa\u01af\u01b4\u01b9\u01be\u01c3\u01c8\u01cd\u01d2\u01d7\u01dc"
+                + "\u01e1\u01e6\u01eb\u01f0\u01f5\u01fa\u01ff\u0204\u0209\u020e\u0213\u0218"
+                + "\u021d\u0222\u0227\u022c\u0231\u0236\u023b\u0240\u0245\u024a\u024f\u0254"
+                + "\u0259\u025e\u0263\u0268\u026d\u0272\u0277\u027c\u0281\u0286\u028b\u0290"
+                + "\u0295\u029a\u029f\u02a4\u02a9\u02ae\u02b3\u02b8\u02bd\u02c2\u02c7\u02cc"
+                + "\u02d1\u02d6\u02db\u02e0\u02e5\u02ea\u02ef\u02f4\u02f9\u02fe\u0303\u0308"
+                + "\u030d\u0312\u0317\u031c\u0321\u0326\u032b\u0330\u0335\u033a\u033f\u0344"
+                + "\u0349\u034e\u0353\u0358\u035d\u0362\u0367\u036c\u0371\u0376\u037b\u0380"
+                + "\u0385\u038a\u038f\u0394\u0399\u039e\u03a3\u03a8\u03ad\u03b2\u03b7\u03bc"
+                + "\u03c1\u03c6\u03cb\u03d0\u03d5\u03da\u03df\u03e4\u03e9\u03ee\u03f3\u03f8"
+                + "\u03fd\u0402\u0407\u040c\u0411\u0416\u041b\u0420\u0425\u042a\u042f\u0434"
+                + "\u0439\u043e\u0443\u0448\u044d\u0452\u0457\u045c\u0461\u0466\u046b\u0470"
+                + "\u0475\u047a\u047f\u0484\u0489\u048e\u0493\u0498\u049d\u04a2\u04a7\u04ac"
+                + "\u04b1\u04b6\u04bb\u04c0\u04c5\u04ca\u04cf\u04d4\u04d9\u04de\u04e3\u04e8"
+                + "\u04ed\u04f2\u04f7\u04fc\u0501\u0506\u050b\u0510\u0515\u051a\u051f\u0524"
+                + "\u0529\u052e\u0533\u0538\u053d\u0542\u0547\u054c\u0551\u0556\u055b\u0560"
+                + "\u0565\u056a\u056f\u0574\u0579\u057e\u0583\u0588\u058d\u0592\u0597\u059c");
+    }
+
+    static final class Precise12 {
+        // fuzzy_logic_precise.xml, 12 hour
+        static final FuzzyTable TABLE = FuzzyTable.decode(PHRASES,
+                "\u0001\u0000\u0000\u0009\u0001\u0003\u000c\u0001\u0003\r\u0001\u0003"
+                + "\u000e\u0001\u0003\u0002\u0001\u0003\u000f\u0001\u0003\u0010\u0001\u0003"
+                + "\u0011\u0001\u0003\u0012\u0001\u0003\u0004\u0001\u0003\u0013\u0001\u0003"
+                + "\u001f\u0001\u0003\u0015\u0001\u0003\u0016\u0001\u0003\u0005\u0001\u0003"
+                + "\u0018\u0001\u0003\u0019\u0001\u0003\u001a\u0001\u0003\u001b\u0001\u0003"
+                + "\u0006\u0001\u0003\u001c\u0001\u0003\u001d\u0001\u0003\u001e\u0001\u0003"
+                + "\u0020\u0001\u0003\u0007\u0001\u0003\u0021\u0001\u0003\"\u0001\u0003"
+                + "\u0023\u0001\u0003\u0024\u0001\u0003\u0008\u0001\u0003\u0024\u0009\n"
+                + "\u0023\u0009\n\"\u0009\n\u0021\u0009\n\u0007\u0009\n"
+                + "\u0020\u0009\n\u001e\u0009\n\u001d\u0009\n\u001c\u0009\n"
+                + "\u0006\u0009\n\u001b\u0009\n\u001a\u0009\n\u0019\u0009\n"
+                + "\u0018\u0009\n\u0005\u0009\n\u0016\u0009\n\u0015\u0009\n"
+                + "\u001f\u0009\n\u0013\u0009\n\u0004\u0009\n\u0012\u0009\n"
+                + "\u0011\u0009\n\u0010\u0009\n\u000f\u0009\n\u0002\u0009\n"
+                + "\u000e\u0009\n\r\u0009\n\u000c\u0009\n\u0009\u0009\n"
+                + "\u0009\u000b\u0000\u0009\u0009\u0003\u000c\u0009\u0003\r\u0009\u0003"
+                + "\u000e\u0009\u0003\u0002\u0009\u0003\u000f\u0009\u0003\u0010\u0009\u0003"
+                + "\u0011\u0009\u0003\u0012\u0009\u0003\u0004\u0009\u0003\u0013\u0009\u0003"
+                + "\u001f\u0009\u0003\u0015\u0009\u0003\u0016\u0009\u0003\u0005\u0009\u0003"
+                + "\u0018\u0009\u0003\u0019\u0009\u0003\u001a\u0009\u0003\u001b\u0009\u0003"
+                + "\u0006\u0009\u0003\u001c\u0009\u0003\u001d\u0009\u0003\u001e\u0009\u0003"
+                + "\u0020\u0009\u0003\u0007\u0009\u0003\u0021\u0009\u0003\"\u0009\u0003"
+                + "\u0023\u0009\u0003\u0024\u0009\u0003\u0008\u0009\u0003\u0024\u000c\n"
+                + "\u0023\u000c\n\"\u000c\n\u0021\u000c\n\u0007\u000c\n"
+                + "\u0020\u000c\n\u001e\u000c\n\u001d\u000c\n\u001c\u000c\n"
+                + "\u0006\u000c\n\u001b\u000c\n\u001a\u000c\n\u0019\u000c\n"
+                + "\u0018\u000c\n\u0005\u000c\n\u0016\u000c\n\u0015\u000c\n"
+                + "\u001f\u000c\n\u0013\u000c\n\u0004\u000c\n\u0012\u000c\n"
+                + "\u0011\u000c\n\u0010\u000c\n\u000f\u000c\n\u0002\u000c\n"
+                + "\u000e\u000c\n\r\u000c\n\u000c\u000c\n\u0009\u000c\n"
+                + "\u000c\u000b\u0000\u0009\u000c\u0003\u000c\u000c\u0003\r\u000c\u0003"
+                + "\u000e\u000c\u0003\u0002\u000c\u0003\u000f\u000c\u0003\u0010\u000c\u0003"
+                + "\u0011\u000c\u0003\u0012\u000c\u0003\u0004\u000c\u0003\u0013\u000c\u0003"
+                + "\u001f\u000c\u0003\u0015\u000c\u0003\u0016\u000c\u0003\u0005\u000c\u0003"
+                + "\u0018\u000c\u0003\u0019\u000c\u0003\u001a\u000c\u0003\u001b\u000c\u0003"
+                + "\u0006\u000c\u0003\u001c\u000c\u0003\u001d\u000c\u0003\u001e\u000c\u0003"
+                + "\u0020\u000c\u0003\u0007\u000c\u0003\u0021\u000c\u0003\"\u000c\u0003"
+                + "\u0023\u000c\u0003\u0024\u000c\u0003\u0008\u000c\u0003\u0024\r\n"
+                + "\u0023\r\n\"\r\n\u0021\r\n\u0007\r\n"
+                + "\u0020\r\n\u001e\r\n\u001d\r\n\u001c\r\n"
+                + "\u0006\r\n\u001b\r\n\u001a\r\n\u0019\r\n"
+                + "\u0018\r\n\u0005\r\n\u0016\r\n\u0015\r\n"
+                + "\u001f\r\n\u0013\r\n\u0004\r\n\u0012\r\n"
+                + "\u0011\r\n\u0010\r\n\u000f\r\n\u0002\r\n"
+                + "\u000e\r\n\r\r\n\u000c\r\n\u0009\r\n"
+                + "\r\u000b\u0000\u0009\r\u0003\u000c\r\u0003\r\r\u0003"
+                + "\u000e\r\u0003\u0002\r\u0003\u000f\r\u0003\u0010\r\u0003"
+                + "\u0011\r\u0003\u0012\r\u0003\u0004\r\u0003\u0013\r\u0003"
+                + "\u001f\r\u0003\u0015\r\u0003\u0016\r\u0003\u0005\r\u0003"
+                + "\u0018\r\u0003\u0019\r\u0003\u001a\r\u0003\u001b\r\u0003"
+                + "\u0006\r\u0003\u001c\r\u0003\u001d\r\u0003\u001e\r\u0003"
+                + "\u0020\r\u0003\u0007\r\u0003\u0021\r\u0003\"\r\u0003"
+                + "\u0023\r\u0003\u0024\r\u0003\u0008\r\u0003\u0024\u000e\n"
+                + "\u0023\u000e\n\"\u000e\n\u0021\u000e\n\u0007\u000e\n"
+                + "\u0020\u000e\n\u001e\u000e\n\u001d\u000e\n\u001c\u000e\n"
+                + "\u0006\u000e\n\u001b\u000e\n\u001a\u000e\n\u0019\u000e\n"
+                + "\u0018\u000e\n\u0005\u000e\n\u0016\u000e\n\u0015\u000e\n"
+                + "\u001f\u000e\n\u0013\u000e\n\u0004\u000e\n\u0012\u000e\n"
+                + "\u0011\u000e\n\u0010\u000e\n\u000f\u000e\n\u0002\u000e\n"
+                + "\u000e\u000e\n\r\u000e\n\u000c\u000e\n\u0009\u000e\n"
+                + "\u000e\u000b\u0000\u0009\u000e\u0003\u000c\u000e\u0003\r\u000e\u0003"
+                + "\u000e\u000e\u0003\u0002\u000e\u0003\u000f\u000e\u0003\u0010\u000e\u0003"
+                + "\u0011\u000e\u0003\u0012\u000e\u0003\u0004\u000e\u0003\u0013\u000e\u0003"
+                + "\u001f\u000e\u0003\u0015\u000e\u0003\u0016\u000e\u0003\u0005\u000e\u0003"
+                + "\u0018\u000e\u0003\u0019\u000e\u0003\u001a\u000e\u0003\u001b\u000e\u0003"
+                + "\u0006\u000e\u0003\u001c\u000e\u0003\u001d\u000e\u0003\u001e\u000e\u0003"
+                + "\u0020\u000e\u0003\u0007\u000e\u0003\u0021\u000e\u0003\"\u000e\u0003"
+                + "\u0023\u000e\u0003\u0024\u000e\u0003\u0008\u000e\u0003\u0024\u0002\n"
+                + "\u0023\u0002\n\"\u0002\n\u0021\u0002\n\u0007\u0002\n"
+                + "\u0020\u0002\n\u001e\u0002\n\u001d\u0002\n\u001c\u0002\n"
+                + "\u0006\u0002\n\u001b\u0002\n\u001a\u0002\n\u0019\u0002\n"
+                + "\u0018\u0002\n\u0005\u0002\n\u0016\u0002\n\u0015\u0002\n"
+                + "\u001f\u0002\n\u0013\u0002\n\u0004\u0002\n\u0012\u0002\n"
+                + "\u0011\u0002\n\u0010\u0002\n\u000f\u0002\n\u0002\u0002\n"
+                + "\u000e\u0002\n\r\u0002\n\u000c\u0002\n\u0009\u0002\n"
+                + "\u0002\u000b\u0000\u0009\u0002\u0003\u000c\u0002\u0003\r\u0002\u0003"
+                + "\u000e\u0002\u0003\u0002\u0002\u0003\u000f\u0002\u0003\u0010\u0002\u0003"
+                + "\u0011\u0002\u0003\u0012\u0002\u0003\u0004\u0002\u0003\u0013\u0002\u0003"
+                + "\u001f\u0002\u0003\u0015\u0002\u0003\u0016\u0002\u0003\u0005\u0002\u0003"
+                + "\u0018\u0002\u0003\u0019\u0002\u0003\u001a\u0002\u0003\u001b\u0002\u0003"
+                + "\u0006\u0002\u0003\u001c\u0002\u0003\u001d\u0002\u0003\u001e\u0002\u0003"
+                + "\u0020\u0002\u0003\u0007\u0002\u0003\u0021\u0002\u0003\"\u0002\u0003"
+                + "\u0023\u0002\u0003\u0024\u0002\u0003\u0008\u0002\u0003\u0024\u000f\n"
+                + "\u0023\u000f\n\"\u000f\n\u0021\u000f\n\u0007\u000f\n"
+                + "\u0020\u000f\n\u001e\u000f\n\u001d\u000f\n\u001c\u000f\n"
+                + "\u0006\u000f\n\u001b\u000f\n\u001a\u000f\n\u0019\u000f\n"
+                + "\u0018\u000f\n\u0005\u000f\n\u0016\u000f\n\u0015\u000f\n"
+                + "\u001f\u000f\n\u0013\u000f\n\u0004\u000f\n\u0012\u000f\n"
+                + "\u0011\u000f\n\u0010\u000f\n\u000f\u000f\n\u0002\u000f\n"
+                + "\u000e\u000f\n\r\u000f\n\u000c\u000f\n\u0009\u000f\n"
+                + "\u000f\u000b\u0000\u0009\u000f\u0003\u000c\u000f\u0003\r\u000f\u0003"
+                + "\u000e\u000f\u0003\u0002\u000f\u0003\u000f\u000f\u0003\u0010\u000f\u0003"
+                + "\u0011\u000f\u0003\u0012\u000f\u0003\u0004\u000f\u0003\u0013\u000f\u0003"
+                + "\u001f\u000f\u0003\u0015\u000f\u0003\u0016\u000f\u0003\u0005\u000f\u0003"
+                + "\u0018\u000f\u0003\u0019\u000f\u0003\u001a\u000f\u0003\u001b\u000f\u0003"
+                + "\u0006\u000f\u0003\u001c\u000f\u0003\u001d\u000f\u0003\u001e\u000f\u0003"
+                + "\u0020\u000f\u0003\u0007\u000f\u0003\u0021\u000f\u0003\"\u000f\u0003"
+                + "\u0023\u000f\u0003\u0024\u000f\u0003\u0008\u000f\u0003\u0024\u0010\n"
+                + "\u0023\u0010\n\"\u0010\n\u0021\u0010\n\u0007\u0010\n"
+                + "\u0020\u0010\n\u001e\u0010\n\u001d\u0010\n\u001c\u0010\n"
+                + "\u0006\u0010\n\u001b\u0010\n\u001a\u0010\n\u0019\u0010\n"
+                + "\u0018\u0010\n\u0005\u0010\n\u0016\u0010\n\u0015\u0010\n"
+                + "\u001f\u0010\n\u0013\u0010\n\u0004\u0010\n\u0012\u0010\n"
+                + "\u0011\u0010\n\u0010\u0010\n\u000f\u0010\n\u0002\u0010\n"
+                + "\u000e\u0010\n\r\u0010\n\u000c\u0010\n\u0009\u0010\n"
+                + "\u0010\u000b\u0000\u0009\u0010\u0003\u000c\u0010\u0003\r\u0010\u0003"
+                + "\u000e\u0010\u0003\u0002\u0010\u0003\u000f\u0010\u0003\u0010\u0010\u0003"
+                + "\u0011\u0010\u0003\u0012\u0010\u0003\u0004\u0010\u0003\u0013\u0010\u0003"
+                + "\u001f\u0010\u0003\u0015\u0010\u0003\u0016\u0010\u0003\u0005\u0010\u0003"
+                + "\u0018\u0010\u0003\u0019\u0010\u0003\u001a\u0010\u0003\u001b\u0010\u0003"
+                + "\u0006\u0010\u0003\u001c\u0010\u0003\u001d\u0010\u0003\u001e\u0010\u0003"
+                + "\u0020\u0010\u0003\u0007\u0010\u0003\u0021\u0010\u0003\"\u0010\u0003"
+                + "\u0023\u0010\u0003\u0024\u0010\u0003\u0008\u0010\u0003\u0024\u0011\n"
+                + "\u0023\u0011\n\"\u0011\n\u0021\u0011\n\u0007\u0011\n"
+                + "\u0020\u0011\n\u001e\u0011\n\u001d\u0011\n\u001c\u0011\n"
+                + "\u0006\u0011\n\u001b\u0011\n\u001a\u0011\n\u0019\u0011\n"
+                + "\u0018\u0011\n\u0005\u0011\n\u0016\u0011\n\u0015\u0011\n"
+                + "\u001f\u0011\n\u0013\u0011\n\u0004\u0011\n\u0012\u0011\n"
+                + "\u0011\u0011\n\u0010\u0011\n\u000f\u0011\n\u0002\u0011\n"
+                + "\u000e\u0011\n\r\u0011\n\u000c\u0011\n\u0009\u0011\n"
+                + "\u0011\u000b\u0000\u0009\u0011\u0003\u000c\u0011\u0003\r\u0011\u0003"
+                + "\u000e\u0011\u0003\u0002\u0011\u0003\u000f\u0011\u0003\u0010\u0011\u0003"
+                + "\u0011\u0011\u0003\u0012\u0011\u0003\u0004\u0011\u0003\u0013\u0011\u0003"
+                + "\u001f\u0011\u0003\u0015\u0011\u0003\u0016\u0011\u0003\u0005\u0011\u0003"
+                + "\u0018\u0011\u0003\u0019\u0011\u0003\u001a\u0011\u0003\u001b\u0011\u0003"
+                + "\u0006\u0011\u0003\u001c\u0011\u0003\u001d\u0011\u0003\u001e\u0011\u0003"
+                + "\u0020\u0011\u0003\u0007\u0011\u0003\u0021\u0011\u0003\"\u0011\u0003"
+                + "\u0023\u0011\u0003\u0024\u0011\u0003\u0008\u0011\u0003\u0024\u0012\n"
+                + "\u0023\u0012\n\"\u0012\n\u0021\u0012\n\u0007\u0012\n"
+                + "\u0020\u0012\n\u001e\u0012\n\u001d\u0012\n\u001c\u0012\n"
+                + "\u0006\u0012\n\u001b\u0012\n\u001a\u0012\n\u0019\u0012\n"
+                + "\u0018\u0012\n\u0005\u0012\n\u0016\u0012\n\u0015\u0012\n"
+                + "\u001f\u0012\n\u0013\u0012\n\u0004\u0012\n\u0012\u0012\n"
+                + "\u0011\u0012\n\u0010\u0012\n\u000f\u0012\n\u0002\u0012\n"
+                + "\u000e\u0012\n\r\u0012\n\u000c\u0012\n\u0009\u0012\n"
+                + "\u0012\u000b\u0000\u0009\u0012\u0003\u000c\u0012\u0003\r\u0012\u0003"
+                + "\u000e\u0012\u0003\u0002\u0012\u0003\u000f\u0012\u0003\u0010\u0012\u0003"
+                + "\u0011\u0012\u0003\u0012\u0012\u0003\u0004\u0012\u0003\u0013\u0012\u0003"
+                + "\u001f\u0012\u0003\u0015\u0012\u0003\u0016\u0012\u0003\u0005\u0012\u0003"
+                + "\u0018\u0012\u0003\u0019\u0012\u0003\u001a\u0012\u0003\u001b\u0012\u0003"
+                + "\u0006\u0012\u0003\u001c\u0012\u0003\u001d\u0012\u0003\u001e\u0012\u0003"
+                + "\u0020\u0012\u0003\u0007\u0012\u0003\u0021\u0012\u0003\"\u0012\u0003"
+                + "\u0023\u0012\u0003\u0024\u0012\u0003\u0008\u0012\u0003\u0024\u0004\n"
+                + "\u0023\u0004\n\"\u0004\n\u0021\u0004\n\u0007\u0004\n"
+                + "\u0020\u0004\n\u001e\u0004\n\u001d\u0004\n\u001c\u0004\n"
+                + "\u0006\u0004\n\u001b\u0004\n\u001a\u0004\n\u0019\u0004\n"
+                + "\u0018\u0004\n\u0005\u0004\n\u0016\u0004\n\u0015\u0004\n"
+                + "\u001f\u0004\n\u0013\u0004\n\u0004\u0004\n\u0012\u0004\n"
+                + "\u0011\u0004\n\u0010\u0004\n\u000f\u0004\n\u0002\u0004\n"
+                + "\u000e\u0004\n\r\u0004\n\u000c\u0004\n\u0009\u0004\n"
+                + "\u0004\u000b\u0000\u0009\u0004\u0003\u000c\u0004\u0003\r\u0004\u0003"
+                + "\u000e\u0004\u0003\u0002\u0004\u0003\u000f\u0004\u0003\u0010\u0004\u0003"
+                + "\u0011\u0004\u0003\u0012\u0004\u0003\u0004\u0004\u0003\u0013\u0004\u0003"
+                + "\u001f\u0004\u0003\u0015\u0004\u0003\u0016\u0004\u0003\u0005\u0004\u0003"
+                + "\u0018\u0004\u0003\u0019\u0004\u0003\u001a\u0004\u0003\u001b\u0004\u0003"
+                + "\u0006\u0004\u0003\u001c\u0004\u0003\u001d\u0004\u0003\u001e\u0004\u0003"
+                + "\u0020\u0004\u0003\u0007\u0004\u0003\u0021\u0004\u0003\"\u0004\u0003"
+                + "\u0023\u0004\u0003\u0024\u0004\u0003\u0008\u0004\u0003\u0024\u0013\n"
+                + "\u0023\u0013\n\"\u0013\n\u0021\u0013\n\u0007\u0013\n"
+                + "\u0020\u0013\n\u001e\u0013\n\u001d\u0013\n\u001c\u0013\n"
+                + "\u0006\u0013\n\u001b\u0013\n\u001a\u0013\n\u0019\u0013\n"
+                + "\u0018\u0013\n\u0005\u0013\n\u0016\u0013\n\u0015\u0013\n"
+                + "\u001f\u0013\n\u0013\u0013\n\u0004\u0013\n\u0012\u0013\n"
+                + "\u0011\u0013\n\u0010\u0013\n\u000f\u0013\n\u0002\u0013\n"
+                + "\u000e\u0013\n\r\u0013\n\u000c\u0013\n\u0009\u0013\n"
+                + "\u0013\u000b\u0000\u0009\u0013\u0003\u000c\u0013\u0003\r\u0013\u0003"
+                + "\u000e\u0013\u0003\u0002\u0013\u0003\u000f\u0013\u0003\u0010\u0013\u0003"
+                + "\u0011\u0013\u0003\u0012\u0013\u0003\u0004\u0013\u0003\u0013\u0013\u0003"
+                + "\u001f\u0013\u0003\u0015\u0013\u0003\u0016\u0013\u0003\u0005\u0013\u0003"
+                + "\u0018\u0013\u0003\u0019\u0013\u0003\u001a\u0013\u0003\u001b\u0013\u0003"
+                + "\u0006\u0013\u0003\u001c\u0013\u0003\u001d\u0013\u0003\u001e\u0013\u0003"
+                + "\u0020\u0013\u0003\u0007\u0013\u0003\u0021\u0013\u0003\"\u0013\u0003"
+                + "\u0023\u0013\u0003\u0024\u0013\u0003\u0008\u0013\u0003\u0024\u0014\n"
+                + "\u0023\u0014\n\"\u0014\n\u0021\u0014\n\u0007\u0014\n"
+                + "\u0020\u0014\n\u001e\u0014\n\u001d\u0014\n\u001c\u0014\n"
+                + "\u0006\u0014\n\u001b\u0014\n\u001a\u0014\n\u0019\u0014\n"
+                + "\u0018\u0014\n\u0005\u0014\n\u0016\u0014\n\u0015\u0014\n"
+                + "\u001f\u0014\n\u0013\u0014\n\u0004\u0014\n\u0012\u0014\n"
+                + "\u0011\u0014\n\u0010\u0014\n\u000f\u0014\n\u0002\u0014\n"
+                + "\u000e\u0014\n\r\u0014\n\u000c\u0014\n\u0009\u0014\n"
+                + "\u0014\u0000\u0000\u0009\u0014\u0003\u000c\u0014\u0003\r\u0014\u0003"
+                + "\u000e\u0014\u0003\u0002\u0014\u0003\u000f\u0014\u0003\u0010\u0014\u0003"
+                + "\u0011\u0014\u0003\u0012\u0014\u0003\u0004\u0014\u0003\u0013\u0014\u0003"
+                + "\u001f\u0014\u0003\u0015\u0014\u0003\u0016\u0014\u0003\u0005\u0014\u0003"
+                + "\u0018\u0014\u0003\u0019\u0014\u0003\u001a\u0014\u0003\u001b\u0014\u0003"
+                + "\u0006\u0014\u0003\u001c\u0014\u0003\u001d\u0014\u0003\u001e\u0014\u0003"
+                + "\u0020\u0014\u0003\u0007\u0014\u0003\u0021\u0014\u0003\"\u0014\u0003"
+                + "\u0023\u0014\u0003\u0024\u0014\u0003\u0008\u0014\u0003\u0024\u0001\n"
+                + "\u0023\u0001\n\"\u0001\n\u0021\u0001\n\u0007\u0001\n"
+                + "\u0020\u0001\n\u001e\u0001\n\u001d\u0001\n\u001c\u0001\n"
+                + "\u0006\u0001\n\u001b\u0001\n\u001a\u0001\n\u0019\u0001\n"
+                + "\u0018\u0001\n\u0005\u0001\n\u0016\u0001\n\u0015\u0001\n"
+                + "\u001f\u0001\n\u0013\u0001\n\u0004\u0001\n\u0012\u0001\n"
+                + "\u0011\u0001\n\u0010\u0001\n\u000f\u0001\n\u0002\u0001\n"
+                + "\u000e\u0001\n\r\u0001\n\u000c\u0001\n\u0009\u0001\n",
+                "\u0000\u0000\u0001\u0001\u0002\u0002\u0003\u0003\u0004\u0004\u0005\u0005"
+                + "\u0006\u0006\u0007\u0007\u0008\u0008\u0009\u0009\n\n\u000b\u000b"
+                + "\u000c\u000c\r\r\u000e\u000e\u000f\u000f\u0010\u0010\u0011\u0011"
+                + "\u0012\u0012\u0013\u0013\u0014\u0014\u0015\u0015\u0016\u0016\u0017\u0017"
+                + "\u0018\u0018\u0019\u0019\u001a\u001a\u001b\u001b\u001c\u001c\u001d\u001d"
+                + "\u001e\u001e\u001f\u001f\u0020\u0020\u0021\u0021\"\"\u0023\u0023"
+                + "\u0024\u0024\u0025\u0025\u0026\u0026\u0027\u0027\u0028\u0028\u0029\u0029"
+                + "\u002a\u002a\u002b\u002b\u002c\u002c\u002d\u002d\u002e\u002e\u002f\u002f"
+                + "\u0030\u0030\u0031\u0031\u0032\u0032\u0033\u0033\u0034\u0034\u0035\u0035"
+                + "\u0036\u0036\u0037\u0037\u0038\u0038\u0039\u0039\u003a\u003a\u003b\u003b"
+                + "\u003c\u003c\u003d\u003d\u003e\u003e\u003f\u003f\u0040\u0040\u0041\u0041"
+                + "\u0042\u0042\u0043\u0043\u0044\u0044\u0045\u0045\u0046\u0046\u0047\u0047"
+                + "\u0048\u0048\u0049\u0049\u004a\u004a\u004b\u004b\u004c\u004c\u004d\u004d"
+                + "\u004e\u004e\u004f\u004f\u0050\u0050\u0051\u0051\u0052\u0052\u0053\u0053"
+                + "\u0054\u0054\u0055\u0055\u0056\u0056\u0057\u0057\u0058\u0058\u0059\u0059"
+                + "\u005a\u005a\u005b\u005b\\\\\u005d\u005d\u005e\u005e\u005f\u005f"
+                + "\u0060\u0060\u0061\u0061\u0062\u0062\u0063\u0063\u0064\u0064\u0065\u0065"
+                + "\u0066\u0066\u0067\u0067\u0068\u0068\u0069\u0069\u006a\u006a\u006b\u006b"
+                + "\u006c\u006c\u006d\u006d\u006e\u006e\u006f\u006f\u0070\u0070\u0071\u0071"
+                + "\u0072\u0072\u0073\u0073\u0074\u0074\u0075\u0075\u0076\u0076\u0077\u0077"
+                + "\u0078\u0078\u0079\u0079\u007a\u007a\u007b\u007b\u007c\u007c\u007d\u007d"
+                + "\u007e\u007e\u007f\u007f\u0080\u0080\u0081\u0081\u0082\u0082\u0083\u0083"
+                + "\u0084\u0084\u0085\u0085\u0086\u0086\u0087\u0087\u0088\u0088\u0089\u0089"
+                + "\u008a\u008a\u008b\u008b\u008c\u008c\u008d\u008d\u008e\u008e\u008f\u008f"
+                + "\u0090\u0090\u0091\u0091\u0092\u0092\u0093\u0093\u0094\u0094\u0095\u0095"
+                + "\u0096\u0096\u0097\u0097\u0098\u0098\u0099\u0099\u009a\u009a\u009b\u009b"
+                + "\u009c\u009c\u009d\u009d\u009e\u009e\u009f\u009f\u00a0\u00a0\u00a1\u00a1"
+                + "\u00a2\u00a2\u00a3\u00a3\u00a4\u00a4\u00a5\u00a5\u00a6\u00a6\u00a7\u00a7"
+                + "\u00a8\u00a8\u00a9\u00a9\u00aa\u00aa\u00ab\u00ab\u00ac\u00ac\u00ad\u00ad"
+                + "\u00ae\u00ae\u00af\u00af\u00b0\u00b0\u00b1\u00b1\u00b2\u00b2\u00b3\u00b3"
+                + "\u00b4\u00b4\u00b5\u00b5\u00b6\u00b6\u00b7\u00b7\u00b8\u00b8\u00b9\u00b9"
+                + "\u00ba\u00ba\u00bb\u00bb\u00bc\u00bc\u00bd\u00bd\u00be\u00be\u00bf\u00bf"
+                + "\u00c0\u00c0\u00c1\u00c1\u00c2\u00c2\u00c3\u00c3\u00c4\u00c4\u00c5\u00c5"
+                + "\u00c6\u00c6\u00c7\u00c7\u00c8\u00c8\u00c9\u00c9\u00ca\u00ca\u00cb\u00cb"
+                + "\u00cc\u00cc\u00cd\u00cd\u00ce\u00ce\u00cf\u00cf\u00d0\u00d0\u00d1\u00d1"
+                + "\u00d2\u00d2\u00d3\u00d3\u00d4\u00d4\u00d5\u00d5\u00d6\u00d6\u00d7\u00d7"
+                + "\u00d8\u00d8\u00d9\u00d9\u00da\u00da\u00db\u00db\u00dc\u00dc\u00dd\u00dd"
+                + "\u00de\u00de\u00df\u00df\u00e0\u00e0\u00e1\u00e1\u00e2\u00e2\u00e3\u00e3"
+                + "\u00e4\u00e4\u00e5\u00e5\u00e6\u00e6\u00e7\u00e7\u00e8\u00e8\u00e9\u00e9"
+                + "\u00ea\u00ea\u00eb\u00eb\u00ec\u00ec\u00ed\u00ed\u00ee\u00ee\u00ef\u00ef"
+                + "\u00f0\u00f0\u00f1\u00f1\u00f2\u00f2\u00f3\u00f3\u00f4\u00f4\u00f5\u00f5"
+                + "\u00f6\u00f6\u00f7\u00f7\u00f8\u00f8\u00f9\u00f9\u00fa\u00fa\u00fb\u00fb"
+                + "\u00fc\u00fc\u00fd\u00fd\u00fe\u00fe\u00ff\u00ff\u0100\u0100\u0101\u0101"
+                + "\u0102\u0102\u0103\u0103\u0104\u0104\u0105\u0105\u0106\u0106\u0107\u0107"
+                + "\u0108\u0108\u0109\u0109\u010a\u010a\u010b\u010b\u010c\u010c\u010d\u010d"
+                + "\u010e\u010e\u010f\u010f\u0110\u0110\u0111\u0111\u0112\u0112\u0113\u0113"
+                + "\u0114\u0114\u0115\u0115\u0116\u0116\u0117\u0117\u0118\u0118\u0119\u0119"
+                + "\u011a\u011a\u011b\u011b\u011c\u011c\u011d\u011d\u011e\u011e\u011f\u011f"
+                + "\u0120\u0120\u0121\u0121\u0122\u0122\u0123\u0123\u0124\u0124\u0125\u0125"
+                + "\u0126\u0126\u0127\u0127\u0128\u0128\u0129\u0129\u012a\u012a\u012b\u012b"
+                + "\u012c\u012c\u012d\u012d\u012e\u012e\u012f\u012f\u0130\u0130\u0131\u0131"
+                + "\u0132\u0132\u0133\u0133\u0134\u0134\u0135\u0135\u0136\u0136\u0137\u0137"
+                + "\u0138\u0138\u0139\u0139\u013a\u013a\u013b\u013b\u013c\u013c\u013d\u013d"
+                + "\u013e\u013e\u013f\u013f\u0140\u0140\u0141\u0141\u0142\u0142\u0143\u0143"
+                + "\u0144\u0144\u0145\u0145\u0146\u0146\u0147\u0147\u0148\u0148\u0149\u0149"
+                + "\u014a\u014a\u014b\u014b\u014c\u014c\u014d\u014d\u014e\u014e\u014f\u014f"
+                + "\u0150\u0150\u0151\u0151\u0152\u0152\u0153\u0153\u0154\u0154\u0155\u0155"
+                + "\u0156\u0156\u0157\u0157\u0158\u0158\u0159\u0159\u015a\u015a\u015b\u015b"
+                + "\u015c\u015c\u015d\u015d\u015e\u015e\u015f\u015f\u0160\u0160\u0161\u0161"
+                + "\u0162\u0162\u0163\u0163\u0164\u0164\u0165\u0165\u0166\u0166\u0167\u0167"
+                + "\u0168\u0168\u0169\u0169\u016a\u016a\u016b\u016b\u016c\u016c\u016d\u016d"
+                + "\u016e\u016e\u016f\u016f\u0170\u0170\u0171\u0171\u0172\u0172\u0173\u0173"
+                + "\u0174\u0174\u0175\u0175\u0176\u0176\u0177\u0177\u0178\u0178\u0179\u0179"
+                + "\u017a\u017a\u017b\u017b\u017c\u017c\u017d\u017d\u017e\u017e\u017f\u017f"
+                + "\u0180\u0180\u0181\u0181\u0182\u0182\u0183\u0183\u0184\u0184\u0185\u0185"
+                + "\u0186\u0186\u0187\u0187\u0188\u0188\u0189\u0189\u018a\u018a\u018b\u018b"
+                + "\u018c\u018c\u018d\u018d\u018e\u018e\u018f\u018f\u0190\u0190\u0191\u0191"
+                + "\u0192\u0192\u0193\u0193\u0194\u0194\u0195\u0195\u0196\u0196\u0197\u0197"
+                + "\u0198\u0198\u0199\u0199\u019a\u019a\u019b\u019b\u019c\u019c\u019d\u019d"
+                + "\u019e\u019e\u019f\u019f\u01a0\u01a0\u01a1\u01a1\u01a2\u01a2\u01a3\u01a3"
+                + "\u01a4\u01a4\u01a5\u01a5\u01a6\u01a6\u01a7\u01a7\u01a8\u01a8\u01a9\u01a9"
+                + "\u01aa\u01aa\u01ab\u01ab\u01ac\u01ac\u01ad\u01ad\u01ae\u01ae\u01af\u01af"
+                + "\u01b0\u01b0\u01b1\u01b1\u01b2\u01b2\u01b3\u01b3\u01b4\u01b4\u01b5\u01b5"
+                + "\u01b6\u01b6\u01b7\u01b7\u01b8\u01b8\u01b9\u01b9\u01ba\u01ba\u01bb\u01bb"
+                + "\u01bc\u01bc\u01bd\u01bd\u01be\u01be\u01bf\u01bf\u01c0\u01c0\u01c1\u01c1"
+                + "\u01c2\u01c2\u01c3\u01c3\u01c4\u01c4\u01c5\u01c5\u01c6\u01c6\u01c7\u01c7"
+                + "\u01c8\u01c8\u01c9\u01c9\u01ca\u01ca\u01cb\u01cb\u01cc\u01cc\u01cd\u01cd"
+                + "\u01ce\u01ce\u01cf\u01cf\u01d0\u01d0\u01d1\u01d1\u01d2\u01d2\u01d3\u01d3"
+                + "\u01d4\u01d4\u01d5\u01d5\u01d6\u01d6\u01d7\u01d7\u01d8\u01d8\u01d9\u01d9"
+                + "\u01da\u01da\u01db\u01db\u01dc\u01dc\u01dd\u01dd\u01de\u01de\u01df\u01df"
+                + "\u01e0\u01e0\u01e1\u01e1\u01e2\u01e2\u01e3\u01e3\u01e4\u01e4\u01e5\u01e5"
+                + "\u01e6\u01e6\u01e7\u01e7\u01e8\u01e8\u01e9\u01e9\u01ea\u01ea\u01eb\u01eb"
+                + "\u01ec\u01ec\u01ed\u01ed\u01ee\u01ee\u01ef\u01ef\u01f0\u01f0\u01f1\u01f1"
+                + "\u01f2\u01f2\u01f3\u01f3\u01f4\u01f4\u01f5\u01f5\u01f6\u01f6\u01f7\u01f7"
+                + "\u01f8\u01f8\u01f9\u01f9\u01fa\u01fa\u01fb\u01fb\u01fc\u01fc\u01fd\u01fd"
+                + "\u01fe\u01fe\u01ff\u01ff\u0200\u0200\u0201\u0201\u0202\u0202\u0203\u0203"
+                + "\u0204\u0204\u0205\u0205\u0206\u0206\u0207\u0207\u0208\u0208\u0209\u0209"
+                + "\u020a\u020a\u020b\u020b\u020c\u020c\u020d\u020d\u020e\u020e\u020f\u020f"
+                + "\u0210\u0210\u0211\u0211\u0212\u0212\u0213\u0213\u0214\u0214\u0215\u0215"
+                + "\u0216\u0216\u0217\u0217\u0218\u0218\u0219\u0219\u021a\u021a\u021b\u021b"
+                + "\u021c\u021c\u021d\u021d\u021e\u021e\u021f\u021f\u0220\u0220\u0221\u0221"
+                + "\u0222\u0222\u0223\u0223\u0224\u0224\u0225\u0225\u0226\u0226\u0227\u0227"
+                + "\u0228\u0228\u0229\u0229\u022a\u022a\u022b\u022b\u022c\u022c\u022d\u022d"
+                + "\u022e\u022e\u022f\u022f\u0230\u0230\u0231\u0231\u0232\u0232\u0233\u0233"
+                + "\u0234\u0234\u0235\u0235\u0236\u0236\u0237\u0237\u0238\u0238\u0239\u0239"
+                + "\u023a\u023a\u023b\u023b\u023c\u023c\u023d\u023d\u023e\u023e\u023f\u023f"
+                + "\u0240\u0240\u0241\u0241\u0242\u0242\u0243\u0243\u0244\u0244\u0245\u0245"
+                + "\u0246\u0246\u0247\u0247\u0248\u0248\u0249\u0249\u024a\u024a\u024b\u024b"
+                + "\u024c\u024c\u024d\u024d\u024e\u024e\u024f\u024f\u0250\u0250\u0251\u0251"
+                + "\u0252\u0252\u0253\u0253\u0254\u0254\u0255\u0255\u0256\u0256\u0257\u0257"
+                + "\u0258\u0258\u0259\u0259\u025a\u025a\u025b\u025b\u025c\u025c\u025d\u025d"
+                + "\u025e\u025e\u025f\u025f\u0260\u0260\u0261\u0261\u0262\u0262\u0263\u0263"
+                + "\u0264\u0264\u0265\u0265\u0266\u0266\u0267\u0267\u0268\u0268\u0269\u0269"
+                + "\u026a\u026a\u026b\u026b\u026c\u026c\u026d\u026d\u026e\u026e\u026f\u026f"
+                + "\u0270\u0270\u0271\u0271\u0272\u0272\u0273\u0273\u0274\u0274\u0275\u0275"
+                + "\u0276\u0276\u0277\u0277\u0278\u0278\u0279\u0279\u027a\u027a\u027b\u027b"
+                + "\u027c\u027c\u027d\u027d\u027e\u027e\u027f\u027f\u0280\u0280\u0281\u0281"
+                + "\u0282\u0282\u0283\u0283\u0284\u0284\u0285\u0285\u0286\u0286\u0287\u0287"
+                + "\u0288\u0288\u0289\u0289\u028a\u028a\u028b\u028b\u028c\u028c\u028d\u028d"
+                + "\u028e\u028e\u028f\u028f\u0290\u0290\u0291\u0291\u0292\u0292\u0293\u0293"
+                + "\u0294\u0294\u0295\u0295\u0296\u0296\u0297\u0297\u0298\u0298\u0299\u0299"
+                + "\u029a\u029a\u029b\u029b\u029c\u029c\u029d\u029d\u029e\u029e\u029f\u029f"
+                + "\u02a0\u02a0\u02a1\u02a1\u02a2\u02a2\u02a3\u02a3\u02a4\u02a4\u02a5\u02a5"
+                + "\u02a6\u02a6\u02a7\u02a7\u02a8\u02a8\u02a9\u02a9\u02aa\u02aa\u02ab\u02ab"
+                + "\u02ac\u02ac\u02ad\u02ad\u02ae\u02ae\u02af\u02af\u02b0\u02b0\u02b1\u02b1"
+                + "\u02b2\u02b2\u02b3\u02b3\u02b4\u02b4\u02b5\u02b5\u02b6\u02b6\u02b7\u02b7"
+                + "\u02b8\u02b8\u02b9\u02b9\u02ba\u02ba\u02bb\u02bb\u02bc\u02bc\u02bd\u02bd"
+                + "\u02be\u02be\u02bf\u02bf\u02c0\u02c0\u02c1\u02c1\u02c2\u02c2\u02c3\u02c3"
+                + "\u02c4\u02c4\u02c5\u02c5\u02c6\u02c6\u02c7\u02c7\u02c8\u02c8\u02c9\u02c9"
+                + "\u02ca\u02ca\u02cb\u02cb\u02cc\u02cc\u02cd\u02cd\u02ce\u02ce\u02cf\u02cf"
+                + "\u02d0\u02d0\u02d1\u02d1\u02d2\u02d2\u02d3\u02d3\u02d4\u02d4\u02d5\u02d5"
+                + "\u02d6\u02d6\u02d7\u02d7\u02d8\u02d8\u02d9\u02d9\u02da\u02da\u02db\u02db"
+                + "\u02dc\u02dc\u02dd\u02dd\u02de\u02de\u02df\u02df\u02e0\u02e0\u02e1\u02e1"
+                + "\u02e2\u02e2\u02e3\u02e3\u02e4\u02e4\u02e5\u02e5\u02e6\u02e6\u02e7\u02e7"
+                + "\u02e8\u02e8\u02e9\u02e9\u02ea\u02ea\u02eb\u02eb\u02ec\u02ec\u02ed\u02ed"
+                + "\u02ee\u02ee\u02ef\u001f\u02f0\u0020\u02f1\u0021\u02f2\"\u02f3\u0023"
+                + "\u02f4\u0024\u02f5\u0025\u02f6\u0026\u02f7\u0027\u02f8\u0028\u02f9\u0029"
+                + "\u02fa\u002a\u02fb\u002b\u02fc\u002c\u02fd\u002d\u02fe\u002e\u02ff\u002f"
+                + "\u0300\u0030\u0301\u0031\u0302\u0032\u0303\u0033\u0304\u0034\u0305\u0035"
+                + "\u0306\u0036\u0307\u0037\u0308\u0038\u0309\u0039\u030a\u003a\u030b\u003b"
+                + "\u030c\u003c\u030d\u003d\u030e\u003e\u030f\u003f\u0310\u0040\u0311\u0041"
+                + "\u0312\u0042\u0313\u0043\u0314\u0044\u0315\u0045\u0316\u0046\u0317\u0047"
+                + "\u0318\u0048\u0319\u0049\u031a\u004a\u031b\u004b\u031c\u004c\u031d\u004d"
+                + "\u031e\u004e\u031f\u004f\u0320\u0050\u0321\u0051\u0322\u0052\u0323\u0053"
+                + "\u0324\u0054\u0325\u0055\u0326\u0056\u0327\u0057\u0328\u0058\u0329\u0059"
+                + "\u032a\u005a\u032b\u005b\u032c\\\u032d\u005d\u032e\u005e\u032f\u005f"
+                + "\u0330\u0060\u0331\u0061\u0332\u0062\u0333\u0063\u0334\u0064\u0335\u0065"
+                + "\u0336\u0066\u0337\u0067\u0338\u0068\u0339\u0069\u033a\u006a\u033b\u006b"
+                + "\u033c\u006c\u033d\u006d\u033e\u006e\u033f\u006f\u0340\u0070\u0341\u0071"
+                + "\u0342\u0072\u0343\u0073\u0344\u0074\u0345\u0075\u0346\u0076\u0347\u0077"
+                + "\u0348\u0078\u0349\u0079\u034a\u007a\u034b\u007b\u034c\u007c\u034d\u007d"
+                + "\u034e\u007e\u034f\u007f\u0350\u0080\u0351\u0081\u0352\u0082\u0353\u0083"
+                + "\u0354\u0084\u0355\u0085\u0356\u0086\u0357\u0087\u0358\u0088\u0359\u0089"
+                + "\u035a\u008a\u035b\u008b\u035c\u008c\u035d\u008d\u035e\u008e\u035f\u008f"
+                + "\u0360\u0090\u0361\u0091\u0362\u0092\u0363\u0093\u0364\u0094\u0365\u0095"
+                + "\u0366\u0096\u0367\u0097\u0368\u0098\u0369\u0099\u036a\u009a\u036b\u009b"
+                + "\u036c\u009c\u036d\u009d\u036e\u009e\u036f\u009f\u0370\u00a0\u0371\u00a1"
+                + "\u0372\u00a2\u0373\u00a3\u0374\u00a4\u0375\u00a5\u0376\u00a6\u0377\u00a7"
+                + "\u0378\u00a8\u0379\u00a9\u037a\u00aa\u037b\u00ab\u037c\u00ac\u037d\u00ad"
+                + "\u037e\u00ae\u037f\u00af\u0380\u00b0\u0381\u00b1\u0382\u00b2\u0383\u00b3"
+                + "\u0384\u00b4\u0385\u00b5\u0386\u00b6\u0387\u00b7\u0388\u00b8\u0389\u00b9"
+                + "\u038a\u00ba\u038b\u00bb\u038c\u00bc\u038d\u00bd\u038e\u00be\u038f\u00bf"
+                + "\u0390\u00c0\u0391\u00c1\u0392\u00c2\u0393\u00c3\u0394\u00c4\u0395\u00c5"
+                + "\u0396\u00c6\u0397\u00c7\u0398\u00c8\u0399\u00c9\u039a\u00ca\u039b\u00cb"
+                + "\u039c\u00cc\u039d\u00cd\u039e\u00ce\u039f\u00cf\u03a0\u00d0\u03a1\u00d1"
+                + "\u03a2\u00d2\u03a3\u00d3\u03a4\u00d4\u03a5\u00d5\u03a6\u00d6\u03a7\u00d7"
+                + "\u03a8\u00d8\u03a9\u00d9\u03aa\u00da\u03ab\u00db\u03ac\u00dc\u03ad\u00dd"
+                + "\u03ae\u00de\u03af\u00df\u03b0\u00e0\u03b1\u00e1\u03b2\u00e2\u03b3\u00e3"
+                + "\u03b4\u00e4\u03b5\u00e5\u03b6\u00e6\u03b7\u00e7\u03b8\u00e8\u03b9\u00e9"
+                + "\u03ba\u00ea\u03bb\u00eb\u03bc\u00ec\u03bd\u00ed\u03be\u00ee\u03bf\u00ef"
+                + "\u03c0\u00f0\u03c1\u00f1\u03c2\u00f2\u03c3\u00f3\u03c4\u00f4\u03c5\u00f5"
+                + "\u03c6\u00f6\u03c7\u00f7\u03c8\u00f8\u03c9\u00f9\u03ca\u00fa\u03cb\u00fb"
+                + "\u03cc\u00fc\u03cd\u00fd\u03ce\u00fe\u03cf\u00ff\u03d0\u0100\u03d1\u0101"
+                + "\u03d2\u0102\u03d3\u0103\u03d4\u0104\u03d5\u0105\u03d6\u0106\u03d7\u0107"
+                + "\u03d8\u0108\u03d9\u0109\u03da\u010a\u03db\u010b\u03dc\u010c\u03dd\u010d"
+                + "\u03de\u010e\u03df\u010f\u03e0\u0110\u03e1\u0111\u03e2\u0112\u03e3\u0113"
+                + "\u03e4\u0114\u03e5\u0115\u03e6\u0116\u03e7\u0117\u03e8\u0118\u03e9\u0119"
+                + "\u03ea\u011a\u03eb\u011b\u03ec\u011c\u03ed\u011d\u03ee\u011e\u03ef\u011f"
+                + "\u03f0\u0120\u03f1\u0121\u03f2\u0122\u03f3\u0123\u03f4\u0124\u03f5\u0125"
+                + "\u03f6\u0126\u03f7\u0127\u03f8\u0128\u03f9\u0129\u03fa\u012a\u03fb\u012b"
+                + "\u03fc\u012c\u03fd\u012d\u03fe\u012e\u03ff\u012f\u0400\u0130\u0401\u0131"
+                + "\u0402\u0132\u0403\u0133\u0404\u0134\u0405\u0135\u0406\u0136\u0407\u0137"
+                + "\u0408\u0138\u0409\u0139\u040a\u013a\u040b\u013b\u040c\u013c\u040d\u013d"
+                + "\u040e\u013e\u040f\u013f\u0410\u0140\u0411\u0141\u0412\u0142\u0413\u0143"
+                + "\u0414\u0144\u0415\u0145\u0416\u0146\u0417\u0147\u0418\u0148\u0419\u0149"
+                + "\u041a\u014a\u041b\u014b\u041c\u014c\u041d\u014d\u041e\u014e\u041f\u014f"
+                + "\u0420\u0150\u0421\u0151\u0422\u0152\u0423\u0153\u0424\u0154\u0425\u0155"
+                + "\u0426\u0156\u0427\u0157\u0428\u0158\u0429\u0159\u042a\u015a\u042b\u015b"
+                + "\u042c\u015c\u042d\u015d\u042e\u015e\u042f\u015f\u0430\u0160\u0431\u0161"
+                + "\u0432\u0162\u0433\u0163\u0434\u0164\u0435\u0165\u0436\u0166\u0437\u0167"
+                + "\u0438\u0168\u0439\u0169\u043a\u016a\u043b\u016b\u043c\u016c\u043d\u016d"
+                + "\u043e\u016e\u043f\u016f\u0440\u0170\u0441\u0171\u0442\u0172\u0443\u0173"
+                + "\u0444\u0174\u0445\u0175\u0446\u0176\u0447\u0177\u0448\u0178\u0449\u0179"
+                + "\u044a\u017a\u044b\u017b\u044c\u017c\u044d\u017d\u044e\u017e\u044f\u017f"
+                + "\u0450\u0180\u0451\u0181\u0452\u0182\u0453\u0183\u0454\u0184\u0455\u0185"
+                + "\u0456\u0186\u0457\u0187\u0458\u0188\u0459\u0189\u045a\u018a\u045b\u018b"
+                + "\u045c\u018c\u045d\u018d\u045e\u018e\u045f\u018f\u0460\u0190\u0461\u0191"
+                + "\u0462\u0192\u0463\u0193\u0464\u0194\u0465\u0195\u0466\u0196\u0467\u0197"
+                + "\u0468\u0198\u0469\u0199\u046a\u019a\u046b\u019b\u046c\u019c\u046d\u019d"
+                + "\u046e\u019e\u046f\u019f\u0470\u01a0\u0471\u01a1\u0472\u01a2\u0473\u01a3"
+                + "\u0474\u01a4\u0475\u01a5\u0476\u01a6\u0477\u01a7\u0478\u01a8\u0479\u01a9"
+                + "\u047a\u01aa\u047b\u01ab\u047c\u01ac\u047d\u01ad\u047e\u01ae\u047f\u01af"
+                + "\u0480\u01b0\u0481\u01b1\u0482\u01b2\u0483\u01b3\u0484\u01b4\u0485\u01b5"
+                + "\u0486\u01b6\u0487\u01b7\u0488\u01b8\u0489\u01b9\u048a\u01ba\u048b\u01bb"
+                + "\u048c\u01bc\u048d\u01bd\u048e\u01be\u048f\u01bf\u0490\u01c0\u0491\u01c1"
+                + "\u0492\u01c2\u0493\u01c3\u0494\u01c4\u0495\u01c5\u0496\u01c6\u0497\u01c7"
+                + "\u0498\u01c8\u0499\u01c9\u049a\u01ca\u049b\u01cb\u049c\u01cc\u049d\u01cd"
+                + "\u049e\u01ce\u049f\u01cf\u04a0\u01d0\u04a1\u01d1\u04a2\u01d2\u04a3\u01d3"
+                + "\u04a4\u01d4\u04a5\u01d5\u04a6\u01d6\u04a7\u01d7\u04a8\u01d8\u04a9\u01d9"
+                + "\u04aa\u01da\u04ab\u01db\u04ac\u01dc\u04ad\u01dd\u04ae\u01de\u04af\u01df"
+                + "\u04b0\u01e0\u04b1\u01e1\u04b2\u01e2\u04b3\u01e3\u04b4\u01e4\u04b5\u01e5"
+                + "\u04b6\u01e6\u04b7\u01e7\u04b8\u01e8\u04b9\u01e9\u04ba\u01ea\u04bb\u01eb"
+                + "\u04bc\u01ec\u04bd\u01ed\u04be\u01ee\u04bf\u01ef\u04c0\u01f0\u04c1\u01f1"
+                + "\u04c2\u01f2\u04c3\u01f3\u04c4\u01f4\u04c5\u01f5\u04c6\u01f6\u04c7\u01f7"
+                + "\u04c8\u01f8\u04c9\u01f9\u04ca\u01fa\u04cb\u01fb\u04cc\u01fc\u04cd\u01fd"
+                + "\u04ce\u01fe\u04cf\u01ff\u04d0\u0200\u04d1\u0201\u04d2\u0202\u04d3\u0203"
+                + "\u04d4\u0204\u04d5\u0205\u04d6\u0206\u04d7\u0207\u04d8\u0208\u04d9\u0209"
+                + "\u04da\u020a\u04db\u020b\u04dc\u020c\u04dd\u020d\u04de\u020e\u04df\u020f"
+                + "\u04e0\u0210\u04e1\u0211\u04e2\u0212\u04e3\u0213\u04e4\u0214\u04e5\u0215"
+                + "\u04e6\u0216\u04e7\u0217\u04e8\u0218\u04e9\u0219\u04ea\u021a\u04eb\u021b"
+                + "\u04ec\u021c\u04ed\u021d\u04ee\u021e\u04ef\u021f\u04f0\u0220\u04f1\u0221"
+                + "\u04f2\u0222\u04f3\u0223\u04f4\u0224\u04f5\u0225\u04f6\u0226\u04f7\u0227"
+                + "\u04f8\u0228\u04f9\u0229\u04fa\u022a\u04fb\u022b\u04fc\u022c\u04fd\u022d"
+                + "\u04fe\u022e\u04ff\u022f\u0500\u0230\u0501\u0231\u0502\u0232\u0503\u0233"
+                + "\u0504\u0234\u0505\u0235\u0506\u0236\u0507\u0237\u0508\u0238\u0509\u0239"
+                + "\u050a\u023a\u050b\u023b\u050c\u023c\u050d\u023d\u050e\u023e\u050f\u023f"
+                + "\u0510\u0240\u0511\u0241\u0512\u0242\u0513\u0243\u0514\u0244\u0515\u0245"
+                + "\u0516\u0246\u0517\u0247\u0518\u0248\u0519\u0249\u051a\u024a\u051b\u024b"
+                + "\u051c\u024c\u051d\u024d\u051e\u024e\u051f\u024f\u0520\u0250\u0521\u0251"
+                + "\u0522\u0252\u0523\u0253\u0524\u0254\u0525\u0255\u0526\u0256\u0527\u0257"
+                + "\u0528\u0258\u0529\u0259\u052a\u025a\u052b\u025b\u052c\u025c\u052d\u025d"
+                + "\u052e\u025e\u052f\u025f\u0530\u0260\u0531\u0261\u0532\u0262\u0533\u0263"
+                + "\u0534\u0264\u0535\u0265\u0536\u0266\u0537\u0267\u0538\u0268\u0539\u0269"
+                + "\u053a\u026a\u053b\u026b\u053c\u026c\u053d\u026d\u053e\u026e\u053f\u026f"
+                + "\u0540\u0270\u0541\u0271\u0542\u0272\u0543\u0273\u0544\u0274\u0545\u0275"
+                + "\u0546\u0276\u0547\u0277\u0548\u0278\u0549\u0279\u054a\u027a\u054b\u027b"
+                + "\u054c\u027c\u054d\u027d\u054e\u027e\u054f\u027f\u0550\u0280\u0551\u0281"
+                + "\u0552\u0282\u0553\u0283\u0554\u0284\u0555\u0285\u0556\u0286\u0557\u0287"
+                + "\u0558\u0288\u0559\u0289\u055a\u028a\u055b\u028b\u055c\u028c\u055d\u028d"
+                + "\u055e\u028e\u055f\u028f\u0560\u0290\u0561\u0291\u0562\u0292\u0563\u0293"
+                + "\u0564\u0294\u0565\u0295\u0566\u0296\u0567\u0297\u0568\u0298\u0569\u0299"
+                + "\u056a\u029a\u056b\u029b\u056c\u029c\u056d\u029d\u056e\u029e\u056f\u029f"
+                + "\u0570\u02a0\u0571\u02a1\u0572\u02a2\u0573\u02a3\u0574\u02a4\u0575\u02a5"
+                + "\u0576\u02a6\u0577\u02a7\u0578\u02a8\u0579\u02a9\u057a\u02aa\u057b\u02ab"
+                + "\u057c\u02ac\u057d\u02ad\u057e\u02ae\u057f\u02af\u0580\u02b0\u0581\u02b1"
+                + "\u0582\u02b2\u0583\u02ef\u0584\u02f0\u0585\u02f1\u0586\u02f2\u0587\u02f3"
+                + "\u0588\u02f4\u0589\u02f5\u058a\u02f6\u058b\u02f7\u058c\u02f8\u058d\u02f9"
+                + "\u058e\u02fa\u058f\u02fb\u0590\u02fc\u0591\u02fd\u0592\u02fe\u0593\u02ff"
+                + "\u0594\u0300\u0595\u0301\u0596\u0302\u0597\u0303\u0598\u0304\u0599\u0305"
+                + "\u059a\u0306\u059b\u0307\u059c\u0308\u059d\u0309\u059e\u030a\u059f\u030b",
+                "\u0000\u0001\u0002\u0003\u0004\u0005\u0006\u0007\u0008\u0009\n\u000b"
+                + "\u000c\r\u000e\u000f\u0010\u0011\u0012\u0013\u0014\u0015\u0016\u0017"
+                + "\u0018\u0019\u001a\u001b\u001c\u001d\u001e\u001f\u0020\u0021\"\u0023"
+                + "\u0024\u0025\u0026\u0027\u0028\u0029\u002a\u002b\u002c\u002d\u002e\u002f"
+                + "\u0030\u0031\u0032\u0033\u0034\u0035\u0036\u0037\u0038\u0039\u003a\u003b"
+                + "\u003c\u003d\u003e\u003f\u0040\u0041\u0042\u0043\u0044\u0045\u0046\u0047"
+                + "\u0048\u0049\u004a\u004b\u004c\u004d\u004e\u004f\u0050\u0051\u0052\u0053"
+                + "\u0054\u0055\u0056\u0057\u0058\u0059\u005a\u005b\\\u005d\u005e\u005f"
+                + "\u0060\u0061\u0062\u0063\u0064\u0065\u0066\u0067\u0068\u0069\u006a\u006b"
+                + "\u006c\u006d\u006e\u006f\u0070\u0071\u0072\u0073\u0074\u0075\u0076\u0077"
+                + "\u0078\u0079\u007a\u007b\u007c\u007d\u007e\u007f\u0080\u0081\u0082\u0083"
+                + "\u0084\u0085\u0086\u0087\u0088\u0089\u008a\u008b\u008c\u008d\u008e\u008f"
+                + "\u0090\u0091\u0092\u0093\u0094\u0095\u0096\u0097\u0098\u0099\u009a\u009b"
+                + "\u009c\u009d\u009e\u009f\u00a0\u00a1\u00a2\u00a3\u00a4\u00a5\u00a6\u00a7"
+                + "\u00a8\u00a9\u00aa\u00ab\u00ac\u00ad\u00ae\u00af\u00b0\u00b1\u00b2\u00b3"
+                + "\u00b4\u00b5\u00b6\u00b7\u00b8\u00b9\u00ba\u00bb\u00bc\u00bd\u00be\u00bf"
+                + "\u00c0\u00c1\u00c2\u00c3\u00c4\u00c5\u00c6\u00c7\u00c8\u00c9\u00ca\u00cb"
+                + "\u00cc\u00cd\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7"
+                + "\u00d8\u00d9\u00da\u00db\u00dc\u00dd\u00de\u00df\u00e0\u00e1\u00e2\u00e3"
+                + "\u00e4\u00e5\u00e6\u00e7\u00e8\u00e9\u00ea\u00eb\u00ec\u00ed\u00ee\u00ef"
+                + "\u00f0\u00f1\u00f2\u00f3\u00f4\u00f5\u00f6\u00f7\u00f8\u00f9\u00fa\u00fb"
+                + "\u00fc\u00fd\u00fe\u00ff\u0100\u0101\u0102\u0103\u0104\u0105\u0106\u0107"
+                + "\u0108\u0109\u010a\u010b\u010c\u010d\u010e\u010f\u0110\u0111\u0112\u0113"
+                + "\u0114\u0115\u0116\u0117\u0118\u0119\u011a\u011b\u011c\u011d\u011e\u011f"
+                + "\u0120\u0121\u0122\u0123\u0124\u0125\u0126\u0127\u0128\u0129\u012a\u012b"
+                + "\u012c\u012d\u012e\u012f\u0130\u0131\u0132\u0133\u0134\u0135\u0136\u0137"
+                + "\u0138\u0139\u013a\u013b\u013c\u013d\u013e\u013f\u0140\u0141\u0142\u0143"
+                + "\u0144\u0145\u0146\u0147\u0148\u0149\u014a\u014b\u014c\u014d\u014e\u014f"
+                + "\u0150\u0151\u0152\u0153\u0154\u0155\u0156\u0157\u0158\u0159\u015a\u015b"
+                + "\u015c\u015d\u015e\u015f\u0160\u0161\u0162\u0163\u0164\u0165\u0166\u0167"
+                + "\u0168\u0169\u016a\u016b\u016c\u016d\u016e\u016f\u0170\u0171\u0172\u0173"
+                + "\u0174\u0175\u0176\u0177\u0178\u0179\u017a\u017b\u017c\u017d\u017e\u017f"
+                + "\u0180\u0181\u0182\u0183\u0184\u0185\u0186\u0187\u0188\u0189\u018a\u018b"
+                + "\u018c\u018d\u018e\u018f\u0190\u0191\u0192\u0193\u0194\u0195\u0196\u0197"
+                + "\u0198\u0199\u019a\u019b\u019c\u019d\u019e\u019f\u01a0\u01a1\u01a2\u01a3"
+                + "\u01a4\u01a5\u01a6\u01a7\u01a8\u01a9\u01aa\u01ab\u01ac\u01ad\u01ae\u01af"
+                + "\u01b0\u01b1\u01b2\u01b3\u01b4\u01b5\u01b6\u01b7\u01b8\u01b9\u01ba\u01bb"
+                + "\u01bc\u01bd\u01be\u01bf\u01c0\u01c1\u01c2\u01c3\u01c4\u01c5\u01c6\u01c7"
+                + "\u01c8\u01c9\u01ca\u01cb\u01cc\u01cd\u01ce\u01cf\u01d0\u01d1\u01d2\u01d3"
+                + "\u01d4\u01d5\u01d6\u01d7\u01d8\u01d9\u01da\u01db\u01dc\u01dd\u01de\u01df"
+                + "\u01e0\u01e1\u01e2\u01e3\u01e4\u01e5\u01e6\u01e7\u01e8\u01e9\u01ea\u01eb"
+                + "\u01ec\u01ed\u01ee\u01ef\u01f0\u01f1\u01f2\u01f3\u01f4\u01f5\u01f6\u01f7"
+                + "\u01f8\u01f9\u01fa\u01fb\u01fc\u01fd\u01fe\u01ff\u0200\u0201\u0202\u0203"
+                + "\u0204\u0205\u0206\u0207\u0208\u0209\u020a\u020b\u020c\u020d\u020e\u020f"
+                + "\u0210\u0211\u0212\u0213\u0214\u0215\u0216\u0217\u0218\u0219\u021a\u021b"
+                + "\u021c\u021d\u021e\u021f\u0220\u0221\u0222\u0223\u0224\u0225\u0226\u0227"
+                + "\u0228\u0229\u022a\u022b\u022c\u022d\u022e\u022f\u0230\u0231\u0232\u0233"
+                + "\u0234\u0235\u0236\u0237\u0238\u0239\u023a\u023b\u023c\u023d\u023e\u023f"
+                + "\u0240\u0241\u0242\u0243\u0244\u0245\u0246\u0247\u0248\u0249\u024a\u024b"
+                + "\u024c\u024d\u024e\u024f\u0250\u0251\u0252\u0253\u0254\u0255\u0256\u0257"
+                + "\u0258\u0259\u025a\u025b\u025c\u025d\u025e\u025f\u0260\u0261\u0262\u0263"
+                + "\u0264\u0265\u0266\u0267\u0268\u0269\u026a\u026b\u026c\u026d\u026e\u026f"
+                + "\u0270\u0271\u0272\u0273\u0274\u0275\u0276\u0277\u0278\u0279\u027a\u027b"
+                + "\u027c\u027d\u027e\u027f\u0280\u0281\u0282\u0283\u0284\u0285\u0286\u0287"
+                + "\u0288\u0289\u028a\u028b\u028c\u028d\u028e\u028f\u0290\u0291\u0292\u0293"
+                + "\u0294\u0295\u0296\u0297\u0298\u0299\u029a\u029b\u029c\u029d\u029e\u029f"
+                + "\u02a0\u02a1\u02a2\u02a3\u02a4\u02a5\u02a6\u02a7\u02a8\u02a9\u02aa\u02ab"
+                + "\u02ac\u02ad\u02ae\u02af\u02b0\u02b1\u02b2\u02b3\u02b4\u02b5\u02b6\u02b7"
+                + "\u02b8\u02b9\u02ba\u02bb\u02bc\u02bd\u02be\u02bf\u02c0\u02c1\u02c2\u02c3"
+                + "\u02c4\u02c5\u02c6\u02c7\u02c8\u02c9\u02ca\u02cb\u02cc\u02cd\u02ce\u02cf"
+                + "\u02d0\u02d1\u02d2\u02d3\u02d4\u02d5\u02d6\u02d7\u02d8\u02d9\u02da\u02db"
+                + "\u02dc\u02dd\u02de\u02df\u02e0\u02e1\u02e2\u02e3\u02e4\u02e5\u02e6\u02e7"
+                + "\u02e8\u02e9\u02ea\u02eb\u02ec\u02ed\u02ee\u02ef\u02f0\u02f1\u02f2\u02f3"
+                + "\u02f4\u02f5\u02f6\u02f7\u02f8\u02f9\u02fa\u02fb\u02fc\u02fd\u02fe\u02ff"
+                + "\u0300\u0301\u0302\u0303\u0304\u0305\u0306\u0307\u0308\u0309\u030a\u030b"
+                + "\u030c\u030d\u030e\u030f\u0310\u0311\u0312\u0313\u0314\u0315\u0316\u0317"
+                + "\u0318\u0319\u031a\u031b\u031c\u031d\u031e\u031f\u0320\u0321\u0322\u0323"
+                + "\u0324\u0325\u0326\u0327\u0328\u0329\u032a\u032b\u032c\u032d\u032e\u032f"
+                + "\u0330\u0331\u0332\u0333\u0334\u0335\u0336\u0337\u0338\u0339\u033a\u033b"
+                + "\u033c\u033d\u033e\u033f\u0340\u0341\u0342\u0343\u0344\u0345\u0346\u0347"
+                + "\u0348\u0349\u034a\u034b\u034c\u034d\u034e\u034f\u0350\u0351\u0352\u0353"
+                + "\u0354\u0355\u0356\u0357\u0358\u0359\u035a\u035b\u035c\u035d\u035e\u035f"
+                + "\u0360\u0361\u0362\u0363\u0364\u0365\u0366\u0367\u0368\u0369\u036a\u036b"
+                + "\u036c\u036d\u036e\u036f\u0370\u0371\u0372\u0373\u0374\u0375\u0376\u0377"
+                + "\u0378\u0379\u037a\u037b\u037c\u037d\u037e\u037f\u0380\u0381\u0382\u0383"
+                + "\u0384\u0385\u0386\u0387\u0388\u0389\u038a\u038b\u038c\u038d\u038e\u038f"
+                + "\u0390\u0391\u0392\u0393\u0394\u0395\u0396\u0397\u0398\u0399\u039a\u039b"
+                + "\u039c\u039d\u039e\u039f\u03a0\u03a1\u03a2\u03a3\u03a4\u03a5\u03a6\u03a7"
+                + "\u03a8\u03a9\u03aa\u03ab\u03ac\u03ad\u03ae\u03af\u03b0\u03b1\u03b2\u03b3"
+                + "\u03b4\u03b5\u03b6\u03b7\u03b8\u03b9\u03ba\u03bb\u03bc\u03bd\u03be\u03bf"
+                + "\u03c0\u03c1\u03c2\u03c3\u03c4\u03c5\u03c6\u03c7\u03c8\u03c9\u03ca\u03cb"
+                + "\u03cc\u03cd\u03ce\u03cf\u03d0\u03d1\u03d2\u03d3\u03d4\u03d5\u03d6\u03d7"
+                + "\u03d8\u03d9\u03da\u03db\u03dc\u03dd\u03de\u03df\u03e0\u03e1\u03e2\u03e3"
+                + "\u03e4\u03e5\u03e6\u03e7\u03e8\u03e9\u03ea\u03eb\u03ec\u03ed\u03ee\u03ef"
+                + "\u03f0\u03f1\u03f2\u03f3\u03f4\u03f5\u03f6\u03f7\u03f8\u03f9\u03fa\u03fb"
+                + "\u03fc\u03fd\u03fe\u03ff\u0400\u0401\u0402\u0403\u0404\u0405\u0406\u0407"
+                + "\u0408\u0409\u040a\u040b\u040c\u040d\u040e\u040f\u0410\u0411\u0412\u0413"
+                + "\u0414\u0415\u0416\u0417\u0418\u0419\u041a\u041b\u041c\u041d\u041e\u041f"
+                + "\u0420\u0421\u0422\u0423\u0424\u0425\u0426\u0427\u0428\u0429\u042a\u042b"
+                + "\u042c\u042d\u042e\u042f\u0430\u0431\u0432\u0433\u0434\u0435\u0436\u0437"
+                + "\u0438\u0439\u043a\u043b\u043c\u043d\u043e\u043f\u0440\u0441\u0442\u0443"
+                + "\u0444\u0445\u0446\u0447\u0448\u0449\u044a\u044b\u044c\u044d\u044e\u044f"
+                + "\u0450\u0451\u0452\u0453\u0454\u0455\u0456\u0457\u0458\u0459\u045a\u045b"
+                + "\u045c\u045d\u045e\u045f\u0460\u0461\u0462\u0463\u0464\u0465\u0466\u0467"
+                + "\u0468\u0469\u046a\u046b\u046c\u046d\u046e\u046f\u0470\u0471\u0472\u0473"
+                + "\u0474\u0475\u0476\u0477\u0478\u0479\u047a\u047b\u047c\u047d\u047e\u047f"
+                + "\u0480\u0481\u0482\u0483\u0484\u0485\u0486\u0487\u0488\u0489\u048a\u048b"
+                + "\u048c\u048d\u048e\u048f\u0490\u0491\u0492\u0493\u0494\u0495\u0496\u0497"
+                + "\u0498\u0499\u049a\u049b\u049c\u049d\u049e\u049f\u04a0\u04a1\u04a2\u04a3"
+                + "\u04a4\u04a5\u04a6\u04a7\u04a8\u04a9\u04aa\u04ab\u04ac\u04ad\u04ae\u04af"
+                + "\u04b0\u04b1\u04b2\u04b3\u04b4\u04b5\u04b6\u04b7\u04b8\u04b9\u04ba\u04bb"
+                + "\u04bc\u04bd\u04be\u04bf\u04c0\u04c1\u04c2\u04c3\u04c4\u04c5\u04c6\u04c7"
+                + "\u04c8\u04c9\u04ca\u04cb\u04cc\u04cd\u04ce\u04cf\u04d0\u04d1\u04d2\u04d3"
+                + "\u04d4\u04d5\u04d6\u04d7\u04d8\u04d9\u04da\u04db\u04dc\u04dd\u04de\u04df"
+                + "\u04e0\u04e1\u04e2\u04e3\u04e4\u04e5\u04e6\u04e7\u04e8\u04e9\u04ea\u04eb"
+                + "\u04ec\u04ed\u04ee\u04ef\u04f0\u04f1\u04f2\u04f3\u04f4\u04f5\u04f6\u04f7"
+                + "\u04f8\u04f9\u04fa\u04fb\u04fc\u04fd\u04fe\u04ff\u0500\u0501\u0502\u0503"
+                + "\u0504\u0505\u0506\u0507\u0508\u0509\u050a\u050b\u050c\u050d\u050e\u050f"
+                + "\u0510\u0511\u0512\u0513\u0514\u0515\u0516\u0517\u0518\u0519\u051a\u051b"
+                + "\u051c\u051d\u051e\u051f\u0520\u0521\u0522\u0523\u0524\u0525\u0526\u0527"
+                + "\u0528\u0529\u052a\u052b\u052c\u052d\u052e\u052f\u0530\u0531\u0532\u0533"
+                + "\u0534\u0535\u0536\u0537\u0538\u0539\u053a\u053b\u053c\u053d\u053e\u053f"
+                + "\u0540\u0541\u0542\u0543\u0544\u0545\u0546\u0547\u0548\u0549\u054a\u054b"
+                + "\u054c\u054d\u054e\u054f\u0550\u0551\u0552\u0553\u0554\u0555\u0556\u0557"
+                + "\u0558\u0559\u055a\u055b\u055c\u055d\u055e\u055f\u0560\u0561\u0562\u0563"
+                + "\u0564\u0565\u0566\u0567\u0568\u0569\u056a\u056b\u056c\u056d\u056e\u056f"
+                + "\u0570\u0571\u0572\u0573\u0574\u0575\u0576\u0577\u0578\u0579\u057a\u057b"
+                + "\u057c\u057d\u057e\u057f\u0580\u0581\u0582\u0583\u0584\u0585\u0586\u0587"
+                + "\u0588\u0589\u058a\u058b\u058c\u058d\u058e\u058f\u0590\u0591\u0592\u0593"
+                + "\u0594\u0595\u0596\u0597\u0598\u0599\u059a\u059b\u059c\u059d\u059e\u059f");
+    }
+
+    static final class Precise24 {
+        // fuzzy_logic_precise.xml, 24 hour
+        static final FuzzyTable TABLE = FuzzyTable.decode(PHRASES,
+                "\u0001\u0000\u0000\u0009\u0001\u0003\u000c\u0001\u0003\r\u0001\u0003"
+                + "\u000e\u0001\u0003\u0002\u0001\u0003\u000f\u0001\u0003\u0010\u0001\u0003"
+                + "\u0011\u0001\u0003\u0012\u0001\u0003\u0004\u0001\u0003\u0013\u0001\u0003"
+                + "\u001f\u0001\u0003\u0015\u0001\u0003\u0016\u0001\u0003\u0005\u0001\u0003"
+                + "\u0018\u0001\u0003\u0019\u0001\u0003\u001a\u0001\u0003\u001b\u0001\u0003"
+                + "\u0006\u0001\u0003\u001c\u0001\u0003\u001d\u0001\u0003\u001e\u0001\u0003"
+                + "\u0020\u0001\u0003\u0007\u0001\u0003\u0021\u0001\u0003\"\u0001\u0003"
+                + "\u0023\u0001\u0003\u0024\u0001\u0003\u0008\u0001\u0003\u0024\u0009\n"
+                + "\u0023\u0009\n\"\u0009\n\u0021\u0009\n\u0007\u0009\n"
+                + "\u0020\u0009\n\u001e\u0009\n\u001d\u0009\n\u001c\u0009\n"
+                + "\u0006\u0009\n\u001b\u0009\n\u001a\u0009\n\u0019\u0009\n"
+                + "\u0018\u0009\n\u0005\u0009\n\u0016\u0009\n\u0015\u0009\n"
+                + "\u001f\u0009\n\u0013\u0009\n\u0004\u0009\n\u0012\u0009\n"
+                + "\u0011\u0009\n\u0010\u0009\n\u000f\u0009\n\u0002\u0009\n"
+                + "\u000e\u0009\n\r\u0009\n\u000c\u0009\n\u0009\u0009\n"
+                + "\u0009\u000b\u0000\u0009\u0009\u0003\u000c\u0009\u0003\r\u0009\u0003"
+                + "\u000e\u0009\u0003\u0002\u0009\u0003\u000f\u0009\u0003\u0010\u0009\u0003"
+                + "\u0011\u0009\u0003\u0012\u0009\u0003\u0004\u0009\u0003\u0013\u0009\u0003"
+                + "\u001f\u0009\u0003\u0015\u0009\u0003\u0016\u0009\u0003\u0005\u0009\u0003"
+                + "\u0018\u0009\u0003\u0019\u0009\u0003\u001a\u0009\u0003\u001b\u0009\u0003"
+                + "\u0006\u0009\u0003\u001c\u0009\u0003\u001d\u0009\u0003\u001e\u0009\u0003"
+                + "\u0020\u0009\u0003\u0007\u0009\u0003\u0021\u0009\u0003\"\u0009\u0003"
+                + "\u0023\u0009\u0003\u0024\u0009\u0003\u0008\u0009\u0003\u0024\u000c\n"
+                + "\u0023\u000c\n\"\u000c\n\u0021\u000c\n\u0007\u000c\n"
+                + "\u0020\u000c\n\u001e\u000c\n\u001d\u000c\n\u001c\u000c\n"
+                + "\u0006\u000c\n\u001b\u000c\n\u001a\u000c\n\u0019\u000c\n"
+                + "\u0018\u000c\n\u0005\u000c\n\u0016\u000c\n\u0015\u000c\n"
+                + "\u001f\u000c\n\u0013\u000c\n\u0004\u000c\n\u0012\u000c\n"
+                + "\u0011\u000c\n\u0010\u000c\n\u000f\u000c\n\u0002\u000c\n"
+                + "\u000e\u000c\n\r\u000c\n\u000c\u000c\n\u0009\u000c\n"
+                + "\u000c\u000b\u0000\u0009\u000c\u0003\u000c\u000c\u0003\r\u000c\u0003"
+                + "\u000e\u000c\u0003\u0002\u000c\u0003\u000f\u000c\u0003\u0010\u000c\u0003"
+                + "\u0011\u000c\u0003\u0012\u000c\u0003\u0004\u000c\u0003\u0013\u000c\u0003"
+                + "\u001f\u000c\u0003\u0015\u000c\u0003\u0016\u000c\u0003\u0005\u000c\u0003"
+                + "\u0018\u000c\u0003\u0019\u000c\u0003\u001a\u000c\u0003\u001b\u000c\u0003"
+                + "\u0006\u000c\u0003\u001c\u000c\u0003\u001d\u000c\u0003\u001e\u000c\u0003"
+                + "\u0020\u000c\u0003\u0007\u000c\u0003\u0021\u000c\u0003\"\u000c\u0003"
+                + "\u0023\u000c\u0003\u0024\u000c\u0003\u0008\u000c\u0003\u0024\r\n"
+                + "\u0023\r\n\"\r\n\u0021\r\n\u0007\r\n"
+                + "\u0020\r\n\u001e\r\n\u001d\r\n\u001c\r\n"
+                + "\u0006\r\n\u001b\r\n\u001a\r\n\u0019\r\n"
+                + "\u0018\r\n\u0005\r\n\u0016\r\n\u0015\r\n"
+                + "\u001f\r\n\u0013\r\n\u0004\r\n\u0012\r\n"
+                + "\u0011\r\n\u0010\r\n\u000f\r\n\u0002\r\n"
+                + "\u000e\r\n\r\r\n\u000c\r\n\u0009\r\n"
+                + "\r\u000b\u0000\u0009\r\u0003\u000c\r\u0003\r\r\u0003"
+                + "\u000e\r\u0003\u0002\r\u0003\u000f\r\u0003\u0010\r\u0003"
+                + "\u0011\r\u0003\u0012\r\u0003\u0004\r\u0003\u0013\r\u0003"
+                + "\u001f\r\u0003\u0015\r\u0003\u0016\r\u0003\u0005\r\u0003"
+                + "\u0018\r\u0003\u0019\r\u0003\u001a\r\u0003\u001b\r\u0003"
+                + "\u0006\r\u0003\u001c\r\u0003\u001d\r\u0003\u001e\r\u0003"
+                + "\u0020\r\u0003\u0007\r\u0003\u0021\r\u0003\"\r\u0003"
+                + "\u0023\r\u0003\u0024\r\u0003\u0008\r\u0003\u0024\u000e\n"
+                + "\u0023\u000e\n\"\u000e\n\u0021\u000e\n\u0007\u000e\n"
+                + "\u0020\u000e\n\u001e\u000e\n\u001d\u000e\n\u001c\u000e\n"
+                + "\u0006\u000e\n\u001b\u000e\n\u001a\u000e\n\u0019\u000e\n"
+                + "\u0018\u000e\n\u0005\u000e\n\u0016\u000e\n\u0015\u000e\n"
+                + "\u001f\u000e\n\u0013\u000e\n\u0004\u000e\n\u0012\u000e\n"
+                + "\u0011\u000e\n\u0010\u000e\n\u000f\u000e\n\u0002\u000e\n"
+                + "\u000e\u000e\n\r\u000e\n\u000c\u000e\n\u0009\u000e\n"
+                + "\u000e\u000b\u0000\u0009\u000e\u0003\u000c\u000e\u0003\r\u000e\u0003"
+                + "\u000e\u000e\u0003\u0002\u000e\u0003\u000f\u000e\u0003\u0010\u000e\u0003"
+                + "\u0011\u000e\u0003\u0012\u000e\u0003\u0004\u000e\u0003\u0013\u000e\u0003"
+                + "\u001f\u000e\u0003\u0015\u000e\u0003\u0016\u000e\u0003\u0005\u000e\u0003"
+                + "\u0018\u000e\u0003\u0019\u000e\u0003\u001a\u000e\u0003\u001b\u000e\u0003"
+                + "\u0006\u000e\u0003\u001c\u000e\u0003\u001d\u000e\u0003\u001e\u000e\u0003"
+                + "\u0020\u000e\u0003\u0007\u000e\u0003\u0021\u000e\u0003\"\u000e\u0003"
+                + "\u0023\u000e\u0003\u0024\u000e\u0003\u0008\u000e\u0003\u0024\u0002\n"
+                + "\u0023\u0002\n\"\u0002\n\u0021\u0002\n\u0007\u0002\n"
+                + "\u0020\u0002\n\u001e\u0002\n\u001d\u0002\n\u001c\u0002\n"
+                + "\u0006\u0002\n\u001b\u0002\n\u001a\u0002\n\u0019\u0002\n"
+                + "\u0018\u0002\n\u0005\u0002\n\u0016\u0002\n\u0015\u0002\n"
+                + "\u001f\u0002\n\u0013\u0002\n\u0004\u0002\n\u0012\u0002\n"
+                + "\u0011\u0002\n\u0010\u0002\n\u000f\u0002\n\u0002\u0002\n"
+                + "\u000e\u0002\n\r\u0002\n\u000c\u0002\n\u0009\u0002\n"
+                + "\u0002\u000b\u0000\u0009\u0002\u0003\u000c\u0002\u0003\r\u0002\u0003"
+                + "\u000e\u0002\u0003\u0002\u0002\u0003\u000f\u0002\u0003\u0010\u0002\u0003"
+                + "\u0011\u0002\u0003\u0012\u0002\u0003\u0004\u0002\u0003\u0013\u0002\u0003"
+                + "\u001f\u0002\u0003\u0015\u0002\u0003\u0016\u0002\u0003\u0005\u0002\u0003"
+                + "\u0018\u0002\u0003\u0019\u0002\u0003\u001a\u0002\u0003\u001b\u0002\u0003"
+                + "\u0006\u0002\u0003\u001c\u0002\u0003\u001d\u0002\u0003\u001e\u0002\u0003"
+                + "\u0020\u0002\u0003\u0007\u0002\u0003\u0021\u0002\u0003\"\u0002\u0003"
+                + "\u0023\u0002\u0003\u0024\u0002\u0003\u0008\u0002\u0003\u0024\u000f\n"
+                + "\u0023\u000f\n\"\u000f\n\u0021\u000f\n\u0007\u000f\n"
+                + "\u0020\u000f\n\u001e\u000f\n\u001d\u000f\n\u001c\u000f\n"
+                + "\u0006\u000f\n\u001b\u000f\n\u001a\u000f\n\u0019\u000f\n"
+                + "\u0018\u000f\n\u0005\u000f\n\u0016\u000f\n\u0015\u000f\n"
+                + "\u001f\u000f\n\u0013\u000f\n\u0004\u000f\n\u0012\u000f\n"
+                + "\u0011\u000f\n\u0010\u000f\n\u000f\u000f\n\u0002\u000f\n"
+                + "\u000e\u000f\n\r\u000f\n\u000c\u000f\n\u0009\u000f\n"
+                + "\u000f\u000b\u0000\u0009\u000f\u0003\u000c\u000f\u0003\r\u000f\u0003"
+                + "\u000e\u000f\u0003\u0002\u000f\u0003\u000f\u000f\u0003\u0010\u000f\u0003"
+                + "\u0011\u000f\u0003\u0012\u000f\u0003\u0004\u000f\u0003\u0013\u000f\u0003"
+                + "\u001f\u000f\u0003\u0015\u000f\u0003\u0016\u000f\u0003\u0005\u000f\u0003"
+                + "\u0018\u000f\u0003\u0019\u000f\u0003\u001a\u000f\u0003\u001b\u000f\u0003"
+                + "\u0006\u000f\u0003\u001c\u000f\u0003\u001d\u000f\u0003\u001e\u000f\u0003"
+                + "\u0020\u000f\u0003\u0007\u000f\u0003\u0021\u000f\u0003\"\u000f\u0003"
+                + "\u0023\u000f\u0003\u0024\u000f\u0003\u0008\u000f\u0003\u0024\u0010\n"
+                + "\u0023\u0010\n\"\u0010\n\u0021\u0010\n\u0007\u0010\n"
+                + "\u0020\u0010\n\u001e\u0010\n\u001d\u0010\n\u001c\u0010\n"
+                + "\u0006\u0010\n\u001b\u0010\n\u001a\u0010\n\u0019\u0010\n"
+                + "\u0018\u0010\n\u0005\u0010\n\u0016\u0010\n\u0015\u0010\n"
+                + "\u001f\u0010\n\u0013\u0010\n\u0004\u0010\n\u0012\u0010\n"
+                + "\u0011\u0010\n\u0010\u0010\n\u000f\u0010\n\u0002\u0010\n"
+                + "\u000e\u0010\n\r\u0010\n\u000c\u0010\n\u0009\u0010\n"
+                + "\u0010\u000b\u0000\u0009\u0010\u0003\u000c\u0010\u0003\r\u0010\u0003"
+                + "\u000e\u0010\u0003\u0002\u0010\u0003\u000f\u0010\u0003\u0010\u0010\u0003"
+                + "\u0011\u0010\u0003\u0012\u0010\u0003\u0004\u0010\u0003\u0013\u0010\u0003"
+                + "\u001f\u0010\u0003\u0015\u0010\u0003\u0016\u0010\u0003\u0005\u0010\u0003"
+                + "\u0018\u0010\u0003\u0019\u0010\u0003\u001a\u0010\u0003\u001b\u0010\u0003"
+                + "\u0006\u0010\u0003\u001c\u0010\u0003\u001d\u0010\u0003\u001e\u0010\u0003"
+                + "\u0020\u0010\u0003\u0007\u0010\u0003\u0021\u0010\u0003\"\u0010\u0003"
+                + "\u0023\u0010\u0003\u0024\u0010\u0003\u0008\u0010\u0003\u0024\u0011\n"
+                + "\u0023\u0011\n\"\u0011\n\u0021\u0011\n\u0007\u0011\n"
+                + "\u0020\u0011\n\u001e\u0011\n\u001d\u0011\n\u001c\u0011\n"
+                + "\u0006\u0011\n\u001b\u0011\n\u001a\u0011\n\u0019\u0011\n"
+                + "\u0018\u0011\n\u0005\u0011\n\u0016\u0011\n\u0015\u0011\n"
+                + "\u001f\u0011\n\u0013\u0011\n\u0004\u0011\n\u0012\u0011\n"
+                + "\u0011\u0011\n\u0010\u0011\n\u000f\u0011\n\u0002\u0011\n"
+                + "\u000e\u0011\n\r\u0011\n\u000c\u0011\n\u0009\u0011\n"
+                + "\u0011\u000b\u0000\u0009\u0011\u0003\u000c\u0011\u0003\r\u0011\u0003"
+                + "\u000e\u0011\u0003\u0002\u0011\u0003\u000f\u0011\u0003\u0010\u0011\u0003"
+                + "\u0011\u0011\u0003\u0012\u0011\u0003\u0004\u0011\u0003\u0013\u0011\u0003"
+                + "\u001f\u0011\u0003\u0015\u0011\u0003\u0016\u0011\u0003\u0005\u0011\u0003"
+                + "\u0018\u0011\u0003\u0019\u0011\u0003\u001a\u0011\u0003\u001b\u0011\u0003"
+                + "\u0006\u0011\u0003\u001c\u0011\u0003\u001d\u0011\u0003\u001e\u0011\u0003"
+                + "\u0020\u0011\u0003\u0007\u0011\u0003\u0021\u0011\u0003\"\u0011\u0003"
+                + "\u0023\u0011\u0003\u0024\u0011\u0003\u0008\u0011\u0003\u0024\u0012\n"
+                + "\u0023\u0012\n\"\u0012\n\u0021\u0012\n\u0007\u0012\n"
+                + "\u0020\u0012\n\u001e\u0012\n\u001d\u0012\n\u001c\u0012\n"
+                + "\u0006\u0012\n\u001b\u0012\n\u001a\u0012\n\u0019\u0012\n"
+                + "\u0018\u0012\n\u0005\u0012\n\u0016\u0012\n\u0015\u0012\n"
+                + "\u001f\u0012\n\u0013\u0012\n\u0004\u0012\n\u0012\u0012\n"
+                + "\u0011\u0012\n\u0010\u0012\n\u000f\u0012\n\u0002\u0012\n"
+                + "\u000e\u0012\n\r\u0012\n\u000c\u0012\n\u0009\u0012\n"
+                + "\u0012\u000b\u0000\u0009\u0012\u0003\u000c\u0012\u0003\r\u0012\u0003"
+                + "\u000e\u0012\u0003\u0002\u0012\u0003\u000f\u0012\u0003\u0010\u0012\u0003"
+                + "\u0011\u0012\u0003\u0012\u0012\u0003\u0004\u0012\u0003\u0013\u0012\u0003"
+                + "\u001f\u0012\u0003\u0015\u0012\u0003\u0016\u0012\u0003\u0005\u0012\u0003"
+                + "\u0018\u0012\u0003\u0019\u0012\u0003\u001a\u0012\u0003\u001b\u0012\u0003"
+                + "\u0006\u0012\u0003\u001c\u0012\u0003\u001d\u0012\u0003\u001e\u0012\u0003"
+                + "\u0020\u0012\u0003\u0007\u0012\u0003\u0021\u0012\u0003\"\u0012\u0003"
+                + "\u0023\u0012\u0003\u0024\u0012\u0003\u0008\u0012\u0003\u0024\u0004\n"
+                + "\u0023\u0004\n\"\u0004\n\u0021\u0004\n\u0007\u0004\n"
+                + "\u0020\u0004\n\u001e\u0004\n\u001d\u0004\n\u001c\u0004\n"
+                + "\u0006\u0004\n\u001b\u0004\n\u001a\u0004\n\u0019\u0004\n"
+                + "\u0018\u0004\n\u0005\u0004\n\u0016\u0004\n\u0015\u0004\n"
+                + "\u001f\u0004\n\u0013\u0004\n\u0004\u0004\n\u0012\u0004\n"
+                + "\u0011\u0004\n\u0010\u0004\n\u000f\u0004\n\u0002\u0004\n"
+                + "\u000e\u0004\n\r\u0004\n\u000c\u0004\n\u0009\u0004\n"
+                + "\u0004\u000b\u0000\u0009\u0004\u0003\u000c\u0004\u0003\r\u0004\u0003"
+                + "\u000e\u0004\u0003\u0002\u0004\u0003\u000f\u0004\u0003\u0010\u0004\u0003"
+                + "\u0011\u0004\u0003\u0012\u0004\u0003\u0004\u0004\u0003\u0013\u0004\u0003"
+                + "\u001f\u0004\u0003\u0015\u0004\u0003\u0016\u0004\u0003\u0005\u0004\u0003"
+                + "\u0018\u0004\u0003\u0019\u0004\u0003\u001a\u0004\u0003\u001b\u0004\u0003"
+                + "\u0006\u0004\u0003\u001c\u0004\u0003\u001d\u0004\u0003\u001e\u0004\u0003"
+                + "\u0020\u0004\u0003\u0007\u0004\u0003\u0021\u0004\u0003\"\u0004\u0003"
+                + "\u0023\u0004\u0003\u0024\u0004\u0003\u0008\u0004\u0003\u0024\u0013\n"
+                + "\u0023\u0013\n\"\u0013\n\u0021\u0013\n\u0007\u0013\n"
+                + "\u0020\u0013\n\u001e\u0013\n\u001d\u0013\n\u001c\u0013\n"
+                + "\u0006\u0013\n\u001b\u0013\n\u001a\u0013\n\u0019\u0013\n"
+                + "\u0018\u0013\n\u0005\u0013\n\u0016\u0013\n\u0015\u0013\n"
+                + "\u001f\u0013\n\u0013\u0013\n\u0004\u0013\n\u0012\u0013\n"
+                + "\u0011\u0013\n\u0010\u0013\n\u000f\u0013\n\u0002\u0013\n"
+                + "\u000e\u0013\n\r\u0013\n\u000c\u0013\n\u0009\u0013\n"
+                + "\u0013\u000b\u0000\u0009\u0013\u0003\u000c\u0013\u0003\r\u0013\u0003"
+                + "\u000e\u0013\u0003\u0002\u0013\u0003\u000f\u0013\u0003\u0010\u0013\u0003"
+                + "\u0011\u0013\u0003\u0012\u0013\u0003\u0004\u0013\u0003\u0013\u0013\u0003"
+                + "\u001f\u0013\u0003\u0015\u0013\u0003\u0016\u0013\u0003\u0005\u0013\u0003"
+                + "\u0018\u0013\u0003\u0019\u0013\u0003\u001a\u0013\u0003\u001b\u0013\u0003"
+                + "\u0006\u0013\u0003\u001c\u0013\u0003\u001d\u0013\u0003\u001e\u0013\u0003"
+                + "\u0020\u0013\u0003\u0007\u0013\u0003\u0021\u0013\u0003\"\u0013\u0003"
+                + "\u0023\u0013\u0003\u0024\u0013\u0003\u0008\u0013\u0003\u0024\u0014\n"
+                + "\u0023\u0014\n\"\u0014\n\u0021\u0014\n\u0007\u0014\n"
+                + "\u0020\u0014\n\u001e\u0014\n\u001d\u0014\n\u001c\u0014\n"
+                + "\u0006\u0014\n\u001b\u0014\n\u001a\u0014\n\u0019\u0014\n"
+                + "\u0018\u0014\n\u0005\u0014\n\u0016\u0014\n\u0015\u0014\n"
+                + "\u001f\u0014\n\u0013\u0014\n\u0004\u0014\n\u0012\u0014\n"
+                + "\u0011\u0014\n\u0010\u0014\n\u000f\u0014\n\u0002\u0014\n"
+                + "\u000e\u0014\n\r\u0014\n\u000c\u0014\n\u0009\u0014\n"
+                + "\u0014\u0000\u0000\u0009\u0014\u0003\u000c\u0014\u0003\r\u0014\u0003"
+                + "\u000e\u0014\u0003\u0002\u0014\u0003\u000f\u0014\u0003\u0010\u0014\u0003"
+                + "\u0011\u0014\u0003\u0012\u0014\u0003\u0004\u0014\u0003\u0013\u0014\u0003"
+                + "\u001f\u0014\u0003\u0015\u0014\u0003\u0016\u0014\u0003\u0005\u0014\u0003"
+                + "\u0018\u0014\u0003\u0019\u0014\u0003\u001a\u0014\u0003\u001b\u0014\u0003"
+                + "\u0006\u0014\u0003\u001c\u0014\u0003\u001d\u0014\u0003\u001e\u0014\u0003"
+                + "\u0020\u0014\u0003\u0007\u0014\u0003\u0021\u0014\u0003\"\u0014\u0003"
+                + "\u0023\u0014\u0003\u0024\u0014\u0003\u0008\u0014\u0003\u0024\u0015\n"
+                + "\u0023\u0015\n\"\u0015\n\u0021\u0015\n\u0007\u0015\n"
+                + "\u0020\u0015\n\u001e\u0015\n\u001d\u0015\n\u001c\u0015\n"
+                + "\u0006\u0015\n\u001b\u0015\n\u001a\u0015\n\u0019\u0015\n"
+                + "\u0018\u0015\n\u0005\u0015\n\u0016\u0015\n\u0015\u0015\n"
+                + "\u001f\u0015\n\u0013\u0015\n\u0004\u0015\n\u0012\u0015\n"
+                + "\u0011\u0015\n\u0010\u0015\n\u000f\u0015\n\u0002\u0015\n"
+                + "\u000e\u0015\n\r\u0015\n\u000c\u0015\n\u0009\u0015\n"
+                + "\u0015\u000b\u0000\u0009\u0015\u0003\u000c\u0015\u0003\r\u0015\u0003"
+                + "\u000e\u0015\u0003\u0002\u0015\u0003\u000f\u0015\u0003\u0010\u0015\u0003"
+                + "\u0011\u0015\u0003\u0012\u0015\u0003\u0004\u0015\u0003\u0013\u0015\u0003"
+                + "\u001f\u0015\u0003\u0015\u0015\u0003\u0016\u0015\u0003\u0005\u0015\u0003"
+                + "\u0018\u0015\u0003\u0019\u0015\u0003\u001a\u0015\u0003\u001b\u0015\u0003"
+                + "\u0006\u0015\u0003\u001c\u0015\u0003\u001d\u0015\u0003\u001e\u0015\u0003"
+                + "\u0020\u0015\u0003\u0007\u0015\u0003\u0021\u0015\u0003\"\u0015\u0003"
+                + "\u0023\u0015\u0003\u0024\u0015\u0003\u0008\u0015\u0003\u0024\u0016\n"
+                + "\u0023\u0016\n\"\u0016\n\u0021\u0016\n\u0007\u0016\n"
+                + "\u0020\u0016\n\u001e\u0016\n\u001d\u0016\n\u001c\u0016\n"
+                + "\u0006\u0016\n\u001b\u0016\n\u001a\u0016\n\u0019\u0016\n"
+                + "\u0018\u0016\n\u0005\u0016\n\u0016\u0016\n\u0015\u0016\n"
+                + "\u001f\u0016\n\u0013\u0016\n\u0004\u0016\n\u0012\u0016\n"
+                + "\u0011\u0016\n\u0010\u0016\n\u000f\u0016\n\u0002\u0016\n"
+                + "\u000e\u0016\n\r\u0016\n\u000c\u0016\n\u0009\u0016\n"
+                + "\u0016\u000b\u0000\u0009\u0016\u0003\u000c\u0016\u0003\r\u0016\u0003"
+                + "\u000e\u0016\u0003\u0002\u0016\u0003\u000f\u0016\u0003\u0010\u0016\u0003"
+                + "\u0011\u0016\u0003\u0012\u0016\u0003\u0004\u0016\u0003\u0013\u0016\u0003"
+                + "\u001f\u0016\u0003\u0015\u0016\u0003\u0016\u0016\u0003\u0005\u0016\u0003"
+                + "\u0018\u0016\u0003\u0019\u0016\u0003\u001a\u0016\u0003\u001b\u0016\u0003"
+                + "\u0006\u0016\u0003\u001c\u0016\u0003\u001d\u0016\u0003\u001e\u0016\u0003"
+                + "\u0020\u0016\u0003\u0007\u0016\u0003\u0021\u0016\u0003\"\u0016\u0003"
+                + "\u0023\u0016\u0003\u0024\u0016\u0003\u0008\u0016\u0003\u0024\u0017\n"
+                + "\u0023\u0017\n\"\u0017\n\u0021\u0017\n\u0007\u0017\n"
+                + "\u0020\u0017\n\u001e\u0017\n\u001d\u0017\n\u001c\u0017\n"
+                + "\u0006\u0017\n\u001b\u0017\n\u001a\u0017\n\u0019\u0017\n"
+                + "\u0018\u0017\n\u0005\u0017\n\u0016\u0017\n\u0015\u0017\n"
+                + "\u001f\u0017\n\u0013\u0017\n\u0004\u0017\n\u0012\u0017\n"
+                + "\u0011\u0017\n\u0010\u0017\n\u000f\u0017\n\u0002\u0017\n"
+                + "\u000e\u0017\n\r\u0017\n\u000c\u0017\n\u0009\u0017\n"
+                + "\u0017\u000b\u0000\u0009\u0017\u0003\u000c\u0017\u0003\r\u0017\u0003"
+                + "\u000e\u0017\u0003\u0002\u0017\u0003\u000f\u0017\u0003\u0010\u0017\u0003"
+                + "\u0011\u0017\u0003\u0012\u0017\u0003\u0004\u0017\u0003\u0013\u0017\u0003"
+                + "\u001f\u0017\u0003\u0015\u0017\u0003\u0016\u0017\u0003\u0005\u0017\u0003"
+                + "\u0018\u0017\u0003\u0019\u0017\u0003\u001a\u0017\u0003\u001b\u0017\u0003"
+                + "\u0006\u0017\u0003\u001c\u0017\u0003\u001d\u0017\u0003\u001e\u0017\u0003"
+                + "\u0020\u0017\u0003\u0007\u0017\u0003\u0021\u0017\u0003\"\u0017\u0003"
+                + "\u0023\u0017\u0003\u0024\u0017\u0003\u0008\u0017\u0003\u0024\u0018\n"
+                + "\u0023\u0018\n\"\u0018\n\u0021\u0018\n\u0007\u0018\n"
+                + "\u0020\u0018\n\u001e\u0018\n\u001d\u0018\n\u001c\u0018\n"
+                + "\u0006\u0018\n\u001b\u0018\n\u001a\u0018\n\u0019\u0018\n"
+                + "\u0018\u0018\n\u0005\u0018\n\u0016\u0018\n\u0015\u0018\n"
+                + "\u001f\u0018\n\u0013\u0018\n\u0004\u0018\n\u0012\u0018\n"
+                + "\u0011\u0018\n\u0010\u0018\n\u000f\u0018\n\u0002\u0018\n"
+                + "\u000e\u0018\n\r\u0018\n\u000c\u0018\n\u0009\u0018\n"
+                + "\u0018\u000b\u0000\u0009\u0018\u0003\u000c\u0018\u0003\r\u0018\u0003"
+                + "\u000e\u0018\u0003\u0002\u0018\u0003\u000f\u0018\u0003\u0010\u0018\u0003"
+                + "\u0011\u0018\u0003\u0012\u0018\u0003\u0004\u0018\u0003\u0013\u0018\u0003"
+                + "\u001f\u0018\u0003\u0015\u0018\u0003\u0016\u0018\u0003\u0005\u0018\u0003"
+                + "\u0018\u0018\u0003\u0019\u0018\u0003\u001a\u0018\u0003\u001b\u0018\u0003"
+                + "\u0006\u0018\u0003\u001c\u0018\u0003\u001d\u0018\u0003\u001e\u0018\u0003"
+                + "\u0020\u0018\u0003\u0007\u0018\u0003\u0021\u0018\u0003\"\u0018\u0003"
+                + "\u0023\u0018\u0003\u0024\u0018\u0003\u0008\u0018\u0003\u0024\u0019\n"
+                + "\u0023\u0019\n\"\u0019\n\u0021\u0019\n\u0007\u0019\n"
+                + "\u0020\u0019\n\u001e\u0019\n\u001d\u0019\n\u001c\u0019\n"
+                + "\u0006\u0019\n\u001b\u0019\n\u001a\u0019\n\u0019\u0019\n"
+                + "\u0018\u0019\n\u0005\u0019\n\u0016\u0019\n\u0015\u0019\n"
+                + "\u001f\u0019\n\u0013\u0019\n\u0004\u0019\n\u0012\u0019\n"
+                + "\u0011\u0019\n\u0010\u0019\n\u000f\u0019\n\u0002\u0019\n"
+                + "\u000e\u0019\n\r\u0019\n\u000c\u0019\n\u0009\u0019\n"
+                + "\u0019\u000b\u0000\u0009\u0019\u0003\u000c\u0019\u0003\r\u0019\u0003"
+                + "\u000e\u0019\u0003\u0002\u0019\u0003\u000f\u0019\u0003\u0010\u0019\u0003"
+                + "\u0011\u0019\u0003\u0012\u0019\u0003\u0004\u0019\u0003\u0013\u0019\u0003"
+                + "\u001f\u0019\u0003\u0015\u0019\u0003\u0016\u0019\u0003\u0005\u0019\u0003"
+                + "\u0018\u0019\u0003\u0019\u0019\u0003\u001a\u0019\u0003\u001b\u0019\u0003"
+                + "\u0006\u0019\u0003\u001c\u0019\u0003\u001d\u0019\u0003\u001e\u0019\u0003"
+                + "\u0020\u0019\u0003\u0007\u0019\u0003\u0021\u0019\u0003\"\u0019\u0003"
+                + "\u0023\u0019\u0003\u0024\u0019\u0003\u0008\u0019\u0003\u0024\u001a\n"
+                + "\u0023\u001a\n\"\u001a\n\u0021\u001a\n\u0007\u001a\n"
+                + "\u0020\u001a\n\u001e\u001a\n\u001d\u001a\n\u001c\u001a\n"
+                + "\u0006\u001a\n\u001b\u001a\n\u001a\u001a\n\u0019\u001a\n"
+                + "\u0018\u001a\n\u0005\u001a\n\u0016\u001a\n\u0015\u001a\n"
+                + "\u001f\u001a\n\u0013\u001a\n\u0004\u001a\n\u0012\u001a\n"
+                + "\u0011\u001a\n\u0010\u001a\n\u000f\u001a\n\u0002\u001a\n"
+                + "\u000e\u001a\n\r\u001a\n\u000c\u001a\n\u0009\u001a\n"
+                + "\u001a\u000b\u0000\u0009\u001a\u0003\u000c\u001a\u0003\r\u001a\u0003"
+                + "\u000e\u001a\u0003\u0002\u001a\u0003\u000f\u001a\u0003\u0010\u001a\u0003"
+                + "\u0011\u001a\u0003\u0012\u001a\u0003\u0004\u001a\u0003\u0013\u001a\u0003"
+                + "\u001f\u001a\u0003\u0015\u001a\u0003\u0016\u001a\u0003\u0005\u001a\u0003"
+                + "\u0018\u001a\u0003\u0019\u001a\u0003\u001a\u001a\u0003\u001b\u001a\u0003"
+                + "\u0006\u001a\u0003\u001c\u001a\u0003\u001d\u001a\u0003\u001e\u001a\u0003"
+                + "\u0020\u001a\u0003\u0007\u001a\u0003\u0021\u001a\u0003\"\u001a\u0003"
+                + "\u0023\u001a\u0003\u0024\u001a\u0003\u0008\u001a\u0003\u0024\u001b\n"
+                + "\u0023\u001b\n\"\u001b\n\u0021\u001b\n\u0007\u001b\n"
+                + "\u0020\u001b\n\u001e\u001b\n\u001d\u001b\n\u001c\u001b\n"
+                + "\u0006\u001b\n\u001b\u001b\n\u001a\u001b\n\u0019\u001b\n"
+                + "\u0018\u001b\n\u0005\u001b\n\u0016\u001b\n\u0015\u001b\n"
+                + "\u001f\u001b\n\u0013\u001b\n\u0004\u001b\n\u0012\u001b\n"
+                + "\u0011\u001b\n\u0010\u001b\n\u000f\u001b\n\u0002\u001b\n"
+                + "\u000e\u001b\n\r\u001b\n\u000c\u001b\n\u0009\u001b\n"
+                + "\u001b\u000b\u0000\u0009\u001b\u0003\u000c\u001b\u0003\r\u001b\u0003"
+                + "\u000e\u001b\u0003\u0002\u001b\u0003\u000f\u001b\u0003\u0010\u001b\u0003"
+                + "\u0011\u001b\u0003\u0012\u001b\u0003\u0004\u001b\u0003\u0013\u001b\u0003"
+                + "\u001f\u001b\u0003\u0015\u001b\u0003\u0016\u001b\u0003\u0005\u001b\u0003"
+                + "\u0018\u001b\u0003\u0019\u001b\u0003\u001a\u001b\u0003\u001b\u001b\u0003"
+                + "\u0006\u001b\u0003\u001c\u001b\u0003\u001d\u001b\u0003\u001e\u001b\u0003"
+                + "\u0020\u001b\u0003\u0007\u001b\u0003\u0021\u001b\u0003\"\u001b\u0003"
+                + "\u0023\u001b\u0003\u0024\u001b\u0003\u0008\u001b\u0003\u0024\u0006\n"
+                + "\u0023\u0006\n\"\u0006\n\u0021\u0006\n\u0007\u0006\n"
+                + "\u0020\u0006\n\u001e\u0006\n\u001d\u0006\n\u001c\u0006\n"
+                + "\u0006\u0006\n\u001b\u0006\n\u001a\u0006\n\u0019\u0006\n"
+                + "\u0018\u0006\n\u0005\u0006\n\u0016\u0006\n\u0015\u0006\n"
+                + "\u001f\u0006\n\u0013\u0006\n\u0004\u0006\n\u0012\u0006\n"
+                + "\u0011\u0006\n\u0010\u0006\n\u000f\u0006\n\u0002\u0006\n"
+                + "\u000e\u0006\n\r\u0006\n\u000c\u0006\n\u0009\u0006\n"
+                + "\u0006\u000b\u0000\u0009\u0006\u0003\u000c\u0006\u0003\r\u0006\u0003"
+                + "\u000e\u0006\u0003\u0002\u0006\u0003\u000f\u0006\u0003\u0010\u0006\u0003"
+                + "\u0011\u0006\u0003\u0012\u0006\u0003\u0004\u0006\u0003\u0013\u0006\u0003"
+                + "\u001f\u0006\u0003\u0015\u0006\u0003\u0016\u0006\u0003\u0005\u0006\u0003"
+                + "\u0018\u0006\u0003\u0019\u0006\u0003\u001a\u0006\u0003\u001b\u0006\u0003"
+                + "\u0006\u0006\u0003\u001c\u0006\u0003\u001d\u0006\u0003\u001e\u0006\u0003"
+                + "\u0020\u0006\u0003\u0007\u0006\u0003\u0021\u0006\u0003\"\u0006\u0003"
+                + "\u0023\u0006\u0003\u0024\u0006\u0003\u0008\u0006\u0003\u0024\u001c\n"
+                + "\u0023\u001c\n\"\u001c\n\u0021\u001c\n\u0007\u001c\n"
+                + "\u0020\u001c\n\u001e\u001c\n\u001d\u001c\n\u001c\u001c\n"
+                + "\u0006\u001c\n\u001b\u001c\n\u001a\u001c\n\u0019\u001c\n"
+                + "\u0018\u001c\n\u0005\u001c\n\u0016\u001c\n\u0015\u001c\n"
+                + "\u001f\u001c\n\u0013\u001c\n\u0004\u001c\n\u0012\u001c\n"
+                + "\u0011\u001c\n\u0010\u001c\n\u000f\u001c\n\u0002\u001c\n"
+                + "\u000e\u001c\n\r\u001c\n\u000c\u001c\n\u0009\u001c\n"
+                + "\u001c\u000b\u0000\u0009\u001c\u0003\u000c\u001c\u0003\r\u001c\u0003"
+                + "\u000e\u001c\u0003\u0002\u001c\u0003\u000f\u001c\u0003\u0010\u001c\u0003"
+                + "\u0011\u001c\u0003\u0012\u001c\u0003\u0004\u001c\u0003\u0013\u001c\u0003"
+                + "\u001f\u001c\u0003\u0015\u001c\u0003\u0016\u001c\u0003\u0005\u001c\u0003"
+                + "\u0018\u001c\u0003\u0019\u001c\u0003\u001a\u001c\u0003\u001b\u001c\u0003"
+                + "\u0006\u001c\u0003\u001c\u001c\u0003\u001d\u001c\u0003\u001e\u001c\u0003"
+                + "\u0020\u001c\u0003\u0007\u001c\u0003\u0021\u001c\u0003\"\u001c\u0003"
+                + "\u0023\u001c\u0003\u0024\u001c\u0003\u0008\u001c\u0003\u0024\u001d\n"
+                + "\u0023\u001d\n\"\u001d\n\u0021\u001d\n\u0007\u001d\n"
+                + "\u0020\u001d\n\u001e\u001d\n\u001d\u001d\n\u001c\u001d\n"
+                + "\u0006\u001d\n\u001b\u001d\n\u001a\u001d\n\u0019\u001d\n"
+                + "\u0018\u001d\n\u0005\u001d\n\u0016\u001d\n\u0015\u001d\n"
+                + "\u001f\u001d\n\u0013\u001d\n\u0004\u001d\n\u0012\u001d\n"
+                + "\u0011\u001d\n\u0010\u001d\n\u000f\u001d\n\u0002\u001d\n"
+                + "\u000e\u001d\n\r\u001d\n\u000c\u001d\n\u0009\u001d\n"
+                + "\u001d\u000b\u0000\u0009\u001d\u0003\u000c\u001d\u0003\r\u001d\u0003"
+                + "\u000e\u001d\u0003\u0002\u001d\u0003\u000f\u001d\u0003\u0010\u001d\u0003"
+                + "\u0011\u001d\u0003\u0012\u001d\u0003\u0004\u001d\u0003\u0013\u001d\u0003"
+                + "\u001f\u001d\u0003\u0015\u001d\u0003\u0016\u001d\u0003\u0005\u001d\u0003"
+                + "\u0018\u001d\u0003\u0019\u001d\u0003\u001a\u001d\u0003\u001b\u001d\u0003"
+                + "\u0006\u001d\u0003\u001c\u001d\u0003\u001d\u001d\u0003\u001e\u001d\u0003"
+                + "\u0020\u001d\u0003\u0007\u001d\u0003\u0021\u001d\u0003\"\u001d\u0003"
+                + "\u0023\u001d\u0003\u0024\u001d\u0003\u0008\u001d\u0003\u0024\u001e\n"
+                + "\u0023\u001e\n\"\u001e\n\u0021\u001e\n\u0007\u001e\n"
+                + "\u0020\u001e\n\u001e\u001e\n\u001d\u001e\n\u001c\u001e\n"
+                + "\u0006\u001e\n\u001b\u001e\n\u001a\u001e\n\u0019\u001e\n"
+                + "\u0018\u001e\n\u0005\u001e\n\u0016\u001e\n\u0015\u001e\n"
+                + "\u001f\u001e\n\u0013\u001e\n\u0004\u001e\n\u0012\u001e\n"
+                + "\u0011\u001e\n\u0010\u001e\n\u000f\u001e\n\u0002\u001e\n"
+                + "\u000e\u001e\n\r\u001e\n\u000c\u001e\n\u0009\u001e\n"
+                + "\u001e\u000b\u0000\u0009\u001e\u0003\u000c\u001e\u0003\r\u001e\u0003"
+                + "\u000e\u001e\u0003\u0002\u001e\u0003\u000f\u001e\u0003\u0010\u001e\u0003"
+                + "\u0011\u001e\u0003\u0012\u001e\u0003\u0004\u001e\u0003\u0013\u001e\u0003"
+                + "\u001f\u001e\u0003\u0015\u001e\u0003\u0016\u001e\u0003\u0005\u001e\u0003"
+                + "\u0018\u001e\u0003\u0019\u001e\u0003\u001a\u001e\u0003\u001b\u001e\u0003"
+                + "\u0006\u001e\u0003\u001c\u001e\u0003\u001d\u001e\u0003\u001e\u001e\u0003"
+                + "\u0020\u001e\u0003\u0007\u001e\u0003\u0021\u001e\u0003\"\u001e\u0003"
+                + "\u0023\u001e\u0003\u0024\u001e\u0003\u0008\u001e\u0003\u0024\u0001\n"
+                + "\u0023\u0001\n\"\u0001\n\u0021\u0001\n\u0007\u0001\n"
+                + "\u0020\u0001\n\u001e\u0001\n\u001d\u0001\n\u001c\u0001\n"
+                + "\u0006\u0001\n\u001b\u0001\n\u001a\u0001\n\u0019\u0001\n"
+                + "\u0018\u0001\n\u0005\u0001\n\u0016\u0001\n\u0015\u0001\n"
+                + "\u001f\u0001\n\u0013\u0001\n\u0004\u0001\n\u0012\u0001\n"
+                + "\u0011\u0001\n\u0010\u0001\n\u000f\u0001\n\u0002\u0001\n"
+                + "\u000e\u0001\n\r\u0001\n\u000c\u0001\n\u0009\u0001\n",
+                "\u0000\u0000\u0001\u0001\u0002\u0002\u0003\u0003\u0004\u0004\u0005\u0005"
+                + "\u0006\u0006\u0007\u0007\u0008\u0008\u0009\u0009\n\n\u000b\u000b"
+                + "\u000c\u000c\r\r\u000e\u000e\u000f\u000f\u0010\u0010\u0011\u0011"
+                + "\u0012\u0012\u0013\u0013\u0014\u0014\u0015\u0015\u0016\u0016\u0017\u0017"
+                + "\u0018\u0018\u0019\u0019\u001a\u001a\u001b\u001b\u001c\u001c\u001d\u001d"
+                + "\u001e\u001e\u001f\u001f\u0020\u0020\u0021\u0021\"\"\u0023\u0023"
+                + "\u0024\u0024\u0025\u0025\u0026\u0026\u0027\u0027\u0028\u0028\u0029\u0029"
+                + "\u002a\u002a\u002b\u002b\u002c\u002c\u002d\u002d\u002e\u002e\u002f\u002f"
+                + "\u0030\u0030\u0031\u0031\u0032\u0032\u0033\u0033\u0034\u0034\u0035\u0035"
+                + "\u0036\u0036\u0037\u0037\u0038\u0038\u0039\u0039\u003a\u003a\u003b\u003b"
+                + "\u003c\u003c\u003d\u003d\u003e\u003e\u003f\u003f\u0040\u0040\u0041\u0041"
+                + "\u0042\u0042\u0043\u0043\u0044\u0044\u0045\u0045\u0046\u0046\u0047\u0047"
+                + "\u0048\u0048\u0049\u0049\u004a\u004a\u004b\u004b\u004c\u004c\u004d\u004d"
+                + "\u004e\u004e\u004f\u004f\u0050\u0050\u0051\u0051\u0052\u0052\u0053\u0053"
+                + "\u0054\u0054\u0055\u0055\u0056\u0056\u0057\u0057\u0058\u0058\u0059\u0059"
+                + "\u005a\u005a\u005b\u005b\\\\\u005d\u005d\u005e\u005e\u005f\u005f"
+                + "\u0060\u0060\u0061\u0061\u0062\u0062\u0063\u0063\u0064\u0064\u0065\u0065"
+                + "\u0066\u0066\u0067\u0067\u0068\u0068\u0069\u0069\u006a\u006a\u006b\u006b"
+                + "\u006c\u006c\u006d\u006d\u006e\u006e\u006f\u006f\u0070\u0070\u0071\u0071"
+                + "\u0072\u0072\u0073\u0073\u0074\u0074\u0075\u0075\u0076\u0076\u0077\u0077"
+                + "\u0078\u0078\u0079\u0079\u007a\u007a\u007b\u007b\u007c\u007c\u007d\u007d"
+                + "\u007e\u007e\u007f\u007f\u0080\u0080\u0081\u0081\u0082\u0082\u0083\u0083"
+                + "\u0084\u0084\u0085\u0085\u0086\u0086\u0087\u0087\u0088\u0088\u0089\u0089"
+                + "\u008a\u008a\u008b\u008b\u008c\u008c\u008d\u008d\u008e\u008e\u008f\u008f"
+                + "\u0090\u0090\u0091\u0091\u0092\u0092\u0093\u0093\u0094\u0094\u0095\u0095"
+                + "\u0096\u0096\u0097\u0097\u0098\u0098\u0099\u0099\u009a\u009a\u009b\u009b"
+                + "\u009c\u009c\u009d\u009d\u009e\u009e\u009f\u009f\u00a0\u00a0\u00a1\u00a1"
+                + "\u00a2\u00a2\u00a3\u00a3\u00a4\u00a4\u00a5\u00a5\u00a6\u00a6\u00a7\u00a7"
+                + "\u00a8\u00a8\u00a9\u00a9\u00aa\u00aa\u00ab\u00ab\u00ac\u00ac\u00ad\u00ad"
+                + "\u00ae\u00ae\u00af\u00af\u00b0\u00b0\u00b1\u00b1\u00b2\u00b2\u00b3\u00b3"
+                + "\u00b4\u00b4\u00b5\u00b5\u00b6\u00b6\u00b7\u00b7\u00b8\u00b8\u00b9\u00b9"
+                + "\u00ba\u00ba\u00bb\u00bb\u00bc\u00bc\u00bd\u00bd\u00be\u00be\u00bf\u00bf"
+                + "\u00c0\u00c0\u00c1\u00c1\u00c2\u00c2\u00c3\u00c3\u00c4\u00c4\u00c5\u00c5"
+                + "\u00c6\u00c6\u00c7\u00c7\u00c8\u00c8\u00c9\u00c9\u00ca\u00ca\u00cb\u00cb"
+                + "\u00cc\u00cc\u00cd\u00cd\u00ce\u00ce\u00cf\u00cf\u00d0\u00d0\u00d1\u00d1"
+                + "\u00d2\u00d2\u00d3\u00d3\u00d4\u00d4\u00d5\u00d5\u00d6\u00d6\u00d7\u00d7"
+                + "\u00d8\u00d8\u00d9\u00d9\u00da\u00da\u00db\u00db\u00dc\u00dc\u00dd\u00dd"
+                + "\u00de\u00de\u00df\u00df\u00e0\u00e0\u00e1\u00e1\u00e2\u00e2\u00e3\u00e3"
+                + "\u00e4\u00e4\u00e5\u00e5\u00e6\u00e6\u00e7\u00e7\u00e8\u00e8\u00e9\u00e9"
+                + "\u00ea\u00ea\u00eb\u00eb\u00ec\u00ec\u00ed\u00ed\u00ee\u00ee\u00ef\u00ef"
+                + "\u00f0\u00f0\u00f1\u00f1\u00f2\u00f2\u00f3\u00f3\u00f4\u00f4\u00f5\u00f5"
+                + "\u00f6\u00f6\u00f7\u00f7\u00f8\u00f8\u00f9\u00f9\u00fa\u00fa\u00fb\u00fb"
+                + "\u00fc\u00fc\u00fd\u00fd\u00fe\u00fe\u00ff\u00ff\u0100\u0100\u0101\u0101"
+                + "\u0102\u0102\u0103\u0103\u0104\u0104\u0105\u0105\u0106\u0106\u0107\u0107"
+                + "\u0108\u0108\u0109\u0109\u010a\u010a\u010b\u010b\u010c\u010c\u010d\u010d"
+                + "\u010e\u010e\u010f\u010f\u0110\u0110\u0111\u0111\u0112\u0112\u0113\u0113"
+                + "\u0114\u0114\u0115\u0115\u0116\u0116\u0117\u0117\u0118\u0118\u0119\u0119"
+                + "\u011a\u011a\u011b\u011b\u011c\u011c\u011d\u011d\u011e\u011e\u011f\u011f"
+                + "\u0120\u0120\u0121\u0121\u0122\u0122\u0123\u0123\u0124\u0124\u0125\u0125"
+                + "\u0126\u0126\u0127\u0127\u0128\u0128\u0129\u0129\u012a\u012a\u012b\u012b"
+                + "\u012c\u012c\u012d\u012d\u012e\u012e\u012f\u012f\u0130\u0130\u0131\u0131"
+                + "\u0132\u0132\u0133\u0133\u0134\u0134\u0135\u0135\u0136\u0136\u0137\u0137"
+                + "\u0138\u0138\u0139\u0139\u013a\u013a\u013b\u013b\u013c\u013c\u013d\u013d"
+                + "\u013e\u013e\u013f\u013f\u0140\u0140\u0141\u0141\u0142\u0142\u0143\u0143"
+                + "\u0144\u0144\u0145\u0145\u0146\u0146\u0147\u0147\u0148\u0148\u0149\u0149"
+                + "\u014a\u014a\u014b\u014b\u014c\u014c\u014d\u014d\u014e\u014e\u014f\u014f"
+                + "\u0150\u0150\u0151\u0151\u0152\u0152\u0153\u0153\u0154\u0154\u0155\u0155"
+                + "\u0156\u0156\u0157\u0157\u0158\u0158\u0159\u0159\u015a\u015a\u015b\u015b"
+                + "\u015c\u015c\u015d\u015d\u015e\u015e\u015f\u015f\u0160\u0160\u0161\u0161"
+                + "\u0162\u0162\u0163\u0163\u0164\u0164\u0165\u0165\u0166\u0166\u0167\u0167"
+                + "\u0168\u0168\u0169\u0169\u016a\u016a\u016b\u016b\u016c\u016c\u016d\u016d"
+                + "\u016e\u016e\u016f\u016f\u0170\u0170\u0171\u0171\u0172\u0172\u0173\u0173"
+                + "\u0174\u0174\u0175\u0175\u0176\u0176\u0177\u0177\u0178\u0178\u0179\u0179"
+                + "\u017a\u017a\u017b\u017b\u017c\u017c\u017d\u017d\u017e\u017e\u017f\u017f"
+                + "\u0180\u0180\u0181\u0181\u0182\u0182\u0183\u0183\u0184\u0184\u0185\u0185"
+                + "\u0186\u0186\u0187\u0187\u0188\u0188\u0189\u0189\u018a\u018a\u018b\u018b"
+                + "\u018c\u018c\u018d\u018d\u018e\u018e\u018f\u018f\u0190\u0190\u0191\u0191"
+                + "\u0192\u0192\u0193\u0193\u0194\u0194\u0195\u0195\u0196\u0196\u0197\u0197"
+                + "\u0198\u0198\u0199\u0199\u019a\u019a\u019b\u019b\u019c\u019c\u019d\u019d"
+                + "\u019e\u019e\u019f\u019f\u01a0\u01a0\u01a1\u01a1\u01a2\u01a2\u01a3\u01a3"
+                + "\u01a4\u01a4\u01a5\u01a5\u01a6\u01a6\u01a7\u01a7\u01a8\u01a8\u01a9\u01a9"
+                + "\u01aa\u01aa\u01ab\u01ab\u01ac\u01ac\u01ad\u01ad\u01ae\u01ae\u01af\u01af"
+                + "\u01b0\u01b0\u01b1\u01b1\u01b2\u01b2\u01b3\u01b3\u01b4\u01b4\u01b5\u01b5"
+                + "\u01b6\u01b6\u01b7\u01b7\u01b8\u01b8\u01b9\u01b9\u01ba\u01ba\u01bb\u01bb"
+                + "\u01bc\u01bc\u01bd\u01bd\u01be\u01be\u01bf\u01bf\u01c0\u01c0\u01c1\u01c1"
+                + "\u01c2\u01c2\u01c3\u01c3\u01c4\u01c4\u01c5\u01c5\u01c6\u01c6\u01c7\u01c7"
+                + "\u01c8\u01c8\u01c9\u01c9\u01ca\u01ca\u01cb\u01cb\u01cc\u01cc\u01cd\u01cd"
+                + "\u01ce\u01ce\u01cf\u01cf\u01d0\u01d0\u01d1\u01d1\u01d2\u01d2\u01d3\u01d3"
+                + "\u01d4\u01d4\u01d5\u01d5\u01d6\u01d6\u01d7\u01d7\u01d8\u01d8\u01d9\u01d9"
+                + "\u01da\u01da\u01db\u01db\u01dc\u01dc\u01dd\u01dd\u01de\u01de\u01df\u01df"
+                + "\u01e0\u01e0\u01e1\u01e1\u01e2\u01e2\u01e3\u01e3\u01e4\u01e4\u01e5\u01e5"
+                + "\u01e6\u01e6\u01e7\u01e7\u01e8\u01e8\u01e9\u01e9\u01ea\u01ea\u01eb\u01eb"
+                + "\u01ec\u01ec\u01ed\u01ed\u01ee\u01ee\u01ef\u01ef\u01f0\u01f0\u01f1\u01f1"
+                + "\u01f2\u01f2\u01f3\u01f3\u01f4\u01f4\u01f5\u01f5\u01f6\u01f6\u01f7\u01f7"
+                + "\u01f8\u01f8\u01f9\u01f9\u01fa\u01fa\u01fb\u01fb\u01fc\u01fc\u01fd\u01fd"
+                + "\u01fe\u01fe\u01ff\u01ff\u0200\u0200\u0201\u0201\u0202\u0202\u0203\u0203"
+                + "\u0204\u0204\u0205\u0205\u0206\u0206\u0207\u0207\u0208\u0208\u0209\u0209"
+                + "\u020a\u020a\u020b\u020b\u020c\u020c\u020d\u020d\u020e\u020e\u020f\u020f"
+                + "\u0210\u0210\u0211\u0211\u0212\u0212\u0213\u0213\u0214\u0214\u0215\u0215"
+                + "\u0216\u0216\u0217\u0217\u0218\u0218\u0219\u0219\u021a\u021a\u021b\u021b"
+                + "\u021c\u021c\u021d\u021d\u021e\u021e\u021f\u021f\u0220\u0220\u0221\u0221"
+                + "\u0222\u0222\u0223\u0223\u0224\u0224\u0225\u0225\u0226\u0226\u0227\u0227"
+                + "\u0228\u0228\u0229\u0229\u022a\u022a\u022b\u022b\u022c\u022c\u022d\u022d"
+                + "\u022e\u022e\u022f\u022f\u0230\u0230\u0231\u0231\u0232\u0232\u0233\u0233"
+                + "\u0234\u0234\u0235\u0235\u0236\u0236\u0237\u0237\u0238\u0238\u0239\u0239"
+                + "\u023a\u023a\u023b\u023b\u023c\u023c\u023d\u023d\u023e\u023e\u023f\u023f"
+                + "\u0240\u0240\u0241\u0241\u0242\u0242\u0243\u0243\u0244\u0244\u0245\u0245"
+                + "\u0246\u0246\u0247\u0247\u0248\u0248\u0249\u0249\u024a\u024a\u024b\u024b"
+                + "\u024c\u024c\u024d\u024d\u024e\u024e\u024f\u024f\u0250\u0250\u0251\u0251"
+                + "\u0252\u0252\u0253\u0253\u0254\u0254\u0255\u0255\u0256\u0256\u0257\u0257"
+                + "\u0258\u0258\u0259\u0259\u025a\u025a\u025b\u025b\u025c\u025c\u025d\u025d"
+                + "\u025e\u025e\u025f\u025f\u0260\u0260\u0261\u0261\u0262\u0262\u0263\u0263"
+                + "\u0264\u0264\u0265\u0265\u0266\u0266\u0267\u0267\u0268\u0268\u0269\u0269"
+                + "\u026a\u026a\u026b\u026b\u026c\u026c\u026d\u026d\u026e\u026e\u026f\u026f"
+                + "\u0270\u0270\u0271\u0271\u0272\u0272\u0273\u0273\u0274\u0274\u0275\u0275"
+                + "\u0276\u0276\u0277\u0277\u0278\u0278\u0279\u0279\u027a\u027a\u027b\u027b"
+                + "\u027c\u027c\u027d\u027d\u027e\u027e\u027f\u027f\u0280\u0280\u0281\u0281"
+                + "\u0282\u0282\u0283\u0283\u0284\u0284\u0285\u0285\u0286\u0286\u0287\u0287"
+                + "\u0288\u0288\u0289\u0289\u028a\u028a\u028b\u028b\u028c\u028c\u028d\u028d"
+                + "\u028e\u028e\u028f\u028f\u0290\u0290\u0291\u0291\u0292\u0292\u0293\u0293"
+                + "\u0294\u0294\u0295\u0295\u0296\u0296\u0297\u0297\u0298\u0298\u0299\u0299"
+                + "\u029a\u029a\u029b\u029b\u029c\u029c\u029d\u029d\u029e\u029e\u029f\u029f"
+                + "\u02a0\u02a0\u02a1\u02a1\u02a2\u02a2\u02a3\u02a3\u02a4\u02a4\u02a5\u02a5"
+                + "\u02a6\u02a6\u02a7\u02a7\u02a8\u02a8\u02a9\u02a9\u02aa\u02aa\u02ab\u02ab"
+                + "\u02ac\u02ac\u02ad\u02ad\u02ae\u02ae\u02af\u02af\u02b0\u02b0\u02b1\u02b1"
+                + "\u02b2\u02b2\u02b3\u02b3\u02b4\u02b4\u02b5\u02b5\u02b6\u02b6\u02b7\u02b7"
+                + "\u02b8\u02b8\u02b9\u02b9\u02ba\u02ba\u02bb\u02bb\u02bc\u02bc\u02bd\u02bd"
+                + "\u02be\u02be\u02bf\u02bf\u02c0\u02c0\u02c1\u02c1\u02c2\u02c2\u02c3\u02c3"
+                + "\u02c4\u02c4\u02c5\u02c5\u02c6\u02c6\u02c7\u02c7\u02c8\u02c8\u02c9\u02c9"
+                + "\u02ca\u02ca\u02cb\u02cb\u02cc\u02cc\u02cd\u02cd\u02ce\u02ce\u02cf\u02cf"
+                + "\u02d0\u02d0\u02d1\u02d1\u02d2\u02d2\u02d3\u02d3\u02d4\u02d4\u02d5\u02d5"
+                + "\u02d6\u02d6\u02d7\u02d7\u02d8\u02d8\u02d9\u02d9\u02da\u02da\u02db\u02db"
+                + "\u02dc\u02dc\u02dd\u02dd\u02de\u02de\u02df\u02df\u02e0\u02e0\u02e1\u02e1"
+                + "\u02e2\u02e2\u02e3\u02e3\u02e4\u02e4\u02e5\u02e5\u02e6\u02e6\u02e7\u02e7"
+                + "\u02e8\u02e8\u02e9\u02e9\u02ea\u02ea\u02eb\u02eb\u02ec\u02ec\u02ed\u02ed"
+                + "\u02ee\u02ee\u02ef\u02ef\u02f0\u02f0\u02f1\u02f1\u02f2\u02f2\u02f3\u02f3"
+                + "\u02f4\u02f4\u02f5\u02f5\u02f6\u02f6\u02f7\u02f7\u02f8\u02f8\u02f9\u02f9"
+                + "\u02fa\u02fa\u02fb\u02fb\u02fc\u02fc\u02fd\u02fd\u02fe\u02fe\u02ff\u02ff"
+                + "\u0300\u0300\u0301\u0301\u0302\u0302\u0303\u0303\u0304\u0304\u0305\u0305"
+                + "\u0306\u0306\u0307\u0307\u0308\u0308\u0309\u0309\u030a\u030a\u030b\u030b"
+                + "\u030c\u030c\u030d\u030d\u030e\u030e\u030f\u030f\u0310\u0310\u0311\u0311"
+                + "\u0312\u0312\u0313\u0313\u0314\u0314\u0315\u0315\u0316\u0316\u0317\u0317"
+                + "\u0318\u0318\u0319\u0319\u031a\u031a\u031b\u031b\u031c\u031c\u031d\u031d"
+                + "\u031e\u031e\u031f\u031f\u0320\u0320\u0321\u0321\u0322\u0322\u0323\u0323"
+                + "\u0324\u0324\u0325\u0325\u0326\u0326\u0327\u0327\u0328\u0328\u0329\u0329"
+                + "\u032a\u032a\u032b\u032b\u032c\u032c\u032d\u032d\u032e\u032e\u032f\u032f"
+                + "\u0330\u0330\u0331\u0331\u0332\u0332\u0333\u0333\u0334\u0334\u0335\u0335"
+                + "\u0336\u0336\u0337\u0337\u0338\u0338\u0339\u0339\u033a\u033a\u033b\u033b"
+                + "\u033c\u033c\u033d\u033d\u033e\u033e\u033f\u033f\u0340\u0340\u0341\u0341"
+                + "\u0342\u0342\u0343\u0343\u0344\u0344\u0345\u0345\u0346\u0346\u0347\u0347"
+                + "\u0348\u0348\u0349\u0349\u034a\u034a\u034b\u034b\u034c\u034c\u034d\u034d"
+                + "\u034e\u034e\u034f\u034f\u0350\u0350\u0351\u0351\u0352\u0352\u0353\u0353"
+                + "\u0354\u0354\u0355\u0355\u0356\u0356\u0357\u0357\u0358\u0358\u0359\u0359"
+                + "\u035a\u035a\u035b\u035b\u035c\u035c\u035d\u035d\u035e\u035e\u035f\u035f"
+                + "\u0360\u0360\u0361\u0361\u0362\u0362\u0363\u0363\u0364\u0364\u0365\u0365"
+                + "\u0366\u0366\u0367\u0367\u0368\u0368\u0369\u0369\u036a\u036a\u036b\u036b"
+                + "\u036c\u036c\u036d\u036d\u036e\u036e\u036f\u036f\u0370\u0370\u0371\u0371"
+                + "\u0372\u0372\u0373\u0373\u0374\u0374\u0375\u0375\u0376\u0376\u0377\u0377"
+                + "\u0378\u0378\u0379\u0379\u037a\u037a\u037b\u037b\u037c\u037c\u037d\u037d"
+                + "\u037e\u037e\u037f\u037f\u0380\u0380\u0381\u0381\u0382\u0382\u0383\u0383"
+                + "\u0384\u0384\u0385\u0385\u0386\u0386\u0387\u0387\u0388\u0388\u0389\u0389"
+                + "\u038a\u038a\u038b\u038b\u038c\u038c\u038d\u038d\u038e\u038e\u038f\u038f"
+                + "\u0390\u0390\u0391\u0391\u0392\u0392\u0393\u0393\u0394\u0394\u0395\u0395"
+                + "\u0396\u0396\u0397\u0397\u0398\u0398\u0399\u0399\u039a\u039a\u039b\u039b"
+                + "\u039c\u039c\u039d\u039d\u039e\u039e\u039f\u039f\u03a0\u03a0\u03a1\u03a1"
+                + "\u03a2\u03a2\u03a3\u03a3\u03a4\u03a4\u03a5\u03a5\u03a6\u03a6\u03a7\u03a7"
+                + "\u03a8\u03a8\u03a9\u03a9\u03aa\u03aa\u03ab\u03ab\u03ac\u03ac\u03ad\u03ad"
+                + "\u03ae\u03ae\u03af\u03af\u03b0\u03b0\u03b1\u03b1\u03b2\u03b2\u03b3\u03b3"
+                + "\u03b4\u03b4\u03b5\u03b5\u03b6\u03b6\u03b7\u03b7\u03b8\u03b8\u03b9\u03b9"
+                + "\u03ba\u03ba\u03bb\u03bb\u03bc\u03bc\u03bd\u03bd\u03be\u03be\u03bf\u03bf"
+                + "\u03c0\u03c0\u03c1\u03c1\u03c2\u03c2\u03c3\u03c3\u03c4\u03c4\u03c5\u03c5"
+                + "\u03c6\u03c6\u03c7\u03c7\u03c8\u03c8\u03c9\u03c9\u03ca\u03ca\u03cb\u03cb"
+                + "\u03cc\u03cc\u03cd\u03cd\u03ce\u03ce\u03cf\u03cf\u03d0\u03d0\u03d1\u03d1"
+                + "\u03d2\u03d2\u03d3\u03d3\u03d4\u03d4\u03d5\u03d5\u03d6\u03d6\u03d7\u03d7"
+                + "\u03d8\u03d8\u03d9\u03d9\u03da\u03da\u03db\u03db\u03dc\u03dc\u03dd\u03dd"
+                + "\u03de\u03de\u03df\u03df\u03e0\u03e0\u03e1\u03e1\u03e2\u03e2\u03e3\u03e3"
+                + "\u03e4\u03e4\u03e5\u03e5\u03e6\u03e6\u03e7\u03e7\u03e8\u03e8\u03e9\u03e9"
+                + "\u03ea\u03ea\u03eb\u03eb\u03ec\u03ec\u03ed\u03ed\u03ee\u03ee\u03ef\u03ef"
+                + "\u03f0\u03f0\u03f1\u03f1\u03f2\u03f2\u03f3\u03f3\u03f4\u03f4\u03f5\u03f5"
+                + "\u03f6\u03f6\u03f7\u03f7\u03f8\u03f8\u03f9\u03f9\u03fa\u03fa\u03fb\u03fb"
+                + "\u03fc\u03fc\u03fd\u03fd\u03fe\u03fe\u03ff\u03ff\u0400\u0400\u0401\u0401"
+                + "\u0402\u0402\u0403\u0403\u0404\u0404\u0405\u0405\u0406\u0406\u0407\u0407"
+                + "\u0408\u0408\u0409\u0409\u040a\u040a\u040b\u040b\u040c\u040c\u040d\u040d"
+                + "\u040e\u040e\u040f\u040f\u0410\u0410\u0411\u0411\u0412\u0412\u0413\u0413"
+                + "\u0414\u0414\u0415\u0415\u0416\u0416\u0417\u0417\u0418\u0418\u0419\u0419"
+                + "\u041a\u041a\u041b\u041b\u041c\u041c\u041d\u041d\u041e\u041e\u041f\u041f"
+                + "\u0420\u0420\u0421\u0421\u0422\u0422\u0423\u0423\u0424\u0424\u0425\u0425"
+                + "\u0426\u0426\u0427\u0427\u0428\u0428\u0429\u0429\u042a\u042a\u042b\u042b"
+                + "\u042c\u042c\u042d\u042d\u042e\u042e\u042f\u042f\u0430\u0430\u0431\u0431"
+                + "\u0432\u0432\u0433\u0433\u0434\u0434\u0435\u0435\u0436\u0436\u0437\u0437"
+                + "\u0438\u0438\u0439\u0439\u043a\u043a\u043b\u043b\u043c\u043c\u043d\u043d"
+                + "\u043e\u043e\u043f\u043f\u0440\u0440\u0441\u0441\u0442\u0442\u0443\u0443"
+                + "\u0444\u0444\u0445\u0445\u0446\u0446\u0447\u0447\u0448\u0448\u0449\u0449"
+                + "\u044a\u044a\u044b\u044b\u044c\u044c\u044d\u044d\u044e\u044e\u044f\u044f"
+                + "\u0450\u0450\u0451\u0451\u0452\u0452\u0453\u0453\u0454\u0454\u0455\u0455"
+                + "\u0456\u0456\u0457\u0457\u0458\u0458\u0459\u0459\u045a\u045a\u045b\u045b"
+                + "\u045c\u045c\u045d\u045d\u045e\u045e\u045f\u045f\u0460\u0460\u0461\u0461"
+                + "\u0462\u0462\u0463\u0463\u0464\u0464\u0465\u0465\u0466\u0466\u0467\u0467"
+                + "\u0468\u0468\u0469\u0469\u046a\u046a\u046b\u046b\u046c\u046c\u046d\u046d"
+                + "\u046e\u046e\u046f\u046f\u0470\u0470\u0471\u0471\u0472\u0472\u0473\u0473"
+                + "\u0474\u0474\u0475\u0475\u0476\u0476\u0477\u0477\u0478\u0478\u0479\u0479"
+                + "\u047a\u047a\u047b\u047b\u047c\u047c\u047d\u047d\u047e\u047e\u047f\u047f"
+                + "\u0480\u0480\u0481\u0481\u0482\u0482\u0483\u0483\u0484\u0484\u0485\u0485"
+                + "\u0486\u0486\u0487\u0487\u0488\u0488\u0489\u0489\u048a\u048a\u048b\u048b"
+                + "\u048c\u048c\u048d\u048d\u048e\u048e\u048f\u048f\u0490\u0490\u0491\u0491"
+                + "\u0492\u0492\u0493\u0493\u0494\u0494\u0495\u0495\u0496\u0496\u0497\u0497"
+                + "\u0498\u0498\u0499\u0499\u049a\u049a\u049b\u049b\u049c\u049c\u049d\u049d"
+                + "\u049e\u049e\u049f\u049f\u04a0\u04a0\u04a1\u04a1\u04a2\u04a2\u04a3\u04a3"
+                + "\u04a4\u04a4\u04a5\u04a5\u04a6\u04a6\u04a7\u04a7\u04a8\u04a8\u04a9\u04a9"
+                + "\u04aa\u04aa\u04ab\u04ab\u04ac\u04ac\u04ad\u04ad\u04ae\u04ae\u04af\u04af"
+                + "\u04b0\u04b0\u04b1\u04b1\u04b2\u04b2\u04b3\u04b3\u04b4\u04b4\u04b5\u04b5"
+                + "\u04b6\u04b6\u04b7\u04b7\u04b8\u04b8\u04b9\u04b9\u04ba\u04ba\u04bb\u04bb"
+                + "\u04bc\u04bc\u04bd\u04bd\u04be\u04be\u04bf\u04bf\u04c0\u04c0\u04c1\u04c1"
+                + "\u04c2\u04c2\u04c3\u04c3\u04c4\u04c4\u04c5\u04c5\u04c6\u04c6\u04c7\u04c7"
+                + "\u04c8\u04c8\u04c9\u04c9\u04ca\u04ca\u04cb\u04cb\u04cc\u04cc\u04cd\u04cd"
+                + "\u04ce\u04ce\u04cf\u04cf\u04d0\u04d0\u04d1\u04d1\u04d2\u04d2\u04d3\u04d3"
+                + "\u04d4\u04d4\u04d5\u04d5\u04d6\u04d6\u04d7\u04d7\u04d8\u04d8\u04d9\u04d9"
+                + "\u04da\u04da\u04db\u04db\u04dc\u04dc\u04dd\u04dd\u04de\u04de\u04df\u04df"
+                + "\u04e0\u04e0\u04e1\u04e1\u04e2\u04e2\u04e3\u04e3\u04e4\u04e4\u04e5\u04e5"
+                + "\u04e6\u04e6\u04e7\u04e7\u04e8\u04e8\u04e9\u04e9\u04ea\u04ea\u04eb\u04eb"
+                + "\u04ec\u04ec\u04ed\u04ed\u04ee\u04ee\u04ef\u04ef\u04f0\u04f0\u04f1\u04f1"
+                + "\u04f2\u04f2\u04f3\u04f3\u04f4\u04f4\u04f5\u04f5\u04f6\u04f6\u04f7\u04f7"
+                + "\u04f8\u04f8\u04f9\u04f9\u04fa\u04fa\u04fb\u04fb\u04fc\u04fc\u04fd\u04fd"
+                + "\u04fe\u04fe\u04ff\u04ff\u0500\u0500\u0501\u0501\u0502\u0502\u0503\u0503"
+                + "\u0504\u0504\u0505\u0505\u0506\u0506\u0507\u0507\u0508\u0508\u0509\u0509"
+                + "\u050a\u050a\u050b\u050b\u050c\u050c\u050d\u050d\u050e\u050e\u050f\u050f"
+                + "\u0510\u0510\u0511\u0511\u0512\u0512\u0513\u0513\u0514\u0514\u0515\u0515"
+                + "\u0516\u0516\u0517\u0517\u0518\u0518\u0519\u0519\u051a\u051a\u051b\u051b"
+                + "\u051c\u051c\u051d\u051d\u051e\u051e\u051f\u051f\u0520\u0520\u0521\u0521"
+                + "\u0522\u0522\u0523\u0523\u0524\u0524\u0525\u0525\u0526\u0526\u0527\u0527"
+                + "\u0528\u0528\u0529\u0529\u052a\u052a\u052b\u052b\u052c\u052c\u052d\u052d"
+                + "\u052e\u052e\u052f\u052f\u0530\u0530\u0531\u0531\u0532\u0532\u0533\u0533"
+                + "\u0534\u0534\u0535\u0535\u0536\u0536\u0537\u0537\u0538\u0538\u0539\u0539"
+                + "\u053a\u053a\u053b\u053b\u053c\u053c\u053d\u053d\u053e\u053e\u053f\u053f"
+                + "\u0540\u0540\u0541\u0541\u0542\u0542\u0543\u0543\u0544\u0544\u0545\u0545"
+                + "\u0546\u0546\u0547\u0547\u0548\u0548\u0549\u0549\u054a\u054a\u054b\u054b"
+                + "\u054c\u054c\u054d\u054d\u054e\u054e\u054f\u054f\u0550\u0550\u0551\u0551"
+                + "\u0552\u0552\u0553\u0553\u0554\u0554\u0555\u0555\u0556\u0556\u0557\u0557"
+                + "\u0558\u0558\u0559\u0559\u055a\u055a\u055b\u055b\u055c\u055c\u055d\u055d"
+                + "\u055e\u055e\u055f\u055f\u0560\u0560\u0561\u0561\u0562\u0562\u0563\u0563"
+                + "\u0564\u0564\u0565\u0565\u0566\u0566\u0567\u0567\u0568\u0568\u0569\u0569"
+                + "\u056a\u056a\u056b\u056b\u056c\u056c\u056d\u056d\u056e\u056e\u056f\u056f"
+                + "\u0570\u0570\u0571\u0571\u0572\u0572\u0573\u0573\u0574\u0574\u0575\u0575"
+                + "\u0576\u0576\u0577\u0577\u0578\u0578\u0579\u0579\u057a\u057a\u057b\u057b"
+                + "\u057c\u057c\u057d\u057d\u057e\u057e\u057f\u057f\u0580\u0580\u0581\u0581"
+                + "\u0582\u0582\u0583\u0583\u0584\u0584\u0585\u0585\u0586\u0586\u0587\u0587"
+                + "\u0588\u0588\u0589\u0589\u058a\u058a\u058b\u058b\u058c\u058c\u058d\u058d"
+                + "\u058e\u058e\u058f\u058f\u0590\u0590\u0591\u0591\u0592\u0592\u0593\u0593"
+                + "\u0594\u0594\u0595\u0595\u0596\u0596\u0597\u0597\u0598\u0598\u0599\u0599"
+                + "\u059a\u059a\u059b\u059b\u059c\u059c\u059d\u059d\u059e\u059e\u059f\u059f",
+                "\u0000\u0001\u0002\u0003\u0004\u0005\u0006\u0007\u0008\u0009\n\u000b"
+                + "\u000c\r\u000e\u000f\u0010\u0011\u0012\u0013\u0014\u0015\u0016\u0017"
+                + "\u0018\u0019\u001a\u001b\u001c\u001d\u001e\u001f\u0020\u0021\"\u0023"
+                + "\u0024\u0025\u0026\u0027\u0028\u0029\u002a\u002b\u002c\u002d\u002e\u002f"
+                + "\u0030\u0031\u0032\u0033\u0034\u0035\u0036\u0037\u0038\u0039\u003a\u003b"
+                + "\u003c\u003d\u003e\u003f\u0040\u0041\u0042\u0043\u0044\u0045\u0046\u0047"
+                + "\u0048\u0049\u004a\u004b\u004c\u004d\u004e\u004f\u0050\u0051\u0052\u0053"
+                + "\u0054\u0055\u0056\u0057\u0058\u0059\u005a\u005b\\\u005d\u005e\u005f"
+                + "\u0060\u0061\u0062\u0063\u0064\u0065\u0066\u0067\u0068\u0069\u006a\u006b"
+                + "\u006c\u006d\u006e\u006f\u0070\u0071\u0072\u0073\u0074\u0075\u0076\u0077"
+                + "\u0078\u0079\u007a\u007b\u007c\u007d\u007e\u007f\u0080\u0081\u0082\u0083"
+                + "\u0084\u0085\u0086\u0087\u0088\u0089\u008a\u008b\u008c\u008d\u008e\u008f"
+                + "\u0090\u0091\u0092\u0093\u0094\u0095\u0096\u0097\u0098\u0099\u009a\u009b"
+                + "\u009c\u009d\u009e\u009f\u00a0\u00a1\u00a2\u00a3\u00a4\u00a5\u00a6\u00a7"
+                + "\u00a8\u00a9\u00aa\u00ab\u00ac\u00ad\u00ae\u00af\u00b0\u00b1\u00b2\u00b3"
+                + "\u00b4\u00b5\u00b6\u00b7\u00b8\u00b9\u00ba\u00bb\u00bc\u00bd\u00be\u00bf"
+                + "\u00c0\u00c1\u00c2\u00c3\u00c4\u00c5\u00c6\u00c7\u00c8\u00c9\u00ca\u00cb"
+                + "\u00cc\u00cd\u00ce\u00cf\u00d0\u00d1\u00d2\u00d3\u00d4\u00d5\u00d6\u00d7"
+                + "\u00d8\u00d9\u00da\u00db\u00dc\u00dd\u00de\u00df\u00e0\u00e1\u00e2\u00e3"
+                + "\u00e4\u00e5\u00e6\u00e7\u00e8\u00e9\u00ea\u00eb\u00ec\u00ed\u00ee\u00ef"
+                + "\u00f0\u00f1\u00f2\u00f3\u00f4\u00f5\u00f6\u00f7\u00f8\u00f9\u00fa\u00fb"
+                + "\u00fc\u00fd\u00fe\u00ff\u0100\u0101\u0102\u0103\u0104\u0105\u0106\u0107"
+                + "\u0108\u0109\u010a\u010b\u010c\u010d\u010e\u010f\u0110\u0111\u0112\u0113"
+                + "\u0114\u0115\u0116\u0117\u0118\u0119\u011a\u011b\u011c\u011d\u011e\u011f"
+                + "\u0120\u0121\u0122\u0123\u0124\u0125\u0126\u0127\u0128\u0129\u012a\u012b"
+                + "\u012c\u012d\u012e\u012f\u0130\u0131\u0132\u0133\u0134\u0135\u0136\u0137"
+                + "\u0138\u0139\u013a\u013b\u013c\u013d\u013e\u013f\u0140\u0141\u0142\u0143"
+                + "\u0144\u0145\u0146\u0147\u0148\u0149\u014a\u014b\u014c\u014d\u014e\u014f"
+                + "\u0150\u0151\u0152\u0153\u0154\u0155\u0156\u0157\u0158\u0159\u015a\u015b"
+                + "\u015c\u015d\u015e\u015f\u0160\u0161\u0162\u0163\u0164\u0165\u0166\u0167"
+                + "\u0168\u0169\u016a\u016b\u016c\u016d\u016e\u016f\u0170\u0171\u0172\u0173"
+                + "\u0174\u0175\u0176\u0177\u0178\u0179\u017a\u017b\u017c\u017d\u017e\u017f"
+                + "\u0180\u0181\u0182\u0183\u0184\u0185\u0186\u0187\u0188\u0189\u018a\u018b"
+                + "\u018c\u018d\u018e\u018f\u0190\u0191\u0192\u0193\u0194\u0195\u0196\u0197"
+                + "\u0198\u0199\u019a\u019b\u019c\u019d\u019e\u019f\u01a0\u01a1\u01a2\u01a3"
+                + "\u01a4\u01a5\u01a6\u01a7\u01a8\u01a9\u01aa\u01ab\u01ac\u01ad\u01ae\u01af"
+                + "\u01b0\u01b1\u01b2\u01b3\u01b4\u01b5\u01b6\u01b7\u01b8\u01b9\u01ba\u01bb"
+                + "\u01bc\u01bd\u01be\u01bf\u01c0\u01c1\u01c2\u01c3\u01c4\u01c5\u01c6\u01c7"
+                + "\u01c8\u01c9\u01ca\u01cb\u01cc\u01cd\u01ce\u01cf\u01d0\u01d1\u01d2\u01d3"
+                + "\u01d4\u01d5\u01d6\u01d7\u01d8\u01d9\u01da\u01db\u01dc\u01dd\u01de\u01df"
+                + "\u01e0\u01e1\u01e2\u01e3\u01e4\u01e5\u01e6\u01e7\u01e8\u01e9\u01ea\u01eb"
+                + "\u01ec\u01ed\u01ee\u01ef\u01f0\u01f1\u01f2\u01f3\u01f4\u01f5\u01f6\u01f7"
+                + "\u01f8\u01f9\u01fa\u01fb\u01fc\u01fd\u01fe\u01ff\u0200\u0201\u0202\u0203"
+                + "\u0204\u0205\u0206\u0207\u0208\u0209\u020a\u020b\u020c\u020d\u020e\u020f"
+                + "\u0210\u0211\u0212\u0213\u0214\u0215\u0216\u0217\u0218\u0219\u021a\u021b"
+                + "\u021c\u021d\u021e\u021f\u0220\u0221\u0222\u0223\u0224\u0225\u0226\u0227"
+                + "\u0228\u0229\u022a\u022b\u022c\u022d\u022e\u022f\u0230\u0231\u0232\u0233"
+                + "\u0234\u0235\u0236\u0237\u0238\u0239\u023a\u023b\u023c\u023d\u023e\u023f"
+                + "\u0240\u0241\u0242\u0243\u0244\u0245\u0246\u0247\u0248\u0249\u024a\u024b"
+                + "\u024c\u024d\u024e\u024f\u0250\u0251\u0252\u0253\u0254\u0255\u0256\u0257"
+                + "\u0258\u0259\u025a\u025b\u025c\u025d\u025e\u025f\u0260\u0261\u0262\u0263"
+                + "\u0264\u0265\u0266\u0267\u0268\u0269\u026a\u026b\u026c\u026d\u026e\u026f"
+                + "\u0270\u0271\u0272\u0273\u0274\u0275\u0276\u0277\u0278\u0279\u027a\u027b"
+                + "\u027c\u027d\u027e\u027f\u0280\u0281\u0282\u0283\u0284\u0285\u0286\u0287"
+                + "\u0288\u0289\u028a\u028b\u028c\u028d\u028e\u028f\u0290\u0291\u0292\u0293"
+                + "\u0294\u0295\u0296\u0297\u0298\u0299\u029a\u029b\u029c\u029d\u029e\u029f"
+                + "\u02a0\u02a1\u02a2\u02a3\u02a4\u02a5\u02a6\u02a7\u02a8\u02a9\u02aa\u02ab"
+                + "\u02ac\u02ad\u02ae\u02af\u02b0\u02b1\u02b2\u02b3\u02b4\u02b5\u02b6\u02b7"
+                + "\u02b8\u02b9\u02ba\u02bb\u02bc\u02bd\u02be\u02bf\u02c0\u02c1\u02c2\u02c3"
+                + "\u02c4\u02c5\u02c6\u02c7\u02c8\u02c9\u02ca\u02cb\u02cc\u02cd\u02ce\u02cf"
+                + "\u02d0\u02d1\u02d2\u02d3\u02d4\u02d5\u02d6\u02d7\u02d8\u02d9\u02da\u02db"
+                + "\u02dc\u02dd\u02de\u02df\u02e0\u02e1\u02e2\u02e3\u02e4\u02e5\u02e6\u02e7"
+                + "\u02e8\u02e9\u02ea\u02eb\u02ec\u02ed\u02ee\u02ef\u02f0\u02f1\u02f2\u02f3"
+                + "\u02f4\u02f5\u02f6\u02f7\u02f8\u02f9\u02fa\u02fb\u02fc\u02fd\u02fe\u02ff"
+                + "\u0300\u0301\u0302\u0303\u0304\u0305\u0306\u0307\u0308\u0309\u030a\u030b"
+                + "\u030c\u030d\u030e\u030f\u0310\u0311\u0312\u0313\u0314\u0315\u0316\u0317"
+                + "\u0318\u0319\u031a\u031b\u031c\u031d\u031e\u031f\u0320\u0321\u0322\u0323"
+                + "\u0324\u0325\u0326\u0327\u0328\u0329\u032a\u032b\u032c\u032d\u032e\u032f"
+                + "\u0330\u0331\u0332\u0333\u0334\u0335\u0336\u0337\u0338\u0339\u033a\u033b"
+                + "\u033c\u033d\u033e\u033f\u0340\u0341\u0342\u0343\u0344\u0345\u0346\u0347"
+                + "\u0348\u0349\u034a\u034b\u034c\u034d\u034e\u034f\u0350\u0351\u0352\u0353"
+                + "\u0354\u0355\u0356\u0357\u0358\u0359\u035a\u035b\u035c\u035d\u035e\u035f"
+                + "\u0360\u0361\u0362\u0363\u0364\u0365\u0366\u0367\u0368\u0369\u036a\u036b"
+                + "\u036c\u036d\u036e\u036f\u0370\u0371\u0372\u0373\u0374\u0375\u0376\u0377"
+                + "\u0378\u0379\u037a\u037b\u037c\u037d\u037e\u037f\u0380\u0381\u0382\u0383"
+                + "\u0384\u0385\u0386\u0387\u0388\u0389\u038a\u038b\u038c\u038d\u038e\u038f"
+                + "\u0390\u0391\u0392\u0393\u0394\u0395\u0396\u0397\u0398\u0399\u039a\u039b"
+                + "\u039c\u039d\u039e\u039f\u03a0\u03a1\u03a2\u03a3\u03a4\u03a5\u03a6\u03a7"
+                + "\u03a8\u03a9\u03aa\u03ab\u03ac\u03ad\u03ae\u03af\u03b0\u03b1\u03b2\u03b3"
+                + "\u03b4\u03b5\u03b6\u03b7\u03b8\u03b9\u03ba\u03bb\u03bc\u03bd\u03be\u03bf"
+                + "\u03c0\u03c1\u03c2\u03c3\u03c4\u03c5\u03c6\u03c7\u03c8\u03c9\u03ca\u03cb"
+                + "\u03cc\u03cd\u03ce\u03cf\u03d0\u03d1\u03d2\u03d3\u03d4\u03d5\u03d6\u03d7"
+                + "\u03d8\u03d9\u03da\u03db\u03dc\u03dd\u03de\u03df\u03e0\u03e1\u03e2\u03e3"
+                + "\u03e4\u03e5\u03e6\u03e7\u03e8\u03e9\u03ea\u03eb\u03ec\u03ed\u03ee\u03ef"
+                + "\u03f0\u03f1\u03f2\u03f3\u03f4\u03f5\u03f6\u03f7\u03f8\u03f9\u03fa\u03fb"
+                + "\u03fc\u03fd\u03fe\u03ff\u0400\u0401\u0402\u0403\u0404\u0405\u0406\u0407"
+                + "\u0408\u0409\u040a\u040b\u040c\u040d\u040e\u040f\u0410\u0411\u0412\u0413"
+                + "\u0414\u0415\u0416\u0417\u0418\u0419\u041a\u041b\u041c\u041d\u041e\u041f"
+                + "\u0420\u0421\u0422\u0423\u0424\u0425\u0426\u0427\u0428\u0429\u042a\u042b"
+                + "\u042c\u042d\u042e\u042f\u0430\u0431\u0432\u0433\u0434\u0435\u0436\u0437"
+                + "\u0438\u0439\u043a\u043b\u043c\u043d\u043e\u043f\u0440\u0441\u0442\u0443"
+                + "\u0444\u0445\u0446\u0447\u0448\u0449\u044a\u044b\u044c\u044d\u044e\u044f"
+                + "\u0450\u0451\u0452\u0453\u0454\u0455\u0456\u0457\u0458\u0459\u045a\u045b"
+                + "\u045c\u045d\u045e\u045f\u0460\u0461\u0462\u0463\u0464\u0465\u0466\u0467"
+                + "\u0468\u0469\u046a\u046b\u046c\u046d\u046e\u046f\u0470\u0471\u0472\u0473"
+                + "\u0474\u0475\u0476\u0477\u0478\u0479\u047a\u047b\u047c\u047d\u047e\u047f"
+                + "\u0480\u0481\u0482\u0483\u0484\u0485\u0486\u0487\u0488\u0489\u048a\u048b"
+                + "\u048c\u048d\u048e\u048f\u0490\u0491\u0492\u0493\u0494\u0495\u0496\u0497"
+                + "\u0498\u0499\u049a\u049b\u049c\u049d\u049e\u049f\u04a0\u04a1\u04a2\u04a3"
+                + "\u04a4\u04a5\u04a6\u04a7\u04a8\u04a9\u04aa\u04ab\u04ac\u04ad\u04ae\u04af"
+                + "\u04b0\u04b1\u04b2\u04b3\u04b4\u04b5\u04b6\u04b7\u04b8\u04b9\u04ba\u04bb"
+                + "\u04bc\u04bd\u04be\u04bf\u04c0\u04c1\u04c2\u04c3\u04c4\u04c5\u04c6\u04c7"
+                + "\u04c8\u04c9\u04ca\u04cb\u04cc\u04cd\u04ce\u04cf\u04d0\u04d1\u04d2\u04d3"
+                + "\u04d4\u04d5\u04d6\u04d7\u04d8\u04d9\u04da\u04db\u04dc\u04dd\u04de\u04df"
+                + "\u04e0\u04e1\u04e2\u04e3\u04e4\u04e5\u04e6\u04e7\u04e8\u04e9\u04ea\u04eb"
+                + "\u04ec\u04ed\u04ee\u04ef\u04f0\u04f1\u04f2\u04f3\u04f4\u04f5\u04f6\u04f7"
+                + "\u04f8\u04f9\u04fa\u04fb\u04fc\u04fd\u04fe\u04ff\u0500\u0501\u0502\u0503"
+                + "\u0504\u0505\u0506\u0507\u0508\u0509\u050a\u050b\u050c\u050d\u050e\u050f"
+                + "\u0510\u0511\u0512\u0513\u0514\u0515\u0516\u0517\u0518\u0519\u051a\u051b"
+                + "\u051c\u051d\u051e\u051f\u0520\u0521\u0522\u0523\u0524\u0525\u0526\u0527"
+                + "\u0528\u0529\u052a\u052b\u052c\u052d\u052e\u052f\u0530\u0531\u0532\u0533"
+                + "\u0534\u0535\u0536\u0537\u0538\u0539\u053a\u053b\u053c\u053d\u053e\u053f"
+                + "\u0540\u0541\u0542\u0543\u0544\u0545\u0546\u0547\u0548\u0549\u054a\u054b"
+                + "\u054c\u054d\u054e\u054f\u0550\u0551\u0552\u0553\u0554\u0555\u0556\u0557"
+                + "\u0558\u0559\u055a\u055b\u055c\u055d\u055e\u055f\u0560\u0561\u0562\u0563"
+                + "\u0564\u0565\u0566\u0567\u0568\u0569\u056a\u056b\u056c\u056d\u056e\u056f"
+                + "\u0570\u0571\u0572\u0573\u0574\u0575\u0576\u0577\u0578\u0579\u057a\u057b"
+                + "\u057c\u057d\u057e\u057f\u0580\u0581\u0582\u0583\u0584\u0585\u0586\u0587"
+                + "\u0588\u0589\u058a\u058b\u058c\u058d\u058e\u058f\u0590\u0591\u0592\u0593"
+                + "\u0594\u0595\u0596\u0597\u0598\u0599\u059a\u059b\u059c\u059d\u059e\u059f");
+    }
+
+    static final class Slow12 {
+        // fuzzy_logic_slow.xml, 12 hour
+        static final FuzzyTable TABLE = FuzzyTable.decode(PHRASES,
+                "\u0001\u0000\u0000\u0002\u0001\u0003\u0004\u0001\u0003\u0005\u0001\u0003"
+                + "\u0006\u0001\u0003\u0007\u0001\u0003\u0008\u0001\u0003\u0007\u0009\n"
+                + "\u0006\u0009\n\u0005\u0009\n\u0004\u0009\n\u0002\u0009\n"
+                + "\u0009\u000b\u0000\u0002\u0009\u0003\u0004\u0009\u0003\u0005\u0009\u0003"
+                + "\u0006\u0009\u0003\u0007\u0009\u0003\u0008\u0009\u0003\u0007\u000c\n"
+                + "\u0006\u000c\n\u0005\u000c\n\u0004\u000c\n\u0002\u000c\n"
+                + "\u000c\u000b\u0000\u0002\u000c\u0003\u0004\u000c\u0003\u0005\u000c\u0003"
+                + "\u0006\u000c\u0003\u0007\u000c\u0003\u0008\u000c\u0003\u0007\r\n"
+                + "\u0006\r\n\u0005\r\n\u0004\r\n\u0002\r\n"
+                + "\r\u000b\u0000\u0002\r\u0003\u0004\r\u0003\u0005\r\u0003"
+                + "\u0006\r\u0003\u0007\r\u0003\u0008\r\u0003\u0007\u000e\n"
+                + "\u0006\u000e\n\u0005\u000e\n\u0004\u000e\n\u0002\u000e\n"
+                + "\u000e\u000b\u0000\u0002\u000e\u0003\u0004\u000e\u0003\u0005\u000e\u0003"
+                + "\u0006\u000e\u0003\u0007\u000e\u0003\u0008\u000e\u0003\u0007\u0002\n"
+                + "\u0006\u0002\n\u0005\u0002\n\u0004\u0002\n\u0002\u0002\n"
+                + "\u0002\u000b\u0000\u0002\u0002\u0003\u0004\u0002\u0003\u0005\u0002\u0003"
+                + "\u0006\u0002\u0003\u0007\u0002\u0003\u0008\u0002\u0003\u0007\u000f\n"
+                + "\u0006\u000f\n\u0005\u000f\n\u0004\u000f\n\u0002\u000f\n"
+                + "\u000f\u000b\u0000\u0002\u000f\u0003\u0004\u000f\u0003\u0005\u000f\u0003"
+                + "\u0006\u000f\u0003\u0007\u000f\u0003\u0008\u000f\u0003\u0007\u0010\n"
+                + "\u0006\u0010\n\u0005\u0010\n\u0004\u0010\n\u0002\u0010\n"
+                + "\u0010\u000b\u0000\u0002\u0010\u0003\u0004\u0010\u0003\u0005\u0010\u0003"
+                + "\u0006\u0010\u0003\u0007\u0010\u0003\u0008\u0010\u0003\u0007\u0011\n"
+                + "\u0006\u0011\n\u0005\u0011\n\u0004\u0011\n\u0002\u0011\n"
+                + "\u0011\u000b\u0000\u0002\u0011\u0003\u0004\u0011\u0003\u0005\u0011\u0003"
+                + "\u0006\u0011\u0003\u0007\u0011\u0003\u0008\u0011\u0003\u0007\u0012\n"
+                + "\u0006\u0012\n\u0005\u0012\n\u0004\u0012\n\u0002\u0012\n"
+                + "\u0012\u000b\u0000\u0002\u0012\u0003\u0004\u0012\u0003\u0005\u0012\u0003"
+                + "\u0006\u0012\u0003\u0007\u0012\u0003\u0008\u0012\u0003\u0007\u0004\n"
+                + "\u0006\u0004\n\u0005\u0004\n\u0004\u0004\n\u0002\u0004\n"
+                + "\u0004\u000b\u0000\u0002\u0004\u0003\u0004\u0004\u0003\u0005\u0004\u0003"
+                + "\u0006\u0004\u0003\u0007\u0004\u0003\u0008\u0004\u0003\u0007\u0013\n"
+                + "\u0006\u0013\n\u0005\u0013\n\u0004\u0013\n\u0002\u0013\n"
+                + "\u0013\u000b\u0000\u0002\u0013\u0003\u0004\u0013\u0003\u0005\u0013\u0003"
+                + "\u0006\u0013\u0003\u0007\u0013\u0003\u0008\u0013\u0003\u0007\u0014\n"
+                + "\u0006\u0014\n\u0005\u0014\n\u0004\u0014\n\u0002\u0014\n"
+                + "\u0014\u0000\u0000\u0002\u0014\u0003\u0004\u0014\u0003\u0005\u0014\u0003"
+                + "\u0006\u0014\u0003\u0007\u0014\u0003\u0008\u0014\u0003\u0007\u0001\n"
+                + "\u0006\u0001\n\u0005\u0001\n\u0004\u0001\n\u0002\u0001\n",
+                "\u0000\u0000\u0005\u0001\n\u0002\u000f\u0003\u0014\u0004\u0019\u0005"
+                + "\u001e\u0006\u0023\u0007\u0028\u0008\u002d\u0009\u0032\n\u0037\u000b"
+                + "\u003c\u000c\u0041\r\u0046\u000e\u004b\u000f\u0050\u0010\u0055\u0011"
+                + "\u005a\u0012\u005f\u0013\u0064\u0014\u0069\u0015\u006e\u0016\u0073\u0017"
+                + "\u0078\u0018\u007d\u0019\u0082\u001a\u0087\u001b\u008c\u001c\u0091\u001d"
+                + "\u0096\u001e\u009b\u001f\u00a0\u0020\u00a5\u0021\u00aa\"\u00af\u0023"
+                + "\u00b4\u0024\u00b9\u0025\u00be\u0026\u00c3\u0027\u00c8\u0028\u00cd\u0029"
+                + "\u00d2\u002a\u00d7\u002b\u00dc\u002c\u00e1\u002d\u00e6\u002e\u00eb\u002f"
+                + "\u00f0\u0030\u00f5\u0031\u00fa\u0032\u00ff\u0033\u0104\u0034\u0109\u0035"
+                + "\u010e\u0036\u0113\u0037\u0118\u0038\u011d\u0039\u0122\u003a\u0127\u003b"
+                + "\u012c\u003c\u0131\u003d\u0136\u003e\u013b\u003f\u0140\u0040\u0145\u0041"
+                + "\u014a\u0042\u014f\u0043\u0154\u0044\u0159\u0045\u015e\u0046\u0163\u0047"
+                + "\u0168\u0048\u016d\u0049\u0172\u004a\u0177\u004b\u017c\u004c\u0181\u004d"
+                + "\u0186\u004e\u018b\u004f\u0190\u0050\u0195\u0051\u019a\u0052\u019f\u0053"
+                + "\u01a4\u0054\u01a9\u0055\u01ae\u0056\u01b3\u0057\u01b8\u0058\u01bd\u0059"
+                + "\u01c2\u005a\u01c7\u005b\u01cc\\\u01d1\u005d\u01d6\u005e\u01db\u005f"
+                + "\u01e0\u0060\u01e5\u0061\u01ea\u0062\u01ef\u0063\u01f4\u0064\u01f9\u0065"
+                + "\u01fe\u0066\u0203\u0067\u0208\u0068\u020d\u0069\u0212\u006a\u0217\u006b"
+                + "\u021c\u006c\u0221\u006d\u0226\u006e\u022b\u006f\u0230\u0070\u0235\u0071"
+                + "\u023a\u0072\u023f\u0073\u0244\u0074\u0249\u0075\u024e\u0076\u0253\u0077"
+                + "\u0258\u0078\u025d\u0079\u0262\u007a\u0267\u007b\u026c\u007c\u0271\u007d"
+                + "\u0276\u007e\u027b\u007f\u0280\u0080\u0285\u0081\u028a\u0082\u028f\u0083"
+                + "\u0294\u0084\u0299\u0085\u029e\u0086\u02a3\u0087\u02a8\u0088\u02ad\u0089"
+                + "\u02b2\u008a\u02b7\u008b\u02bc\u008c\u02c1\u008d\u02c6\u008e\u02cb\u008f"
+                + "\u02d0\u0090\u02d5\u0091\u02da\u0092\u02df\u0093\u02e4\u0094\u02e9\u0095"
+                + "\u02ee\u0096\u02f3\u0007\u02f8\u0008\u02fd\u0009\u0302\n\u0307\u000b"
+                + "\u030c\u000c\u0311\r\u0316\u000e\u031b\u000f\u0320\u0010\u0325\u0011"
+                + "\u032a\u0012\u032f\u0013\u0334\u0014\u0339\u0015\u033e\u0016\u0343\u0017"
+                + "\u0348\u0018\u034d\u0019\u0352\u001a\u0357\u001b\u035c\u001c\u0361\u001d"
+                + "\u0366\u001e\u036b\u001f\u0370\u0020\u0375\u0021\u037a\"\u037f\u0023"
+                + "\u0384\u0024\u0389\u0025\u038e\u0026\u0393\u0027\u0398\u0028\u039d\u0029"
+                + "\u03a2\u002a\u03a7\u002b\u03ac\u002c\u03b1\u002d\u03b6\u002e\u03bb\u002f"
+                + "\u03c0\u0030\u03c5\u0031\u03ca\u0032\u03cf\u0033\u03d4\u0034\u03d9\u0035"
+                + "\u03de\u0036\u03e3\u0037\u03e8\u0038\u03ed\u0039\u03f2\u003a\u03f7\u003b"
+                + "\u03fc\u003c\u0401\u003d\u0406\u003e\u040b\u003f\u0410\u0040\u0415\u0041"
+                + "\u041a\u0042\u041f\u0043\u0424\u0044\u0429\u0045\u042e\u0046\u0433\u0047"
+                + "\u0438\u0048\u043d\u0049\u0442\u004a\u0447\u004b\u044c\u004c\u0451\u004d"
+                + "\u0456\u004e\u045b\u004f\u0460\u0050\u0465\u0051\u046a\u0052\u046f\u0053"
+                + "\u0474\u0054\u0479\u0055\u047e\u0056\u0483\u0057\u0488\u0058\u048d\u0059"
+                + "\u0492\u005a\u0497\u005b\u049c\\\u04a1\u005d\u04a6\u005e\u04ab\u005f"
+                + "\u04b0\u0060\u04b5\u0061\u04ba\u0062\u04bf\u0063\u04c4\u0064\u04c9\u0065"
+                + "\u04ce\u0066\u04d3\u0067\u04d8\u0068\u04dd\u0069\u04e2\u006a\u04e7\u006b"
+                + "\u04ec\u006c\u04f1\u006d\u04f6\u006e\u04fb\u006f\u0500\u0070\u0505\u0071"
+                + "\u050a\u0072\u050f\u0073\u0514\u0074\u0519\u0075\u051e\u0076\u0523\u0077"
+                + "\u0528\u0078\u052d\u0079\u0532\u007a\u0537\u007b\u053c\u007c\u0541\u007d"
+                + "\u0546\u007e\u054b\u007f\u0550\u0080\u0555\u0081\u055a\u0082\u055f\u0083"
+                + "\u0564\u0084\u0569\u0085\u056e\u0086\u0573\u0087\u0578\u0088\u057d\u0089"
+                + "\u0582\u008a\u0587\u0097\u058c\u0098\u0591\u0099\u0596\u009a\u059b\u009b",
+                "\u0000\u0005\n\u000f\u0014\u0019\u001e\u0023\u0028\u002d\u0032\u0037"
+                + "\u003c\u0041\u0046\u004b\u0050\u0055\u005a\u005f\u0064\u0069\u006e\u0073"
+                + "\u0078\u007d\u0082\u0087\u008c\u0091\u0096\u009b\u00a0\u00a5\u00aa\u00af"
+                + "\u00b4\u00b9\u00be\u00c3\u00c8\u00cd\u00d2\u00d7\u00dc\u00e1\u00e6\u00eb"
+                + "\u00f0\u00f5\u00fa\u00ff\u0104\u0109\u010e\u0113\u0118\u011d\u0122\u0127"
+                + "\u012c\u0131\u0136\u013b\u0140\u0145\u014a\u014f\u0154\u0159\u015e\u0163"
+                + "\u0168\u016d\u0172\u0177\u017c\u0181\u0186\u018b\u0190\u0195\u019a\u019f"
+                + "\u01a4\u01a9\u01ae\u01b3\u01b8\u01bd\u01c2\u01c7\u01cc\u01d1\u01d6\u01db"
+                + "\u01e0\u01e5\u01ea\u01ef\u01f4\u01f9\u01fe\u0203\u0208\u020d\u0212\u0217"
+                + "\u021c\u0221\u0226\u022b\u0230\u0235\u023a\u023f\u0244\u0249\u024e\u0253"
+                + "\u0258\u025d\u0262\u0267\u026c\u0271\u0276\u027b\u0280\u0285\u028a\u028f"
+                + "\u0294\u0299\u029e\u02a3\u02a8\u02ad\u02b2\u02b7\u02bc\u02c1\u02c6\u02cb"
+                + "\u02d0\u02d5\u02da\u02df\u02e4\u02e9\u02ee\u02f3\u02f8\u02fd\u0302\u0307"
+                + "\u030c\u0311\u0316\u031b\u0320\u0325\u032a\u032f\u0334\u0339\u033e\u0343"
+                + "\u0348\u034d\u0352\u0357\u035c\u0361\u0366\u036b\u0370\u0375\u037a\u037f"
+                + "\u0384\u0389\u038e\u0393\u0398\u039d\u03a2\u03a7\u03ac\u03b1\u03b6\u03bb"
+                + "\u03c0\u03c5\u03ca\u03cf\u03d4\u03d9\u03de\u03e3\u03e8\u03ed\u03f2\u03f7"
+                + "\u03fc\u0401\u0406\u040b\u0410\u0415\u041a\u041f\u0424\u0429\u042e\u0433"
+                + "\u0438\u043d\u0442\u0447\u044c\u0451\u0456\u045b\u0460\u0465\u046a\u046f"
+                + "\u0474\u0479\u047e\u0483\u0488\u048d\u0492\u0497\u049c\u04a1\u04a6\u04ab"
+                + "\u04b0\u04b5\u04ba\u04bf\u04c4\u04c9\u04ce\u04d3\u04d8\u04dd\u04e2\u04e7"
+                + "\u04ec\u04f1\u04f6\u04fb\u0500\u0505\u050a\u050f\u0514\u0519\u051e\u0523"
+                + "\u0528\u052d\u0532\u0537\u053c\u0541\u0546\u054b\u0550\u0555\u055a\u055f"
+                + "\u0564\u0569\u056e\u0573\u0578\u057d\u0582\u0587\u058c\u0591\u0596\u059b");
+    }
+
+    static final class Slow24 {
+        // fuzzy_logic_slow.xml, 24 hour
+        static final FuzzyTable TABLE = FuzzyTable.decode(PHRASES,
+                "\u0001\u0000\u0000\u0002\u0001\u0003\u0004\u0001\u0003\u0005\u0001\u0003"
+                + "\u0006\u0001\u0003\u0007\u0001\u0003\u0008\u0001\u0003\u0007\u0009\n"
+                + "\u0006\u0009\n\u0005\u0009\n\u0004\u0009\n\u0002\u0009\n"
+                + "\u0009\u000b\u0000\u0002\u0009\u0003\u0004\u0009\u0003\u0005\u0009\u0003"
+                + "\u0006\u0009\u0003\u0007\u0009\u0003\u0008\u0009\u0003\u0007\u000c\n"
+                + "\u0006\u000c\n\u0005\u000c\n\u0004\u000c\n\u0002\u000c\n"
+                + "\u000c\u000b\u0000\u0002\u000c\u0003\u0004\u000c\u0003\u0005\u000c\u0003"
+                + "\u0006\u000c\u0003\u0007\u000c\u0003\u0008\u000c\u0003\u0007\r\n"
+                + "\u0006\r\n\u0005\r\n\u0004\r\n\u0002\r\n"
+                + "\r\u000b\u0000\u0002\r\u0003\u0004\r\u0003\u0005\r\u0003"
+                + "\u0006\r\u0003\u0007\r\u0003\u0008\r\u0003\u0007\u000e\n"
+                + "\u0006\u000e\n\u0005\u000e\n\u0004\u000e\n\u0002\u000e\n"
+                + "\u000e\u000b\u0000\u0002\u000e\u0003\u0004\u000e\u0003\u0005\u000e\u0003"
+                + "\u0006\u000e\u0003\u0007\u000e\u0003\u0008\u000e\u0003\u0007\u0002\n"
+                + "\u0006\u0002\n\u0005\u0002\n\u0004\u0002\n\u0002\u0002\n"
+                + "\u0002\u000b\u0000\u0002\u0002\u0003\u0004\u0002\u0003\u0005\u0002\u0003"
+                + "\u0006\u0002\u0003\u0007\u0002\u0003\u0008\u0002\u0003\u0007\u000f\n"
+                + "\u0006\u000f\n\u0005\u000f\n\u0004\u000f\n\u0002\u000f\n"
+                + "\u000f\u000b\u0000\u0002\u000f\u0003\u0004\u000f\u0003\u0005\u000f\u0003"
+                + "\u0006\u000f\u0003\u0007\u000f\u0003\u0008\u000f\u0003\u0007\u0010\n"
+                + "\u0006\u0010\n\u0005\u0010\n\u0004\u0010\n\u0002\u0010\n"
+                + "\u0010\u000b\u0000\u0002\u0010\u0003\u0004\u0010\u0003\u0005\u0010\u0003"
+                + "\u0006\u0010\u0003\u0007\u0010\u0003\u0008\u0010\u0003\u0007\u0011\n"
+                + "\u0006\u0011\n\u0005\u0011\n\u0004\u0011\n\u0002\u0011\n"
+                + "\u0011\u000b\u0000\u0002\u0011\u0003\u0004\u0011\u0003\u0005\u0011\u0003"
+                + "\u0006\u0011\u0003\u0007\u0011\u0003\u0008\u0011\u0003\u0007\u0012\n"
+                + "\u0006\u0012\n\u0005\u0012\n\u0004\u0012\n\u0002\u0012\n"
+                + "\u0012\u000b\u0000\u0002\u0012\u0003\u0004\u0012\u0003\u0005\u0012\u0003"
+                + "\u0006\u0012\u0003\u0007\u0012\u0003\u0008\u0012\u0003\u0007\u0004\n"
+                + "\u0006\u0004\n\u0005\u0004\n\u0004\u0004\n\u0002\u0004\n"
+                + "\u0004\u000b\u0000\u0002\u0004\u0003\u0004\u0004\u0003\u0005\u0004\u0003"
+                + "\u0006\u0004\u0003\u0007\u0004\u0003\u0008\u0004\u0003\u0007\u0013\n"
+                + "\u0006\u0013\n\u0005\u0013\n\u0004\u0013\n\u0002\u0013\n"
+                + "\u0013\u000b\u0000\u0002\u0013\u0003\u0004\u0013\u0003\u0005\u0013\u0003"
+                + "\u0006\u0013\u0003\u0007\u0013\u0003\u0008\u0013\u0003\u0007\u0014\n"
+                + "\u0006\u0014\n\u0005\u0014\n\u0004\u0014\n\u0002\u0014\n"
+                + "\u0014\u0000\u0000\u0002\u0014\u0003\u0004\u0014\u0003\u0005\u0014\u0003"
+                + "\u0006\u0014\u0003\u0007\u0014\u0003\u0008\u0014\u0003\u0007\u0015\n"
+                + "\u0006\u0015\n\u0005\u0015\n\u0004\u0015\n\u0002\u0015\n"
+                + "\u0015\u000b\u0000\u0002\u0015\u0003\u0004\u0015\u0003\u0005\u0015\u0003"
+                + "\u0006\u0015\u0003\u0007\u0015\u0003\u0008\u0015\u0003\u0007\u0016\n"
+                + "\u0006\u0016\n\u0005\u0016\n\u0004\u0016\n\u0002\u0016\n"
+                + "\u0016\u000b\u0000\u0002\u0016\u0003\u0004\u0016\u0003\u0005\u0016\u0003"
+                + "\u0006\u0016\u0003\u0007\u0016\u0003\u0008\u0016\u0003\u0007\u0017\n"
+                + "\u0006\u0017\n\u0005\u0017\n\u0004\u0017\n\u0002\u0017\n"
+                + "\u0017\u000b\u0000\u0002\u0017\u0003\u0004\u0017\u0003\u0005\u0017\u0003"
+                + "\u0006\u0017\u0003\u0007\u0017\u0003\u0008\u0017\u0003\u0007\u0018\n"
+                + "\u0006\u0018\n\u0005\u0018\n\u0004\u0018\n\u0002\u0018\n"
+                + "\u0018\u000b\u0000\u0002\u0018\u0003\u0004\u0018\u0003\u0005\u0018\u0003"
+                + "\u0006\u0018\u0003\u0007\u0018\u0003\u0008\u0018\u0003\u0007\u0019\n"
+                + "\u0006\u0019\n\u0005\u0019\n\u0004\u0019\n\u0002\u0019\n"
+                + "\u0019\u000b\u0000\u0002\u0019\u0003\u0004\u0019\u0003\u0005\u0019\u0003"
+                + "\u0006\u0019\u0003\u0007\u0019\u0003\u0008\u0019\u0003\u0007\u001a\n"
+                + "\u0006\u001a\n\u0005\u001a\n\u0004\u001a\n\u0002\u001a\n"
+                + "\u001a\u000b\u0000\u0002\u001a\u0003\u0004\u001a\u0003\u0005\u001a\u0003"
+                + "\u0006\u001a\u0003\u0007\u001a\u0003\u0008\u001a\u0003\u0007\u001b\n"
+                + "\u0006\u001b\n\u0005\u001b\n\u0004\u001b\n\u0002\u001b\n"
+                + "\u001b\u000b\u0000\u0002\u001b\u0003\u0004\u001b\u0003\u0005\u001b\u0003"
+                + "\u0006\u001b\u0003\u0007\u001b\u0003\u0008\u001b\u0003\u0007\u0006\n"
+                + "\u0006\u0006\n\u0005\u0006\n\u0004\u0006\n\u0002\u0006\n"
+                + "\u0006\u000b\u0000\u0002\u0006\u0003\u0004\u0006\u0003\u0005\u0006\u0003"
+                + "\u0006\u0006\u0003\u0007\u0006\u0003\u0008\u0006\u0003\u0007\u001c\n"
+                + "\u0006\u001c\n\u0005\u001c\n\u0004\u001c\n\u0002\u001c\n"
+                + "\u001c\u000b\u0000\u0002\u001c\u0003\u0004\u001c\u0003\u0005\u001c\u0003"
+                + "\u0006\u001c\u0003\u0007\u001c\u0003\u0008\u001c\u0003\u0007\u001d\n"
+                + "\u0006\u001d\n\u0005\u001d\n\u0004\u001d\n\u0002\u001d\n"
+                + "\u001d\u000b\u0000\u0002\u001d\u0003\u0004\u001d\u0003\u0005\u001d\u0003"
+                + "\u0006\u001d\u0003\u0007\u001d\u0003\u0008\u001d\u0003\u0007\u001e\n"
+                + "\u0006\u001e\n\u0005\u001e\n\u0004\u001e\n\u0002\u001e\n"
+                + "\u001e\u000b\u0000\u0002\u001e\u0003\u0004\u001e\u0003\u0005\u001e\u0003"
+                + "\u0006\u001e\u0003\u0007\u001e\u0003\u0008\u001e\u0003\u0007\u0001\n"
+                + "\u0006\u0001\n\u0005\u0001\n\u0004\u0001\n\u0002\u0001\n",
+                "\u0000\u0000\u0005\u0001\n\u0002\u000f\u0003\u0014\u0004\u0019\u0005"
+                + "\u001e\u0006\u0023\u0007\u0028\u0008\u002d\u0009\u0032\n\u0037\u000b"
+                + "\u003c\u000c\u0041\r\u0046\u000e\u004b\u000f\u0050\u0010\u0055\u0011"
+                + "\u005a\u0012\u005f\u0013\u0064\u0014\u0069\u0015\u006e\u0016\u0073\u0017"
+                + "\u0078\u0018\u007d\u0019\u0082\u001a\u0087\u001b\u008c\u001c\u0091\u001d"
+                + "\u0096\u001e\u009b\u001f\u00a0\u0020\u00a5\u0021\u00aa\"\u00af\u0023"
+                + "\u00b4\u0024\u00b9\u0025\u00be\u0026\u00c3\u0027\u00c8\u0028\u00cd\u0029"
+                + "\u00d2\u002a\u00d7\u002b\u00dc\u002c\u00e1\u002d\u00e6\u002e\u00eb\u002f"
+                + "\u00f0\u0030\u00f5\u0031\u00fa\u0032\u00ff\u0033\u0104\u0034\u0109\u0035"
+                + "\u010e\u0036\u0113\u0037\u0118\u0038\u011d\u0039\u0122\u003a\u0127\u003b"
+                + "\u012c\u003c\u0131\u003d\u0136\u003e\u013b\u003f\u0140\u0040\u0145\u0041"
+                + "\u014a\u0042\u014f\u0043\u0154\u0044\u0159\u0045\u015e\u0046\u0163\u0047"
+                + "\u0168\u0048\u016d\u0049\u0172\u004a\u0177\u004b\u017c\u004c\u0181\u004d"
+                + "\u0186\u004e\u018b\u004f\u0190\u0050\u0195\u0051\u019a\u0052\u019f\u0053"
+                + "\u01a4\u0054\u01a9\u0055\u01ae\u0056\u01b3\u0057\u01b8\u0058\u01bd\u0059"
+                + "\u01c2\u005a\u01c7\u005b\u01cc\\\u01d1\u005d\u01d6\u005e\u01db\u005f"
+                + "\u01e0\u0060\u01e5\u0061\u01ea\u0062\u01ef\u0063\u01f4\u0064\u01f9\u0065"
+                + "\u01fe\u0066\u0203\u0067\u0208\u0068\u020d\u0069\u0212\u006a\u0217\u006b"
+                + "\u021c\u006c\u0221\u006d\u0226\u006e\u022b\u006f\u0230\u0070\u0235\u0071"
+                + "\u023a\u0072\u023f\u0073\u0244\u0074\u0249\u0075\u024e\u0076\u0253\u0077"
+                + "\u0258\u0078\u025d\u0079\u0262\u007a\u0267\u007b\u026c\u007c\u0271\u007d"
+                + "\u0276\u007e\u027b\u007f\u0280\u0080\u0285\u0081\u028a\u0082\u028f\u0083"
+                + "\u0294\u0084\u0299\u0085\u029e\u0086\u02a3\u0087\u02a8\u0088\u02ad\u0089"
+                + "\u02b2\u008a\u02b7\u008b\u02bc\u008c\u02c1\u008d\u02c6\u008e\u02cb\u008f"
+                + "\u02d0\u0090\u02d5\u0091\u02da\u0092\u02df\u0093\u02e4\u0094\u02e9\u0095"
+                + "\u02ee\u0096\u02f3\u0097\u02f8\u0098\u02fd\u0099\u0302\u009a\u0307\u009b"
+                + "\u030c\u009c\u0311\u009d\u0316\u009e\u031b\u009f\u0320\u00a0\u0325\u00a1"
+                + "\u032a\u00a2\u032f\u00a3\u0334\u00a4\u0339\u00a5\u033e\u00a6\u0343\u00a7"
+                + "\u0348\u00a8\u034d\u00a9\u0352\u00aa\u0357\u00ab\u035c\u00ac\u0361\u00ad"
+                + "\u0366\u00ae\u036b\u00af\u0370\u00b0\u0375\u00b1\u037a\u00b2\u037f\u00b3"
+                + "\u0384\u00b4\u0389\u00b5\u038e\u00b6\u0393\u00b7\u0398\u00b8\u039d\u00b9"
+                + "\u03a2\u00ba\u03a7\u00bb\u03ac\u00bc\u03b1\u00bd\u03b6\u00be\u03bb\u00bf"
+                + "\u03c0\u00c0\u03c5\u00c1\u03ca\u00c2\u03cf\u00c3\u03d4\u00c4\u03d9\u00c5"
+                + "\u03de\u00c6\u03e3\u00c7\u03e8\u00c8\u03ed\u00c9\u03f2\u00ca\u03f7\u00cb"
+                + "\u03fc\u00cc\u0401\u00cd\u0406\u00ce\u040b\u00cf\u0410\u00d0\u0415\u00d1"
+                + "\u041a\u00d2\u041f\u00d3\u0424\u00d4\u0429\u00d5\u042e\u00d6\u0433\u00d7"
+                + "\u0438\u00d8\u043d\u00d9\u0442\u00da\u0447\u00db\u044c\u00dc\u0451\u00dd"
+                + "\u0456\u00de\u045b\u00df\u0460\u00e0\u0465\u00e1\u046a\u00e2\u046f\u00e3"
+                + "\u0474\u00e4\u0479\u00e5\u047e\u00e6\u0483\u00e7\u0488\u00e8\u048d\u00e9"
+                + "\u0492\u00ea\u0497\u00eb\u049c\u00ec\u04a1\u00ed\u04a6\u00ee\u04ab\u00ef"
+                + "\u04b0\u00f0\u04b5\u00f1\u04ba\u00f2\u04bf\u00f3\u04c4\u00f4\u04c9\u00f5"
+                + "\u04ce\u00f6\u04d3\u00f7\u04d8\u00f8\u04dd\u00f9\u04e2\u00fa\u04e7\u00fb"
+                + "\u04ec\u00fc\u04f1\u00fd\u04f6\u00fe\u04fb\u00ff\u0500\u0100\u0505\u0101"
+                + "\u050a\u0102\u050f\u0103\u0514\u0104\u0519\u0105\u051e\u0106\u0523\u0107"
+                + "\u0528\u0108\u052d\u0109\u0532\u010a\u0537\u010b\u053c\u010c\u0541\u010d"
+                + "\u0546\u010e\u054b\u010f\u0550\u0110\u0555\u0111\u055a\u0112\u055f\u0113"
+                + "\u0564\u0114\u0569\u0115\u056e\u0116\u0573\u0117\u0578\u0118\u057d\u0119"
+                + "\u0582\u011a\u0587\u011b\u058c\u011c\u0591\u011d\u0596\u011e\u059b\u011f",
+                "\u0000\u0005\n\u000f\u0014\u0019\u001e\u0023\u0028\u002d\u0032\u0037"
+                + "\u003c\u0041\u0046\u004b\u0050\u0055\u005a\u005f\u0064\u0069\u006e\u0073"
+                + "\u0078\u007d\u0082\u0087\u008c\u0091\u0096\u009b\u00a0\u00a5\u00aa\u00af"
+                + "\u00b4\u00b9\u00be\u00c3\u00c8\u00cd\u00d2\u00d7\u00dc\u00e1\u00e6\u00eb"
+                + "\u00f0\u00f5\u00fa\u00ff\u0104\u0109\u010e\u0113\u0118\u011d\u0122\u0127"
+                + "\u012c\u0131\u0136\u013b\u0140\u0145\u014a\u014f\u0154\u0159\u015e\u0163"
+                + "\u0168\u016d\u0172\u0177\u017c\u0181\u0186\u018b\u0190\u0195\u019a\u019f"
+                + "\u01a4\u01a9\u01ae\u01b3\u01b8\u01bd\u01c2\u01c7\u01cc\u01d1\u01d6\u01db"
+                + "\u01e0\u01e5\u01ea\u01ef\u01f4\u01f9\u01fe\u0203\u0208\u020d\u0212\u0217"
+                + "\u021c\u0221\u0226\u022b\u0230\u0235\u023a\u023f\u0244\u0249\u024e\u0253"
+                + "\u0258\u025d\u0262\u0267\u026c\u0271\u0276\u027b\u0280\u0285\u028a\u028f"
+                + "\u0294\u0299\u029e\u02a3\u02a8\u02ad\u02b2\u02b7\u02bc\u02c1\u02c6\u02cb"
+                + "\u02d0\u02d5\u02da\u02df\u02e4\u02e9\u02ee\u02f3\u02f8\u02fd\u0302\u0307"
+                + "\u030c\u0311\u0316\u031b\u0320\u0325\u032a\u032f\u0334\u0339\u033e\u0343"
+                + "\u0348\u034d\u0352\u0357\u035c\u0361\u0366\u036b\u0370\u0375\u037a\u037f"
+                + "\u0384\u0389\u038e\u0393\u0398\u039d\u03a2\u03a7\u03ac\u03b1\u03b6\u03bb"
+                + "\u03c0\u03c5\u03ca\u03cf\u03d4\u03d9\u03de\u03e3\u03e8\u03ed\u03f2\u03f7"
+                + "\u03fc\u0401\u0406\u040b\u0410\u0415\u041a\u041f\u0424\u0429\u042e\u0433"
+                + "\u0438\u043d\u0442\u0447\u044c\u0451\u0456\u045b\u0460\u0465\u046a\u046f"
+                + "\u0474\u0479\u047e\u0483\u0488\u048d\u0492\u0497\u049c\u04a1\u04a6\u04ab"
+                + "\u04b0\u04b5\u04ba\u04bf\u04c4\u04c9\u04ce\u04d3\u04d8\u04dd\u04e2\u04e7"
+                + "\u04ec\u04f1\u04f6\u04fb\u0500\u0505\u050a\u050f\u0514\u0519\u051e\u0523"
+                + "\u0528\u052d\u0532\u0537\u053c\u0541\u0546\u054b\u0550\u0555\u055a\u055f"
+                + "\u0564\u0569\u056e\u0573\u0578\u057d\u0582\u0587\u058c\u0591\u0596\u059b");
+    }
+
+    static final class Warped12 {
+        // fuzzy_logic_warped.xml, 12 hour
+        static final FuzzyTable TABLE = FuzzyTable.decode(PHRASES,
+                "\u0001\u0000\u0000\u0002\u0001\u0003\u0004\u0001\u0003\u0005\u0001\u0003"
+                + "\u0006\u0001\u0003\u0007\u0001\u0003\u0008\u0001\u0003\u0007\u0009\n"
+                + "\u0006\u0009\n\u0005\u0009\n\u0004\u0009\n\u0002\u0009\n"
+                + "\u0009\u000b\u0000\u0002\u0009\u0003\u0004\u0009\u0003\u0005\u0009\u0003"
+                + "\u0006\u0009\u0003\u0007\u0009\u0003\u0008\u0009\u0003\u0007\u000c\n"
+                + "\u0006\u000c\n\u0005\u000c\n\u0004\u000c\n\u0002\u000c\n"
+                + "\u000c\u000b\u0000\u0002\u000c\u0003\u0004\u000c\u0003\u0005\u000c\u0003"
+                + "\u0006\u000c\u0003\u0007\u000c\u0003\u0008\u000c\u0003\u0007\r\n"
+                + "\u0006\r\n\u0005\r\n\u0004\r\n\u0002\r\n"
+                + "\r\u000b\u0000\u0002\r\u0003\u0004\r\u0003\u0005\r\u0003"
+                + "\u0006\r\u0003\u0007\r\u0003\u0008\r\u0003\u0007\u000e\n"
+                + "\u0006\u000e\n\u0005\u000e\n\u0004\u000e\n\u0002\u000e\n"
+                + "\u000e\u000b\u0000\u0002\u000e\u0003\u0004\u000e\u0003\u0005\u000e\u0003"
+                + "\u0006\u000e\u0003\u0007\u000e\u0003\u0008\u000e\u0003\u0007\u0002\n"
+                + "\u0006\u0002\n\u0005\u0002\n\u0004\u0002\n\u0002\u0002\n"
+                + "\u0002\u000b\u0000\u0002\u0002\u0003\u0004\u0002\u0003\u0005\u0002\u0003"
+                + "\u0006\u0002\u0003\u0007\u0002\u0003\u0008\u0002\u0003\u0007\u000f\n"
+                + "\u0006\u000f\n\u0005\u000f\n\u0004\u000f\n\u0002\u000f\n"
+                + "\u000f\u000b\u0000\u0002\u000f\u0003\u0004\u000f\u0003\u0005\u000f\u0003"
+                + "\u0006\u000f\u0003\u0007\u000f\u0003\u0008\u000f\u0003\u0007\u0010\n"
+                + "\u0006\u0010\n\u0005\u0010\n\u0004\u0010\n\u0002\u0010\n"
+                + "\u0010\u000b\u0000\u0002\u0010\u0003\u0004\u0010\u0003\u0005\u0010\u0003"
+                + "\u0006\u0010\u0003\u0007\u0010\u0003\u0008\u0010\u0003\u0007\u0011\n"
+                + "\u0006\u0011\n\u0005\u0011\n\u0004\u0011\n\u0002\u0011\n"
+                + "\u0011\u000b\u0000\u0002\u0011\u0003\u0004\u0011\u0003\u0005\u0011\u0003"
+                + "\u0006\u0011\u0003\u0007\u0011\u0003\u0008\u0011\u0003\u0007\u0012\n"
+                + "\u0006\u0012\n\u0005\u0012\n\u0004\u0012\n\u0002\u0012\n"
+                + "\u0012\u000b\u0000\u0002\u0012\u0003\u0004\u0012\u0003\u0005\u0012\u0003"
+                + "\u0006\u0012\u0003\u0007\u0012\u0003\u0008\u0012\u0003\u0007\u0004\n"
+                + "\u0006\u0004\n\u0005\u0004\n\u0004\u0004\n\u0002\u0004\n"
+                + "\u0004\u000b\u0000\u0002\u0004\u0003\u0004\u0004\u0003\u0005\u0004\u0003"
+                + "\u0006\u0004\u0003\u0007\u0004\u0003\u0008\u0004\u0003\u0007\u0013\n"
+                + "\u0006\u0013\n\u0005\u0013\n\u0004\u0013\n\u0002\u0013\n"
+                + "\u0013\u000b\u0000\u0002\u0013\u0003\u0004\u0013\u0003\u0005\u0013\u0003"
+                + "\u0006\u0013\u0003\u0007\u0013\u0003\u0008\u0013\u0003\u0007\u0014\n"
+                + "\u0006\u0014\n\u0005\u0014\n\u0004\u0014\n\u0002\u0014\n"
+                + "\u0014\u0000\u0000\u0002\u0014\u0003\u0004\u0014\u0003\u0005\u0014\u0003"
+                + "\u0006\u0014\u0003\u0007\u0014\u0003\u0008\u0014\u0003\u0007\u0001\n"
+                + "\u0006\u0001\n\u0005\u0001\n\u0004\u0001\n\u0002\u0001\n",
+                "\u0000\u0000\u0005\u0001\n\u0002\u000f\u0003\u0014\u0004\u0019\u0005"
+                + "\u001e\u0006\u0023\u0007\u0024\u0008\u0029\u0009\u002e\n\u0033\u000b"
+                + "\u0038\u000c\u0041\r\u0046\u000e\u004b\u000f\u0050\u0010\u0055\u0011"
+                + "\u005a\u0012\u005f\u0013\u0060\u0014\u0065\u0015\u006a\u0016\u006f\u0017"
+                + "\u0074\u0018\u007d\u0019\u0082\u001a\u0087\u001b\u008c\u001c\u0091\u001d"
+                + "\u0096\u001e\u009b\u001f\u009c\u0020\u00a1\u0021\u00a6\"\u00ab\u0023"
+                + "\u00b0\u0024\u00b9\u0025\u00be\u0026\u00c3\u0027\u00c8\u0028\u00cd\u0029"
+                + "\u00d2\u002a\u00d7\u002b\u00d8\u002c\u00dd\u002d\u00e2\u002e\u00e7\u002f"
+                + "\u00ec\u0030\u00f5\u0031\u00fa\u0032\u00ff\u0033\u0104\u0034\u0109\u0035"
+                + "\u010e\u0036\u0113\u0037\u0114\u0038\u0119\u0039\u011e\u003a\u0123\u003b"
+                + "\u0128\u003c\u0131\u003d\u0136\u003e\u013b\u003f\u0140\u0040\u0145\u0041"
+                + "\u014a\u0042\u014f\u0043\u0150\u0044\u0155\u0045\u015a\u0046\u015f\u0047"
+                + "\u0164\u0048\u016d\u0049\u0172\u004a\u0177\u004b\u017c\u004c\u0181\u004d"
+                + "\u0186\u004e\u018b\u004f\u018c\u0050\u0191\u0051\u0196\u0052\u019b\u0053"
+                + "\u01a0\u0054\u01a9\u0055\u01ae\u0056\u01b3\u0057\u01b8\u0058\u01bd\u0059"
+                + "\u01c2\u005a\u01c7\u005b\u01c8\\\u01cd\u005d\u01d2\u005e\u01d7\u005f"
+                + "\u01dc\u0060\u01e5\u0061\u01ea\u0062\u01ef\u0063\u01f4\u0064\u01f9\u0065"
+                + "\u01fe\u0066\u0203\u0067\u0204\u0068\u0209\u0069\u020e\u006a\u0213\u006b"
+                + "\u0218\u006c\u0221\u006d\u0226\u006e\u022b\u006f\u0230\u0070\u0235\u0071"
+                + "\u023a\u0072\u023f\u0073\u0240\u0074\u0245\u0075\u024a\u0076\u024f\u0077"
+                + "\u0254\u0078\u025d\u0079\u0262\u007a\u0267\u007b\u026c\u007c\u0271\u007d"
+                + "\u0276\u007e\u027b\u007f\u027c\u0080\u0281\u0081\u0286\u0082\u028b\u0083"
+                + "\u0290\u0084\u0299\u0085\u029e\u0086\u02a3\u0087\u02a8\u0088\u02ad\u0089"
+                + "\u02b2\u008a\u02b7\u008b\u02b8\u008c\u02bd\u008d\u02c2\u008e\u02c7\u008f"
+                + "\u02cc\u0090\u02d5\u0091\u02da\u0092\u02df\u0093\u02e4\u0094\u02e9\u0095"
+                + "\u02ee\u0096\u02f3\u0007\u02f4\u0008\u02f9\u0009\u02fe\n\u0303\u000b"
+                + "\u0308\u000c\u0311\r\u0316\u000e\u031b\u000f\u0320\u0010\u0325\u0011"
+                + "\u032a\u0012\u032f\u0013\u0330\u0014\u0335\u0015\u033a\u0016\u033f\u0017"
+                + "\u0344\u0018\u034d\u0019\u0352\u001a\u0357\u001b\u035c\u001c\u0361\u001d"
+                + "\u0366\u001e\u036b\u001f\u036c\u0020\u0371\u0021\u0376\"\u037b\u0023"
+                + "\u0380\u0024\u0389\u0025\u038e\u0026\u0393\u0027\u0398\u0028\u039d\u0029"
+                + "\u03a2\u002a\u03a7\u002b\u03a8\u002c\u03ad\u002d\u03b2\u002e\u03b7\u002f"
+                + "\u03bc\u0030\u03c5\u0031\u03ca\u0032\u03cf\u0033\u03d4\u0034\u03d9\u0035"
+                + "\u03de\u0036\u03e3\u0037\u03e4\u0038\u03e9\u0039\u03ee\u003a\u03f3\u003b"
+                + "\u03f8\u003c\u0401\u003d\u0406\u003e\u040b\u003f\u0410\u0040\u0415\u0041"
+                + "\u041a\u0042\u041f\u0043\u0420\u0044\u0425\u0045\u042a\u0046\u042f\u0047"
+                + "\u0434\u0048\u043d\u0049\u0442\u004a\u0447\u004b\u044c\u004c\u0451\u004d"
+                + "\u0456\u004e\u045b\u004f\u045c\u0050\u0461\u0051\u0466\u0052\u046b\u0053"
+                + "\u0470\u0054\u0479\u0055\u047e\u0056\u0483\u0057\u0488\u0058\u048d\u0059"
+                + "\u0492\u005a\u0497\u005b\u0498\\\u049d\u005d\u04a2\u005e\u04a7\u005f"
+                + "\u04ac\u0060\u04b5\u0061\u04ba\u0062\u04bf\u0063\u04c4\u0064\u04c9\u0065"
+                + "\u04ce\u0066\u04d3\u0067\u04d4\u0068\u04d9\u0069\u04de\u006a\u04e3\u006b"
+                + "\u04e8\u006c\u04f1\u006d\u04f6\u006e\u04fb\u006f\u0500\u0070\u0505\u0071"
+                + "\u050a\u0072\u050f\u0073\u0510\u0074\u0515\u0075\u051a\u0076\u051f\u0077"
+                + "\u0524\u0078\u052d\u0079\u0532\u007a\u0537\u007b\u053c\u007c\u0541\u007d"
+                + "\u0546\u007e\u054b\u007f\u054c\u0080\u0551\u0081\u0556\u0082\u055b\u0083"
+                + "\u0560\u0084\u0569\u0085\u056e\u0086\u0573\u0087\u0578\u0088\u057d\u0089"
+                + "\u0582\u008a\u0587\u0097\u0588\u0098\u058d\u0099\u0592\u009a\u0597\u009b"
+                + "\u059c\u0000",
+                "\u0005\n\u000f\u0014\u0019\u001e\u0023\u0024\u0029\u002e\u0033\u0038"
+                + "\u0041\u0046\u004b\u0050\u0055\u005a\u005f\u0060\u0065\u006a\u006f\u0074"
+                + "\u007d\u0082\u0087\u008c\u0091\u0096\u009b\u009c\u00a1\u00a6\u00ab\u00b0"
+                + "\u00b9\u00be\u00c3\u00c8\u00cd\u00d2\u00d7\u00d8\u00dd\u00e2\u00e7\u00ec"
+                + "\u00f5\u00fa\u00ff\u0104\u0109\u010e\u0113\u0114\u0119\u011e\u0123\u0128"
+                + "\u0131\u0136\u013b\u0140\u0145\u014a\u014f\u0150\u0155\u015a\u015f\u0164"
+                + "\u016d\u0172\u0177\u017c\u0181\u0186\u018b\u018c\u0191\u0196\u019b\u01a0"
+                + "\u01a9\u01ae\u01b3\u01b8\u01bd\u01c2\u01c7\u01c8\u01cd\u01d2\u01d7\u01dc"
+                + "\u01e5\u01ea\u01ef\u01f4\u01f9\u01fe\u0203\u0204\u0209\u020e\u0213\u0218"
+                + "\u0221\u0226\u022b\u0230\u0235\u023a\u023f\u0240\u0245\u024a\u024f\u0254"
+                + "\u025d\u0262\u0267\u026c\u0271\u0276\u027b\u027c\u0281\u0286\u028b\u0290"
+                + "\u0299\u029e\u02a3\u02a8\u02ad\u02b2\u02b7\u02b8\u02bd\u02c2\u02c7\u02cc"
+                + "\u02d5\u02da\u02df\u02e4\u02e9\u02ee\u02f3\u02f4\u02f9\u02fe\u0303\u0308"
+                + "\u0311\u0316\u031b\u0320\u0325\u032a\u032f\u0330\u0335\u033a\u033f\u0344"
+                + "\u034d\u0352\u0357\u035c\u0361\u0366\u036b\u036c\u0371\u0376\u037b\u0380"
+                + "\u0389\u038e\u0393\u0398\u039d\u03a2\u03a7\u03a8\u03ad\u03b2\u03b7\u03bc"
+                + "\u03c5\u03ca\u03cf\u03d4\u03d9\u03de\u03e3\u03e4\u03e9\u03ee\u03f3\u03f8"
+                + "\u0401\u0406\u040b\u0410\u0415\u041a\u041f\u0420\u0425\u042a\u042f\u0434"
+                + "\u043d\u0442\u0447\u044c\u0451\u0456\u045b\u045c\u0461\u0466\u046b\u0470"
+                + "\u0479\u047e\u0483\u0488\u048d\u0492\u0497\u0498\u049d\u04a2\u04a7\u04ac"
+                + "\u04b5\u04ba\u04bf\u04c4\u04c9\u04ce\u04d3\u04d4\u04d9\u04de\u04e3\u04e8"
+                + "\u04f1\u04f6\u04fb\u0500\u0505\u050a\u050f\u0510\u0515\u051a\u051f\u0524"
+                + "\u052d\u0532\u0537\u053c\u0541\u0546\u054b\u054c\u0551\u0556\u055b\u0560"
+                + "\u0569\u056e\u0573\u0578\u057d\u0582\u0587\u0588\u058d\u0592\u0597\u059c");
+    }
+
+    static final class Warped24 {
+        // fuzzy_logic_warped.xml, 24 hour
+        static final FuzzyTable TABLE = FuzzyTable.decode(PHRASES,
+                "\u0001\u0000\u0000\u0002\u0001\u0003\u0004\u0001\u0003\u0005\u0001\u0003"
+                + "\u0006\u0001\u0003\u0007\u0001\u0003\u0008\u0001\u0003\u0007\u0009\n"
+                + "\u0006\u0009\n\u0005\u0009\n\u0004\u0009\n\u0002\u0009\n"
+                + "\u0009\u000b\u0000\u0002\u0009\u0003\u0004\u0009\u0003\u0005\u0009\u0003"
+                + "\u0006\u0009\u0003\u0007\u0009\u0003\u0008\u0009\u0003\u0007\u000c\n"
+                + "\u0006\u000c\n\u0005\u000c\n\u0004\u000c\n\u0002\u000c\n"
+                + "\u000c\u000b\u0000\u0002\u000c\u0003\u0004\u000c\u0003\u0005\u000c\u0003"
+                + "\u0006\u000c\u0003\u0007\u000c\u0003\u0008\u000c\u0003\u0007\r\n"
+                + "\u0006\r\n\u0005\r\n\u0004\r\n\u0002\r\n"
+                + "\r\u000b\u0000\u0002\r\u0003\u0004\r\u0003\u0005\r\u0003"
+                + "\u0006\r\u0003\u0007\r\u0003\u0008\r\u0003\u0007\u000e\n"
+                + "\u0006\u000e\n\u0005\u000e\n\u0004\u000e\n\u0002\u000e\n"
+                + "\u000e\u000b\u0000\u0002\u000e\u0003\u0004\u000e\u0003\u0005\u000e\u0003"
+                + "\u0006\u000e\u0003\u0007\u000e\u0003\u0008\u000e\u0003\u0007\u0002\n"
+                + "\u0006\u0002\n\u0005\u0002\n\u0004\u0002\n\u0002\u0002\n"
+                + "\u0002\u000b\u0000\u0002\u0002\u0003\u0004\u0002\u0003\u0005\u0002\u0003"
+                + "\u0006\u0002\u0003\u0007\u0002\u0003\u0008\u0002\u0003\u0007\u000f\n"
+                + "\u0006\u000f\n\u0005\u000f\n\u0004\u000f\n\u0002\u000f\n"
+                + "\u000f\u000b\u0000\u0002\u000f\u0003\u0004\u000f\u0003\u0005\u000f\u0003"
+                + "\u0006\u000f\u0003\u0007\u000f\u0003\u0008\u000f\u0003\u0007\u0010\n"
+                + "\u0006\u0010\n\u0005\u0010\n\u0004\u0010\n\u0002\u0010\n"
+                + "\u0010\u000b\u0000\u0002\u0010\u0003\u0004\u0010\u0003\u0005\u0010\u0003"
+                + "\u0006\u0010\u0003\u0007\u0010\u0003\u0008\u0010\u0003\u0007\u0011\n"
+                + "\u0006\u0011\n\u0005\u0011\n\u0004\u0011\n\u0002\u0011\n"
+                + "\u0011\u000b\u0000\u0002\u0011\u0003\u0004\u0011\u0003\u0005\u0011\u0003"
+                + "\u0006\u0011\u0003\u0007\u0011\u0003\u0008\u0011\u0003\u0007\u0012\n"
+                + "\u0006\u0012\n\u0005\u0012\n\u0004\u0012\n\u0002\u0012\n"
+                + "\u0012\u000b\u0000\u0002\u0012\u0003\u0004\u0012\u0003\u0005\u0012\u0003"
+                + "\u0006\u0012\u0003\u0007\u0012\u0003\u0008\u0012\u0003\u0007\u0004\n"
+                + "\u0006\u0004\n\u0005\u0004\n\u0004\u0004\n\u0002\u0004\n"
+                + "\u0004\u000b\u0000\u0002\u0004\u0003\u0004\u0004\u0003\u0005\u0004\u0003"
+                + "\u0006\u0004\u0003\u0007\u0004\u0003\u0008\u0004\u0003\u0007\u0013\n"
+                + "\u0006\u0013\n\u0005\u0013\n\u0004\u0013\n\u0002\u0013\n"
+                + "\u0013\u000b\u0000\u0002\u0013\u0003\u0004\u0013\u0003\u0005\u0013\u0003"
+                + "\u0006\u0013\u0003\u0007\u0013\u0003\u0008\u0013\u0003\u0007\u0014\n"
+                + "\u0006\u0014\n\u0005\u0014\n\u0004\u0014\n\u0002\u0014\n"
+                + "\u0014\u0000\u0000\u0002\u0014\u0003\u0004\u0014\u0003\u0005\u0014\u0003"
+                + "\u0006\u0014\u0003\u0007\u0014\u0003\u0008\u0014\u0003\u0007\u0015\n"
+                + "\u0006\u0015\n\u0005\u0015\n\u0004\u0015\n\u0002\u0015\n"
+                + "\u0015\u000b\u0000\u0002\u0015\u0003\u0004\u0015\u0003\u0005\u0015\u0003"
+                + "\u0006\u0015\u0003\u0007\u0015\u0003\u0008\u0015\u0003\u0007\u0016\n"
+                + "\u0006\u0016\n\u0005\u0016\n\u0004\u0016\n\u0002\u0016\n"
+                + "\u0016\u000b\u0000\u0002\u0016\u0003\u0004\u0016\u0003\u0005\u0016\u0003"
+                + "\u0006\u0016\u0003\u0007\u0016\u0003\u0008\u0016\u0003\u0007\u0017\n"
+                + "\u0006\u0017\n\u0005\u0017\n\u0004\u0017\n\u0002\u0017\n"
+                + "\u0017\u000b\u0000\u0002\u0017\u0003\u0004\u0017\u0003\u0005\u0017\u0003"
+                + "\u0006\u0017\u0003\u0007\u0017\u0003\u0008\u0017\u0003\u0007\u0018\n"
+                + "\u0006\u0018\n\u0005\u0018\n\u0004\u0018\n\u0002\u0018\n"
+                + "\u0018\u000b\u0000\u0002\u0018\u0003\u0004\u0018\u0003\u0005\u0018\u0003"
+                + "\u0006\u0018\u0003\u0007\u0018\u0003\u0008\u0018\u0003\u0007\u0019\n"
+                + "\u0006\u0019\n\u0005\u0019\n\u0004\u0019\n\u0002\u0019\n"
+                + "\u0019\u000b\u0000\u0002\u0019\u0003\u0004\u0019\u0003\u0005\u0019\u0003"
+                + "\u0006\u0019\u0003\u0007\u0019\u0003\u0008\u0019\u0003\u0007\u001a\n"
+                + "\u0006\u001a\n\u0005\u001a\n\u0004\u001a\n\u0002\u001a\n"
+                + "\u001a\u000b\u0000\u0002\u001a\u0003\u0004\u001a\u0003\u0005\u001a\u0003"
+                + "\u0006\u001a\u0003\u0007\u001a\u0003\u0008\u001a\u0003\u0007\u001b\n"
+                + "\u0006\u001b\n\u0005\u001b\n\u0004\u001b\n\u0002\u001b\n"
+                + "\u001b\u000b\u0000\u0002\u001b\u0003\u0004\u001b\u0003\u0005\u001b\u0003"
+                + "\u0006\u001b\u0003\u0007\u001b\u0003\u0008\u001b\u0003\u0007\u0006\n"
+                + "\u0006\u0006\n\u0005\u0006\n\u0004\u0006\n\u0002\u0006\n"
+                + "\u0006\u000b\u0000\u0002\u0006\u0003\u0004\u0006\u0003\u0005\u0006\u0003"
+                + "\u0006\u0006\u0003\u0007\u0006\u0003\u0008\u0006\u0003\u0007\u001c\n"
+                + "\u0006\u001c\n\u0005\u001c\n\u0004\u001c\n\u0002\u001c\n"
+                + "\u001c\u000b\u0000\u0002\u001c\u0003\u0004\u001c\u0003\u0005\u001c\u0003"
+                + "\u0006\u001c\u0003\u0007\u001c\u0003\u0008\u001c\u0003\u0007\u001d\n"
+                + "\u0006\u001d\n\u0005\u001d\n\u0004\u001d\n\u0002\u001d\n"
+                + "\u001d\u000b\u0000\u0002\u001d\u0003\u0004\u001d\u0003\u0005\u001d\u0003"
+                + "\u0006\u001d\u0003\u0007\u001d\u0003\u0008\u001d\u0003\u0007\u001e\n"
+                + "\u0006\u001e\n\u0005\u001e\n\u0004\u001e\n\u0002\u001e\n"
+                + "\u001e\u000b\u0000\u0002\u001e\u0003\u0004\u001e\u0003\u0005\u001e\u0003"
+                + "\u0006\u001e\u0003\u0007\u001e\u0003\u0008\u001e\u0003\u0007\u0001\n"
+                + "\u0006\u0001\n\u0005\u0001\n\u0004\u0001\n\u0002\u0001\n",
+                "\u0000\u0000\u0005\u0001\n\u0002\u000f\u0003\u0014\u0004\u0019\u0005"
+                + "\u001e\u0006\u0023\u0007\u0024\u0008\u0029\u0009\u002e\n\u0033\u000b"
+                + "\u0038\u000c\u0041\r\u0046\u000e\u004b\u000f\u0050\u0010\u0055\u0011"
+                + "\u005a\u0012\u005f\u0013\u0060\u0014\u0065\u0015\u006a\u0016\u006f\u0017"
+                + "\u0074\u0018\u007d\u0019\u0082\u001a\u0087\u001b\u008c\u001c\u0091\u001d"
+                + "\u0096\u001e\u009b\u001f\u009c\u0020\u00a1\u0021\u00a6\"\u00ab\u0023"
+                + "\u00b0\u0024\u00b9\u0025\u00be\u0026\u00c3\u0027\u00c8\u0028\u00cd\u0029"
+                + "\u00d2\u002a\u00d7\u002b\u00d8\u002c\u00dd\u002d\u00e2\u002e\u00e7\u002f"
+                + "\u00ec\u0030\u00f5\u0031\u00fa\u0032\u00ff\u0033\u0104\u0034\u0109\u0035"
+                + "\u010e\u0036\u0113\u0037\u0114\u0038\u0119\u0039\u011e\u003a\u0123\u003b"
+                + "\u0128\u003c\u0131\u003d\u0136\u003e\u013b\u003f\u0140\u0040\u0145\u0041"
+                + "\u014a\u0042\u014f\u0043\u0150\u0044\u0155\u0045\u015a\u0046\u015f\u0047"
+                + "\u0164\u0048\u016d\u0049\u0172\u004a\u0177\u004b\u017c\u004c\u0181\u004d"
+                + "\u0186\u004e\u018b\u004f\u018c\u0050\u0191\u0051\u0196\u0052\u019b\u0053"
+                + "\u01a0\u0054\u01a9\u0055\u01ae\u0056\u01b3\u0057\u01b8\u0058\u01bd\u0059"
+                + "\u01c2\u005a\u01c7\u005b\u01c8\\\u01cd\u005d\u01d2\u005e\u01d7\u005f"
+                + "\u01dc\u0060\u01e5\u0061\u01ea\u0062\u01ef\u0063\u01f4\u0064\u01f9\u0065"
+                + "\u01fe\u0066\u0203\u0067\u0204\u0068\u0209\u0069\u020e\u006a\u0213\u006b"
+                + "\u0218\u006c\u0221\u006d\u0226\u006e\u022b\u006f\u0230\u0070\u0235\u0071"
+                + "\u023a\u0072\u023f\u0073\u0240\u0074\u0245\u0075\u024a\u0076\u024f\u0077"
+                + "\u0254\u0078\u025d\u0079\u0262\u007a\u0267\u007b\u026c\u007c\u0271\u007d"
+                + "\u0276\u007e\u027b\u007f\u027c\u0080\u0281\u0081\u0286\u0082\u028b\u0083"
+                + "\u0290\u0084\u0299\u0085\u029e\u0086\u02a3\u0087\u02a8\u0088\u02ad\u0089"
+                + "\u02b2\u008a\u02b7\u008b\u02b8\u008c\u02bd\u008d\u02c2\u008e\u02c7\u008f"
+                + "\u02cc\u0090\u02d5\u0091\u02da\u0092\u02df\u0093\u02e4\u0094\u02e9\u0095"
+                + "\u02ee\u0096\u02f3\u0097\u02f4\u0098\u02f9\u0099\u02fe\u009a\u0303\u009b"
+                + "\u0308\u009c\u0311\u009d\u0316\u009e\u031b\u009f\u0320\u00a0\u0325\u00a1"
+                + "\u032a\u00a2\u032f\u00a3\u0330\u00a4\u0335\u00a5\u033a\u00a6\u033f\u00a7"
+                + "\u0344\u00a8\u034d\u00a9\u0352\u00aa\u0357\u00ab\u035c\u00ac\u0361\u00ad"
+                + "\u0366\u00ae\u036b\u00af\u036c\u00b0\u0371\u00b1\u0376\u00b2\u037b\u00b3"
+                + "\u0380\u00b4\u0389\u00b5\u038e\u00b6\u0393\u00b7\u0398\u00b8\u039d\u00b9"
+                + "\u03a2\u00ba\u03a7\u00bb\u03a8\u00bc\u03ad\u00bd\u03b2\u00be\u03b7\u00bf"
+                + "\u03bc\u00c0\u03c5\u00c1\u03ca\u00c2\u03cf\u00c3\u03d4\u00c4\u03d9\u00c5"
+                + "\u03de\u00c6\u03e3\u00c7\u03e4\u00c8\u03e9\u00c9\u03ee\u00ca\u03f3\u00cb"
+                + "\u03f8\u00cc\u0401\u00cd\u0406\u00ce\u040b\u00cf\u0410\u00d0\u0415\u00d1"
+                + "\u041a\u00d2\u041f\u00d3\u0420\u00d4\u0425\u00d5\u042a\u00d6\u042f\u00d7"
+                + "\u0434\u00d8\u043d\u00d9\u0442\u00da\u0447\u00db\u044c\u00dc\u0451\u00dd"
+                + "\u0456\u00de\u045b\u00df\u045c\u00e0\u0461\u00e1\u0466\u00e2\u046b\u00e3"
+                + "\u0470\u00e4\u0479\u00e5\u047e\u00e6\u0483\u00e7\u0488\u00e8\u048d\u00e9"
+                + "\u0492\u00ea\u0497\u00eb\u0498\u00ec\u049d\u00ed\u04a2\u00ee\u04a7\u00ef"
+                + "\u04ac\u00f0\u04b5\u00f1\u04ba\u00f2\u04bf\u00f3\u04c4\u00f4\u04c9\u00f5"
+                + "\u04ce\u00f6\u04d3\u00f7\u04d4\u00f8\u04d9\u00f9\u04de\u00fa\u04e3\u00fb"
+                + "\u04e8\u00fc\u04f1\u00fd\u04f6\u00fe\u04fb\u00ff\u0500\u0100\u0505\u0101"
+                + "\u050a\u0102\u050f\u0103\u0510\u0104\u0515\u0105\u051a\u0106\u051f\u0107"
+                + "\u0524\u0108\u052d\u0109\u0532\u010a\u0537\u010b\u053c\u010c\u0541\u010d"
+                + "\u0546\u010e\u054b\u010f\u054c\u0110\u0551\u0111\u0556\u0112\u055b\u0113"
+                + "\u0560\u0114\u0569\u0115\u056e\u0116\u0573\u0117\u0578\u0118\u057d\u0119"
+                + "\u0582\u011a\u0587\u011b\u0588\u011c\u058d\u011d\u0592\u011e\u0597\u011f"
+                + "\u059c\u0000",
+                "\u0005\n\u000f\u0014\u0019\u001e\u0023\u0024\u0029\u002e\u0033\u0038"
+                + "\u0041\u0046\u004b\u0050\u0055\u005a\u005f\u0060\u0065\u006a\u006f\u0074"
+                + "\u007d\u0082\u0087\u008c\u0091\u0096\u009b\u009c\u00a1\u00a6\u00ab\u00b0"
+                + "\u00b9\u00be\u00c3\u00c8\u00cd\u00d2\u00d7\u00d8\u00dd\u00e2\u00e7\u00ec"
+                + "\u00f5\u00fa\u00ff\u0104\u0109\u010e\u0113\u0114\u0119\u011e\u0123\u0128"
+                + "\u0131\u0136\u013b\u0140\u0145\u014a\u014f\u0150\u0155\u015a\u015f\u0164"
+                + "\u016d\u0172\u0177\u017c\u0181\u0186\u018b\u018c\u0191\u0196\u019b\u01a0"
+                + "\u01a9\u01ae\u01b3\u01b8\u01bd\u01c2\u01c7\u01c8\u01cd\u01d2\u01d7\u01dc"
+                + "\u01e5\u01ea\u01ef\u01f4\u01f9\u01fe\u0203\u0204\u0209\u020e\u0213\u0218"
+                + "\u0221\u0226\u022b\u0230\u0235\u023a\u023f\u0240\u0245\u024a\u024f\u0254"
+                + "\u025d\u0262\u0267\u026c\u0271\u0276\u027b\u027c\u0281\u0286\u028b\u0290"
+                + "\u0299\u029e\u02a3\u02a8\u02ad\u02b2\u02b7\u02b8\u02bd\u02c2\u02c7\u02cc"
+                + "\u02d5\u02da\u02df\u02e4\u02e9\u02ee\u02f3\u02f4\u02f9\u02fe\u0303\u0308"
+                + "\u0311\u0316\u031b\u0320\u0325\u032a\u032f\u0330\u0335\u033a\u033f\u0344"
+                + "\u034d\u0352\u0357\u035c\u0361\u0366\u036b\u036c\u0371\u0376\u037b\u0380"
+                + "\u0389\u038e\u0393\u0398\u039d\u03a2\u03a7\u03a8\u03ad\u03b2\u03b7\u03bc"
+                + "\u03c5\u03ca\u03cf\u03d4\u03d9\u03de\u03e3\u03e4\u03e9\u03ee\u03f3\u03f8"
+                + "\u0401\u0406\u040b\u0410\u0415\u041a\u041f\u0420\u0425\u042a\u042f\u0434"
+                + "\u043d\u0442\u0447\u044c\u0451\u0456\u045b\u045c\u0461\u0466\u046b\u0470"
+                + "\u0479\u047e\u0483\u0488\u048d\u0492\u0497\u0498\u049d\u04a2\u04a7\u04ac"
+                + "\u04b5\u04ba\u04bf\u04c4\u04c9\u04ce\u04d3\u04d4\u04d9\u04de\u04e3\u04e8"
+                + "\u04f1\u04f6\u04fb\u0500\u0505\u050a\u050f\u0510\u0515\u051a\u051f\u0524"
+                + "\u052d\u0532\u0537\u053c\u0541\u0546\u054b\u054c\u0551\u0556\u055b\u0560"
+                + "\u0569\u056e\u0573\u0578\u057d\u0582\u0587\u0588\u058d\u0592\u0597\u059c");
+    }
+
+}
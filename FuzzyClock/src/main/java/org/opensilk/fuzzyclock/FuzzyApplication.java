@@ -0,0 +1,56 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+import android.app.Application;
+import android.content.BroadcastReceiver;
+import android.content.Context;
+import android.content.Intent;
+import android.content.IntentFilter;
+
+/**
+ * Registers the xml defined logics before any widget, dream or settings screen runs,
+ * warms up the typefaces, drops resolved phrases when the locale changes and
+ * cached frames when memory runs low
+ */
+public class FuzzyApplication extends Application {
+
+    @Override
+    public void onCreate() {
+        super.onCreate();
+        FuzzyTypefaces.preload();
+        FuzzyLogicLoader.loadAll(this);
+        registerReceiver(new BroadcastReceiver() {
+            @Override
+            public void onReceive(Context context, Intent intent) {
+                FuzzyPhrases.invalidate();
+            }
+        }, new IntentFilter(Intent.ACTION_LOCALE_CHANGED));
+    }
+
+    @Override
+    public void onTrimMemory(int level) {
+        super.onTrimMemory(level);
+        if (level >= TRIM_MEMORY_MODERATE) {
+            // Cheap to render again
+            FuzzyFrameCache.clear();
+            FuzzyWordAtlas.clear();
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import java.util.ArrayList;
+
+/**
+ * Recycles widget frame bitmaps by dimensions and config so a render
+ * doesn't allocate a new bitmap each time. Thread safe.
+ *
+ * A bitmap from {@link #get} belongs to the caller until it is handed back
+ * with {@link #put}. Only hand it back once nothing will read it again,
+ * for RemoteViews that is after updateAppWidget() has returned, which is
+ * when the bitmap has been copied into the binder transaction.
+ */
+public final class FuzzyBitmapPool {
+
+    private final int mMaxSize;
+    // Free bitmaps, least recently returned first
+    private final ArrayList<Bitmap> mFree;
+    private int mHits;
+    private int mMisses;
+
+    /**
+     * @param maxSize most free bitmaps kept, older ones are recycled
+     */
+    public FuzzyBitmapPool(int maxSize) {
+        mMaxSize = maxSize;
+        mFree = new ArrayList<>(maxSize);
+    }
+
+    /**
+     * @return a cleared bitmap of the given size and config, owned by the caller
+     */
+    public synchronized Bitmap get(int width, int height, Bitmap.Config config) {
+        for (int ii=mFree.size()-1; ii>=0; ii--) {
+            final Bitmap bitmap = mFree.get(ii);
+            if (bitmap.getWidth() == width && bitmap.getHeight() == height
+                    && bitmap.getConfig() == config) {
+                mFree.remove(ii);
+                bitmap.eraseColor(Color.TRANSPARENT);
+                mHits++;
+                return bitmap;
+            }
+        }
+        mMisses++;
+        return Bitmap.createBitmap(width, height, config);
+    }
+
+    /**
+     * Returns a bitmap from {@link #get} to the pool, the caller must not touch it afterwards
+     */
+    public synchronized void put(Bitmap bitmap) {
+        if (bitmap == null || bitmap.isRecycled() || !bitmap.isMutable()) {
+            return;
+        }
+        if (mFree.size() >= mMaxSize) {
+            mFree.remove(0).recycle();
+        }
+        mFree.add(bitmap);
+    }
+
+    /**
+     * Recycles all free bitmaps
+     */
+    public synchronized void clear() {
+        for (Bitmap bitmap : mFree) {
+            bitmap.recycle();
+        }
+        mFree.clear();
+    }
+
+    public synchronized int getHits() {
+        return mHits;
+    }
+
+    public synchronized int getMisses() {
+        return mMisses;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "FuzzyBitmapPool{free=" + mFree.size() + ", hits=" + mHits + ", misses=" + mMisses + "}";
+    }
+
+}
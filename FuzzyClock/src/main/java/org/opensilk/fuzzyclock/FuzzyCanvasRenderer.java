@@ -0,0 +1,131 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Typeface;
+import android.text.TextPaint;
+
+import java.util.Arrays;
+
+/**
+ * Draws a {@link FuzzyLayout} on a Canvas, sized like the TextViews it replaces
+ */
+public class FuzzyCanvasRenderer implements FuzzyRenderer {
+
+    private final TextPaint[] mPaints = new TextPaint[FuzzyLayout.SEGMENT_COUNT];
+    // last applied size, font file and TEXT_STYLE_*, unset until the first setter call
+    private final float[] mSizeSp = new float[FuzzyLayout.SEGMENT_COUNT];
+    private final String[] mFont = new String[FuzzyLayout.SEGMENT_COUNT];
+    private final int[] mStyle = new int[FuzzyLayout.SEGMENT_COUNT];
+    private final float[] mDensity = new float[FuzzyLayout.SEGMENT_COUNT];
+    private Canvas mCanvas;
+
+    public FuzzyCanvasRenderer() {
+        Arrays.fill(mSizeSp, Float.NaN);
+        Arrays.fill(mFont, FuzzyPrefs.FONT_DEFAULT);
+        Arrays.fill(mStyle, -1);
+        final Typeface typeface = FuzzyPrefs.createTypeface(FuzzyPrefs.TEXT_STYLE_DEFAULT);
+        for (int ii = 0; ii < mPaints.length; ii++) {
+            mPaints[ii] = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+            mPaints[ii].setTypeface(typeface);
+        }
+    }
+
+    public TextPaint getPaint(int segment) {
+        return mPaints[segment];
+    }
+
+    /**
+     * @return last size set in sp, NaN if never set
+     */
+    public float getTextSizeSp(int segment) {
+        return mSizeSp[segment];
+    }
+
+    /**
+     * @return last font file set, empty for the built in families
+     */
+    public String getFont(int segment) {
+        return mFont[segment];
+    }
+
+    /**
+     * @return last FuzzyPrefs.TEXT_STYLE_* set, -1 if never set
+     */
+    public int getTextStyle(int segment) {
+        return mStyle[segment];
+    }
+
+    public void setTextSize(int segment, float sizeSp, float density) {
+        mSizeSp[segment] = sizeSp;
+        mDensity[segment] = density;
+        mPaints[segment].setTextSize(sizeSp * density);
+    }
+
+    public void setTypeface(int segment, String font, int style, Typeface typeface) {
+        mFont[segment] = font;
+        mStyle[segment] = style;
+        mPaints[segment].setTypeface(typeface);
+    }
+
+    /**
+     * Sets the canvas {@link #drawText(int, String, int, int)} draws on
+     */
+    public void setCanvas(Canvas canvas) {
+        mCanvas = canvas;
+    }
+
+    @Override
+    public int getTextWidth(int segment, String text) {
+        return getMetrics(segment, text).width;
+    }
+
+    @Override
+    public int getTextHeight(int segment, String text) {
+        return getMetrics(segment, text).height;
+    }
+
+    @Override
+    public int getTextBaseline(int segment, String text) {
+        return getMetrics(segment, text).baseline;
+    }
+
+    @Override
+    public float getTextSize(int segment) {
+        return mPaints[segment].getTextSize();
+    }
+
+    @Override
+    public void drawText(int segment, String text, int x, int y) {
+        final TextPaint paint = mPaints[segment];
+        // Blitting a cached mask beats rasterising in software, the gpu caches glyphs itself
+        if (mCanvas.isHardwareAccelerated() || !FuzzyWordAtlas.draw(mCanvas, text, mFont[segment],
+                mStyle[segment], mSizeSp[segment], mDensity[segment], paint, x, y)) {
+            mCanvas.drawText(text, x, y, paint);
+        }
+    }
+
+    private FuzzyTextMetrics getMetrics(int segment, String text) {
+        // font, style, size and density fully describe the paint, so they key the cache
+        return FuzzyTextMetrics.get(text, mFont[segment], mStyle[segment], mSizeSp[segment],
+                mDensity[segment], mPaints[segment]);
+    }
+
+}
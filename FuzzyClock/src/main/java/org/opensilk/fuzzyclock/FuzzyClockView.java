@@ -24,16 +24,20 @@ import android.content.IntentFilter;
 import android.database.ContentObserver;
 import android.graphics.Bitmap;
 import android.graphics.Canvas;
+import android.graphics.Color;
+import android.graphics.Paint;
 import android.graphics.Typeface;
 import android.os.Handler;
+import android.os.Looper;
 import android.provider.Settings;
+import android.text.TextUtils;
 import android.util.AttributeSet;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
 
 import java.util.Calendar;
-import java.util.TimeZone;
+import java.util.Locale;
 
 import hugo.weaving.DebugLog;
 
@@ -41,13 +45,38 @@ import static android.util.TypedValue.COMPLEX_UNIT_SP;
 
 public class FuzzyClockView extends ViewGroup {
 
+    // Child TextViews do the measuring and drawing
+    public static final int RENDER_TEXT_VIEWS = 0;
+    // Draws the text itself, a word change is an invalidate
+    public static final int RENDER_CANVAS = 1;
+
+    private static final int SEGMENT_MINUTE = FuzzyLayout.SEGMENT_MINUTE;
+    private static final int SEGMENT_SEPARATOR = FuzzyLayout.SEGMENT_SEPARATOR;
+    private static final int SEGMENT_HOUR = FuzzyLayout.SEGMENT_HOUR;
+
     private FuzzyLogic mFuzzyLogic;
+    private FuzzyLogic.Evaluation mEvaluation;
+    private FuzzySchedule mSchedule;
+    // Last phrases written to the display
+    private FuzzyPhrases mPhrases;
+    private boolean m24HourFormat = false;
+    private long mTimeMillis = System.currentTimeMillis();
+    // A live clock this close to a change shows the coming time, for updates woken early
+    private long mToleranceMillis;
     TextView mTimeDisplayHours, mTimeDisplayMinutes, mTimeDisplaySeparator;
     private ContentObserver mFormatChangeObserver;
     private boolean mLive = true;
     private boolean mAttached;
-    private String mTimeZoneId;
+    private FuzzyZone mTimeZone;
     private int mClockStyle = FuzzyPrefs.CLOCK_STYLE_DEFAULT;
+    private String mFont = FuzzyPrefs.FONT_DEFAULT;
+    private int mRenderMode = RENDER_TEXT_VIEWS;
+    private final FuzzyCanvasRenderer mRenderer = new FuzzyCanvasRenderer();
+    // Sized by the renderer, or by the TextViews in RENDER_TEXT_VIEWS
+    private final FuzzyLayout mLayout = new FuzzyLayout(mRenderer);
+    // Words for createSegmentBitmap()
+    private final FuzzyBitmapPool mBitmapPool = new FuzzyBitmapPool(4);
+    private final Canvas mBitmapCanvas = new Canvas();
 
     private TimeChangedListener mCallback;
 
@@ -56,31 +85,27 @@ public class FuzzyClockView extends ViewGroup {
     }
 
     /* called by system on minute ticks */
-    private final Handler mHandler = new Handler();
+    // Broadcasts arrive on the main thread, the widget service renders on its own threads
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
     private final BroadcastReceiver mIntentReceiver = new BroadcastReceiver() {
         @Override
         public void onReceive(Context context, Intent intent) {
+            if (Intent.ACTION_TIMEZONE_CHANGED.equals(intent.getAction())) {
+                FuzzyZone.invalidateDefault();
+            }
             if (mLive) {
-                if (Intent.ACTION_TIMEZONE_CHANGED.equals(intent.getAction())) {
-                    mFuzzyLogic.setCalendar(Calendar.getInstance());
-                }
-                if (Intent.ACTION_TIME_TICK.equals(intent.getAction())) {
-                    mHandler.post(new Runnable() {
-                        @Override
-                        public void run() {
-                            if (updateLogic()) updateTime();
-                        }
-                    });
-                } else {
-                    mHandler.post(new Runnable() {
-                        public void run() {
-                            updateTime();
-                        }
-                    });
-                }
+                // updateTime() is a no op when the words didn't change
+                mHandler.removeCallbacks(mUpdateRunnable);
+                mHandler.post(mUpdateRunnable);
             }
         }
     };
+    private final Runnable mUpdateRunnable = new Runnable() {
+        @Override
+        public void run() {
+            updateTime();
+        }
+    };
 
     private class FormatChangeObserver extends ContentObserver {
         public FormatChangeObserver() {
@@ -103,7 +128,7 @@ public class FuzzyClockView extends ViewGroup {
 
     public FuzzyClockView(Context context, AttributeSet attrs, int defStyle) {
         super(context, attrs, defStyle);
-        mFuzzyLogic = FuzzyPrefs.createLogic(FuzzyPrefs.CLOCK_LOGIC_DEFAULT);
+        mFuzzyLogic = FuzzyLogicRegistry.get(FuzzyPrefs.CLOCK_LOGIC_DEFAULT);
     }
 
     @Override
@@ -118,33 +143,17 @@ public class FuzzyClockView extends ViewGroup {
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
         super.onMeasure(widthMeasureSpec, heightMeasureSpec);
 
-        int maxHeight = 0;
-        int maxWidth = 0;
-
         // Find out how big everyone wants to be
-        measureChildren(widthMeasureSpec, heightMeasureSpec);
-
-        switch (mClockStyle) {
-            case FuzzyPrefs.CLOCK_STYLE_STAGGERED:
-                // minutes + hours
-                maxWidth = getChildWidth(mTimeDisplayMinutes) + getChildWidth(mTimeDisplayHours);
-                // minutes + separator + hours
-                maxHeight = getChildHeight(mTimeDisplayMinutes) + getChildHeight(mTimeDisplaySeparator) + getChildHeight(mTimeDisplayHours);
-                break;
-            case FuzzyPrefs.CLOCK_STYLE_VERTICAL:
-                // largest of minutes, separator, hours
-                maxWidth = Math.max(Math.max(getChildWidth(mTimeDisplayMinutes), getChildWidth(mTimeDisplaySeparator)), getChildWidth(mTimeDisplayHours));
-                // minutes + separator + hours
-                maxHeight = getChildHeight(mTimeDisplayMinutes) + getChildHeight(mTimeDisplaySeparator) + getChildHeight(mTimeDisplayHours);
-                break;
-            case FuzzyPrefs.CLOCK_STYLE_HORIZONTAL:
-            default:
-                // minutes + separator + hours
-                maxWidth = getChildWidth(mTimeDisplayMinutes) + getChildWidth(mTimeDisplaySeparator) + getChildWidth(mTimeDisplayHours);
-                // largest of minutes, separator, hours
-                maxHeight = Math.max(Math.max(getChildHeight(mTimeDisplayMinutes), getChildHeight(mTimeDisplaySeparator)), getChildHeight(mTimeDisplayHours));
-                break;
+        if (mRenderMode != RENDER_CANVAS) {
+            measureChildren(widthMeasureSpec, heightMeasureSpec);
+            for (int ii = 0; ii < FuzzyLayout.SEGMENT_COUNT; ii++) {
+                final View v = getSegmentView(ii);
+                mLayout.setSegmentSize(ii, getChildWidth(v), getChildHeight(v));
+            }
         }
+        mLayout.measure(mClockStyle);
+        int maxWidth = mLayout.getMeasuredWidth();
+        int maxHeight = mLayout.getMeasuredHeight();
 
         // Account for padding too
         maxWidth += getPaddingLeft() + getPaddingRight();
@@ -160,63 +169,25 @@ public class FuzzyClockView extends ViewGroup {
 
     @Override
     protected void onLayout(boolean changed, int l, int t, int r, int b) {
-        int mX, mY, sX, sY, hX, hY;
-        mX = sX = hX = getPaddingLeft();
-        mY = sY = hY = getPaddingTop();
-        switch (mClockStyle) {
-            case FuzzyPrefs.CLOCK_STYLE_STAGGERED:
-                // left
-                mX += 0;
-                // top
-                mY += 0;
-
-                // end of minutes - half length of self
-                sX += getChildWidth(mTimeDisplayMinutes) - getChildWidth(mTimeDisplaySeparator) / 2;
-                // minutes + height of minutes
-                sY += mY + getChildHeight(mTimeDisplayMinutes);
-
-                // end of minutes
-                hX += getChildWidth(mTimeDisplayMinutes);
-                // separator + height of separator
-                hY += sY + getChildHeight(mTimeDisplaySeparator);
-                break;
-            case FuzzyPrefs.CLOCK_STYLE_VERTICAL:
-                // centered
-                mX += getMeasuredWidth() / 2 - getChildWidth(mTimeDisplayMinutes) / 2;
-                // top
-                mY += 0;
-
-                // centered
-                sX += getMeasuredWidth() / 2 - getChildWidth(mTimeDisplaySeparator) / 2;
-                // minutes + height of minutes
-                sY += mY + getChildHeight(mTimeDisplayMinutes);
-
-                // centered
-                hX += getMeasuredWidth() / 2 - getChildWidth(mTimeDisplayHours) / 2;
-                // separator + height of separator;
-                hY += sY + getChildHeight(mTimeDisplaySeparator);
-                break;
-            case FuzzyPrefs.CLOCK_STYLE_HORIZONTAL:
-            default:
-                // left
-                mX += 0;
-                // top
-                mY = getMeasuredHeight()/2 - getChildHeight(mTimeDisplayMinutes)/2;
-
-                // end of minutes
-                sX += getChildWidth(mTimeDisplayMinutes);
-                // top
-                sY = getMeasuredHeight()/2 - getChildHeight(mTimeDisplaySeparator)/2;
-
-                // end of minutes + separator
-                hX += sX + getChildWidth(mTimeDisplaySeparator);
-                // top
-                hY = getMeasuredHeight()/2 - getChildHeight(mTimeDisplayHours)/2;
-                break;
+        mLayout.layout(mClockStyle, getPaddingLeft(), getPaddingTop(), getMeasuredWidth(), getMeasuredHeight());
+        if (mRenderMode == RENDER_CANVAS) {
+            return;
+        }
+        for (int ii = 0; ii < FuzzyLayout.SEGMENT_COUNT; ii++) {
+            final int x = mLayout.getSegmentX(ii);
+            final int y = mLayout.getSegmentY(ii);
+            getSegmentView(ii).layout(x, y, x + mLayout.getSegmentWidth(ii), y + mLayout.getSegmentHeight(ii));
+        }
+    }
+
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        if (mRenderMode == RENDER_CANVAS) {
+            mRenderer.setCanvas(canvas);
+            mLayout.draw();
+            mRenderer.setCanvas(null);
         }
-        mTimeDisplayMinutes.layout(mX, mY, mX + getChildWidth(mTimeDisplayMinutes), mY + getChildHeight(mTimeDisplayMinutes));
-        mTimeDisplaySeparator.layout(sX, sY, sX + getChildWidth(mTimeDisplaySeparator), sY + getChildHeight(mTimeDisplaySeparator));
-        mTimeDisplayHours.layout(hX, hY, hX + getChildWidth(mTimeDisplayHours), hY + getChildHeight(mTimeDisplayHours));
     }
 
     @Override
@@ -258,17 +229,31 @@ public class FuzzyClockView extends ViewGroup {
 
     protected boolean updateLogic() {
         if (mLive) {
-            mFuzzyLogic.getCalendar().setTimeInMillis(System.currentTimeMillis());
+            mTimeMillis = System.currentTimeMillis();
         }
-        if (mTimeZoneId != null) {
-            mFuzzyLogic.getCalendar().setTimeZone(TimeZone.getTimeZone(mTimeZoneId));
+        final FuzzyZone zone = (mTimeZone != null) ? mTimeZone : FuzzyZone.getDefault();
+        final FuzzyLogic.Evaluation prev = mEvaluation;
+        mEvaluation = evaluate(zone);
+        if (mLive && mEvaluation.nextChangeMillis - mTimeMillis <= mToleranceMillis) {
+            mTimeMillis = mEvaluation.nextChangeMillis;
+            mEvaluation = evaluate(zone);
+        }
+        return prev == null || !prev.time.equals(mEvaluation.time);
+    }
+
+    private FuzzyLogic.Evaluation evaluate(FuzzyZone zone) {
+        if (mLive) {
+            // Plan the day once, later ticks are a lookup
+            if (mSchedule == null || !mSchedule.covers(mTimeMillis, mFuzzyLogic, zone, m24HourFormat)) {
+                mSchedule = mFuzzyLogic.schedule(mTimeMillis, zone, m24HourFormat);
+            }
+            return mSchedule.get(mTimeMillis);
         }
-        mFuzzyLogic.updateTime();
-        return mFuzzyLogic.hasChanged();
+        return mFuzzyLogic.evaluate(mTimeMillis, zone, m24HourFormat);
     }
 
     public void updateTime(Calendar c) {
-        mFuzzyLogic.setCalendar(c);
+        mTimeMillis = c.getTimeInMillis();
         updateTime();
     }
 
@@ -277,72 +262,113 @@ public class FuzzyClockView extends ViewGroup {
         final Calendar c = Calendar.getInstance();
         c.set(Calendar.HOUR_OF_DAY, hour);
         c.set(Calendar.MINUTE, minute);
-        mFuzzyLogic.setCalendar(c);
+        mTimeMillis = c.getTimeInMillis();
         updateTime();
     }
 
     public void updateTime() {
         updateLogic();
 
-        FuzzyLogic.FuzzyTime time = mFuzzyLogic.getFuzzyTime();
-        CharSequence timeM = (time.minute != -1) ? getResources().getString(time.minute) : "";
-        CharSequence timeH = (time.hour != -1) ? getResources().getString(time.hour) : "";
-        CharSequence separator = (time.separator != -1) ? getResources().getString(time.separator) : "";
-
-        // Write time to the display
-
-        if (time.minute == -1 ) {
-            mTimeDisplayMinutes.setVisibility(GONE);
-        } else {
-            mTimeDisplayMinutes.setText(timeM);
-            mTimeDisplayMinutes.setVisibility(VISIBLE);
+        FuzzyLogic.FuzzyTime time = mEvaluation.time;
+        FuzzyPhrases phrases = FuzzyPhrases.get(getResources(), time);
+        // Phrases are shared, same instance means the same words in the same locale
+        if (phrases == mPhrases) {
+            return;
         }
-
-        if (time.separator == -1) {
-            mTimeDisplaySeparator.setVisibility(GONE);
-        } else {
-            mTimeDisplaySeparator.setText(separator);
-            mTimeDisplaySeparator.setVisibility(VISIBLE);
-        }
-
-        if (time.hour == -1) {
-            mTimeDisplayHours.setVisibility(GONE);
+        final FuzzyPhrases prev = mPhrases;
+        mPhrases = phrases;
+        CharSequence timeM = phrases.minute;
+        CharSequence timeH = phrases.hour;
+        CharSequence separator = phrases.separator;
+
+        // Write time to the display, only touching segments that changed
+
+        if (mRenderMode == RENDER_CANVAS) {
+            final Locale locale = getResources().getConfiguration().locale;
+            // Like textAllCaps in the fuzzy styles
+            boolean resized = mLayout.setText(SEGMENT_MINUTE, timeM.toString().toUpperCase(locale));
+            resized |= mLayout.setText(SEGMENT_SEPARATOR, separator.toString().toUpperCase(locale));
+            resized |= mLayout.setText(SEGMENT_HOUR, timeH.toString().toUpperCase(locale));
+            if (resized) {
+                requestLayout();
+            }
+            invalidate();
         } else {
-            mTimeDisplayHours.setText(timeH);
-            mTimeDisplayHours.setVisibility(VISIBLE);
+            if (prev == null || !TextUtils.equals(prev.minute, timeM)) {
+                applyText(mTimeDisplayMinutes, timeM);
+            }
+            if (prev == null || !TextUtils.equals(prev.separator, separator)) {
+                applyText(mTimeDisplaySeparator, separator);
+            }
+            if (prev == null || !TextUtils.equals(prev.hour, timeH)) {
+                applyText(mTimeDisplayHours, timeH);
+            }
         }
 
         // Update accessibility string.
-        StringBuilder fullTimeStr = new StringBuilder();
-        fullTimeStr.append(timeM);
-        fullTimeStr.append(separator);
-        fullTimeStr.append(timeH);
-        setContentDescription(fullTimeStr);
+        setContentDescription(phrases.description);
 
         if (mCallback != null) {
             mCallback.onTimeChanged();
         }
     }
 
+    private static void applyText(TextView view, CharSequence text) {
+        if (text.length() == 0) {
+            view.setVisibility(GONE);
+        } else {
+            view.setText(text);
+            view.setVisibility(VISIBLE);
+        }
+    }
+
     /**
-     * CReates a bitmap, used for widgets
-     * @return
+     * Creates a bitmap of one word, used for segmented widgets. Opaque text only needs its
+     * coverage, so it comes as an ALPHA_8 mask to tint with {@link #getSegmentColor(int)}.
+     * Canvas mode only. The bitmap comes from {@link #getBitmapPool()}, put it back once
+     * it has been sent.
+     * @param segment FuzzyLayout.SEGMENT_*
+     * @return null if the segment is empty
      */
-    public Bitmap createBitmap() {
-        // Where the magic happens... w & h are 0 without this
-        int spec = MeasureSpec.makeMeasureSpec(0, View.MeasureSpec.UNSPECIFIED);
-        measure(spec, spec);
-        layout(0, 0, getMeasuredWidth(), getMeasuredHeight());
-        if (getMeasuredWidth() == 0 || getMeasuredHeight() == 0) {
+    public Bitmap createSegmentBitmap(int segment) {
+        final int width = mLayout.getSegmentWidth(segment);
+        final int height = mLayout.getSegmentHeight(segment);
+        if (width <= 0 || height <= 0) {
             return null;
         }
-        // Draw view into a bitmap
-        Bitmap bitmap = Bitmap.createBitmap(getMeasuredWidth(), getMeasuredHeight(), Bitmap.Config.ARGB_8888);
-        Canvas c = new Canvas(bitmap);
-        draw(c);
+        final Bitmap.Config config = (Color.alpha(getSegmentColor(segment)) == 0xff)
+                ? Bitmap.Config.ALPHA_8 : Bitmap.Config.ARGB_8888;
+        Bitmap bitmap = mBitmapPool.get(width, height, config);
+        mBitmapCanvas.setBitmap(bitmap);
+        mRenderer.setCanvas(mBitmapCanvas);
+        mLayout.drawSegment(segment, 0, 0);
+        mRenderer.setCanvas(null);
+        mBitmapCanvas.setBitmap(null);
         return bitmap;
     }
 
+    /**
+     * @return word shown in a segment as drawn in canvas mode, empty if none
+     */
+    public String getSegmentText(int segment) {
+        return mLayout.getText(segment);
+    }
+
+    /**
+     * @return width of a segment in canvas mode, 0 if empty
+     */
+    public int getSegmentWidth(int segment) {
+        return mLayout.getSegmentWidth(segment);
+    }
+
+    public int getSegmentColor(int segment) {
+        return mRenderer.getPaint(segment).getColor();
+    }
+
+    public FuzzyBitmapPool getBitmapPool() {
+        return mBitmapPool;
+    }
+
     public void setTextColor(int color) {
         setMinuteColor(color);
         setSeparatorColor(color);
@@ -350,15 +376,15 @@ public class FuzzyClockView extends ViewGroup {
     }
 
     public void setMinuteColor(int color) {
-        mTimeDisplayMinutes.setTextColor(color);
+        setSegmentColor(SEGMENT_MINUTE, color);
     }
 
     public void setSeparatorColor(int color) {
-        mTimeDisplaySeparator.setTextColor(color);
+        setSegmentColor(SEGMENT_SEPARATOR, color);
     }
 
     public void setHourColor(int color) {
-        mTimeDisplayHours.setTextColor(color);
+        setSegmentColor(SEGMENT_HOUR, color);
     }
 
     public void setTextSize(float size) {
@@ -368,18 +394,32 @@ public class FuzzyClockView extends ViewGroup {
     }
 
     public void setMinuteSize(float size) {
-        mTimeDisplayMinutes.setTextSize(COMPLEX_UNIT_SP, size);
-        updateTextViewPadding();
+        setSegmentSize(SEGMENT_MINUTE, size);
     }
 
     public void setSeparatorSize(float size) {
-        mTimeDisplaySeparator.setTextSize(COMPLEX_UNIT_SP, size);
-        updateTextViewPadding();
+        setSegmentSize(SEGMENT_SEPARATOR, size);
     }
 
     public void setHourSize(float size) {
-        mTimeDisplayHours.setTextSize(COMPLEX_UNIT_SP, size);
-        updateTextViewPadding();
+        setSegmentSize(SEGMENT_HOUR, size);
+    }
+
+    /**
+     * @param font font file for all segments, empty for the built in families
+     */
+    public void setFont(String font) {
+        if (mFont.equals(font)) {
+            return;
+        }
+        mFont = font;
+        // Segments without a style yet pick the font up with it
+        for (int ii = 0; ii < FuzzyLayout.SEGMENT_COUNT; ii++) {
+            final int style = mRenderer.getTextStyle(ii);
+            if (style != -1) {
+                setSegmentTypeface(ii, style);
+            }
+        }
     }
 
     public void setTypeface(int style) {
@@ -389,32 +429,98 @@ public class FuzzyClockView extends ViewGroup {
     }
 
     public void setMinuteTypeface(int style) {
-        mTimeDisplayMinutes.setTypeface(FuzzyPrefs.createTypeface(style));
+        setSegmentTypeface(SEGMENT_MINUTE, style);
     }
 
     public void setSeparatorTypeface(int style) {
-        mTimeDisplaySeparator.setTypeface(FuzzyPrefs.createTypeface(style));
+        setSegmentTypeface(SEGMENT_SEPARATOR, style);
     }
 
     public void setHourTypeface(int style) {
-        mTimeDisplayHours.setTypeface(FuzzyPrefs.createTypeface(style));
+        setSegmentTypeface(SEGMENT_HOUR, style);
     }
 
     public void setClockStyle(int style) {
+        if (style == mClockStyle) {
+            return;
+        }
         mClockStyle = style;
         requestLayout();
     }
 
+    /**
+     * @param mode {@link #RENDER_TEXT_VIEWS} or {@link #RENDER_CANVAS}
+     */
+    public void setRenderMode(int mode) {
+        if (mode == mRenderMode) {
+            return;
+        }
+        mRenderMode = mode;
+        // The TextViews are only measured when shown
+        final int visibility = (mode == RENDER_CANVAS) ? GONE : VISIBLE;
+        mTimeDisplayMinutes.setVisibility(visibility);
+        mTimeDisplaySeparator.setVisibility(visibility);
+        mTimeDisplayHours.setVisibility(visibility);
+        setWillNotDraw(mode != RENDER_CANVAS);
+        if (mode == RENDER_CANVAS) {
+            // Drop sizes the TextViews left behind
+            mLayout.updateMetrics();
+        }
+        mPhrases = null;
+        updateTime();
+        requestLayout();
+    }
+
     public FuzzyLogic getLogic() {
         return mFuzzyLogic;
     }
 
+    /**
+     * @return instant the displayed time will next change, valid after {@link #updateTime()}
+     */
+    public long getNextChangeMillis() {
+        return mEvaluation.nextChangeMillis;
+    }
+
+    /**
+     * @return instant the displayed time was computed for, valid after {@link #updateTime()}
+     */
+    public long getTimeMillis() {
+        return mTimeMillis;
+    }
+
+    /**
+     * Lets a live clock show the coming time up to tolerance early, 0 shows the current time
+     */
+    public void setToleranceMillis(long tolerance) {
+        mToleranceMillis = tolerance;
+    }
+
+    /**
+     * @return day schedule backing a live clock, null until the first update
+     */
+    public FuzzySchedule getSchedule() {
+        return mSchedule;
+    }
+
+    /**
+     * Reuses a schedule planned earlier, it is replaced on the next update if it no longer applies
+     */
+    public void setSchedule(FuzzySchedule schedule) {
+        mSchedule = schedule;
+    }
+
     public void setLogic(int type) {
-        mFuzzyLogic = FuzzyPrefs.createLogic(type);
+        setLogic(FuzzyLogicRegistry.get(type));
+    }
+
+    public void setLogic(FuzzyLogic logic) {
+        mFuzzyLogic = logic;
         setDateFormat();
     }
 
     public void loadPreferences(FuzzyPrefs prefs) {
+        setFont(prefs.font);
         setMinuteColor(prefs.minute.color);
         setMinuteSize(prefs.minute.size);
         setMinuteTypeface(prefs.minute.style);
@@ -424,12 +530,13 @@ public class FuzzyClockView extends ViewGroup {
         setHourColor(prefs.hour.color);
         setHourSize(prefs.hour.size);
         setHourTypeface(prefs.hour.style);
-        setLogic(prefs.clockLogic);
+        setLogic(prefs.getLogic());
         setClockStyle(prefs.clockStyle);
     }
 
     public void setDateFormat() {
-        mFuzzyLogic.setDateFormat(android.text.format.DateFormat.is24HourFormat(getContext()));
+        // From what i've read countries using 24hour time generally speak the time in 12hour format
+        //m24HourFormat = android.text.format.DateFormat.is24HourFormat(getContext());
     }
 
     public void setLive(boolean live) {
@@ -437,7 +544,7 @@ public class FuzzyClockView extends ViewGroup {
     }
 
     public void setTimeZone(String id) {
-        mTimeZoneId = id;
+        mTimeZone = (id != null) ? FuzzyZone.get(id) : null;
         updateTime();
     }
 
@@ -445,6 +552,60 @@ public class FuzzyClockView extends ViewGroup {
         mCallback = l;
     }
 
+    private TextView getSegmentView(int segment) {
+        switch (segment) {
+            case SEGMENT_MINUTE:
+                return mTimeDisplayMinutes;
+            case SEGMENT_SEPARATOR:
+                return mTimeDisplaySeparator;
+            case SEGMENT_HOUR:
+            default:
+                return mTimeDisplayHours;
+        }
+    }
+
+    // The style setters skip values already applied, loadPreferences() runs on every widget update
+
+    private void setSegmentColor(int segment, int color) {
+        final TextView view = getSegmentView(segment);
+        if (view.getCurrentTextColor() != color) {
+            view.setTextColor(color);
+        }
+        final Paint paint = mRenderer.getPaint(segment);
+        if (paint.getColor() != color) {
+            paint.setColor(color);
+            if (mRenderMode == RENDER_CANVAS) {
+                invalidate();
+            }
+        }
+    }
+
+    private void setSegmentSize(int segment, float size) {
+        if (mRenderer.getTextSizeSp(segment) == size) {
+            return;
+        }
+        getSegmentView(segment).setTextSize(COMPLEX_UNIT_SP, size);
+        updateTextViewPadding();
+        mRenderer.setTextSize(segment, size, getResources().getDisplayMetrics().scaledDensity);
+        mLayout.updateMetrics(segment);
+        if (mRenderMode == RENDER_CANVAS) {
+            requestLayout();
+        }
+    }
+
+    private void setSegmentTypeface(int segment, int style) {
+        if (mRenderer.getTextStyle(segment) == style && mRenderer.getFont(segment).equals(mFont)) {
+            return;
+        }
+        final Typeface typeface = FuzzyPrefs.createTypeface(mFont, style);
+        getSegmentView(segment).setTypeface(typeface);
+        mRenderer.setTypeface(segment, mFont, style, typeface);
+        mLayout.updateMetrics(segment);
+        if (mRenderMode == RENDER_CANVAS) {
+            requestLayout();
+        }
+    }
+
     private int getChildWidth(final View v) {
         if (v != null && v.getVisibility() != GONE) {
             return v.getMeasuredWidth();
@@ -460,15 +621,12 @@ public class FuzzyClockView extends ViewGroup {
     }
 
     private void updateTextViewPadding() {
-        float topPaddingRatio = 0.25f;// 0.328f;
-        float bottomPaddingRatio = 0.18f;// 0.25f;
         // Set negative padding to scrunch the lines closer together.
-        mTimeDisplayMinutes.setPadding(0, (int) (-topPaddingRatio * mTimeDisplayMinutes.getTextSize()), 0,
-                (int) (-bottomPaddingRatio * mTimeDisplayMinutes.getTextSize()));
-        mTimeDisplaySeparator.setPadding(0, (int) (-topPaddingRatio * mTimeDisplaySeparator.getTextSize()), 0,
-                (int) (-bottomPaddingRatio * mTimeDisplaySeparator.getTextSize()));
-        mTimeDisplayHours.setPadding(0, (int) (-topPaddingRatio * mTimeDisplayHours.getTextSize()), 0,
-                (int) (-bottomPaddingRatio * mTimeDisplayHours.getTextSize()));
+        for (int ii = 0; ii < FuzzyLayout.SEGMENT_COUNT; ii++) {
+            final TextView view = getSegmentView(ii);
+            view.setPadding(0, FuzzyLayout.getTopPadding(view.getTextSize()), 0,
+                    FuzzyLayout.getBottomPadding(view.getTextSize()));
+        }
     }
 
 }
@@ -0,0 +1,114 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Next update time of every widget, kept in a min heap so the earliest is
+ * always at the head and one alarm can serve all widgets. A widget may also
+ * allow its update to come early, down to a window start. Not thread safe.
+ */
+final class FuzzyDeadlines {
+
+    private final PriorityQueue<Deadline> mHeap = new PriorityQueue<>(4);
+    // Heap entry of each widget, so one can be replaced without a search by id
+    private final HashMap<Integer, Deadline> mById = new HashMap<>(4);
+
+    /**
+     * Sets when a widget is due, replacing its previous deadline
+     * @param startMillis earliest the update may run
+     * @param millis latest the update may run
+     */
+    void set(int id, long startMillis, long millis) {
+        remove(id);
+        final Deadline deadline = new Deadline(id, Math.min(startMillis, millis), millis);
+        mById.put(id, deadline);
+        mHeap.add(deadline);
+    }
+
+    void remove(int id) {
+        final Deadline deadline = mById.remove(id);
+        if (deadline != null) {
+            mHeap.remove(deadline);
+        }
+    }
+
+    boolean isEmpty() {
+        return mHeap.isEmpty();
+    }
+
+    /**
+     * @return earliest deadline, Long.MAX_VALUE if there are none
+     */
+    long getNextMillis() {
+        final Deadline head = mHeap.peek();
+        return (head != null) ? head.millis : Long.MAX_VALUE;
+    }
+
+    /**
+     * @return window start of the earliest deadline, Long.MAX_VALUE if there are none
+     */
+    long getNextStartMillis() {
+        final Deadline head = mHeap.peek();
+        return (head != null) ? head.startMillis : Long.MAX_VALUE;
+    }
+
+    /**
+     * Removes all widgets whose window has started at or before now, due or not,
+     * so widgets that may run together do
+     * @return their ids, earliest deadline first
+     */
+    List<Integer> pollDue(long now) {
+        final ArrayList<Deadline> due = new ArrayList<>(mHeap.size());
+        for (Deadline deadline : mHeap) {
+            if (deadline.startMillis <= now) {
+                due.add(deadline);
+            }
+        }
+        Collections.sort(due);
+        final ArrayList<Integer> ids = new ArrayList<>(due.size());
+        for (Deadline deadline : due) {
+            remove(deadline.id);
+            ids.add(deadline.id);
+        }
+        return ids;
+    }
+
+    private static final class Deadline implements Comparable<Deadline> {
+        final int id;
+        final long startMillis;
+        final long millis;
+
+        Deadline(int id, long startMillis, long millis) {
+            this.id = id;
+            this.startMillis = startMillis;
+            this.millis = millis;
+        }
+
+        @Override
+        public int compareTo(Deadline other) {
+            return (millis < other.millis) ? -1 : ((millis == other.millis) ? 0 : 1);
+        }
+    }
+
+}
@@ -91,6 +91,7 @@ public class FuzzyDreams extends DreamService {
         mContentView = (View) mSaverView.getParent();
 
         mFuzzyClock = (FuzzyClockView) findViewById(R.id.fuzzy_clock);
+        mFuzzyClock.setRenderMode(FuzzyClockView.RENDER_CANVAS);
         mFuzzyClock.registerCallback(mListener);
         mFuzzyClock.loadPreferences(new FuzzyPrefs(this));
 
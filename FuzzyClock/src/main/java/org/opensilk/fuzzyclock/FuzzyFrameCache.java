@@ -0,0 +1,151 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Rendered widget words keyed by everything that decides their pixels, so
+ * widgets with the same look share bitmaps and an unchanged word isn't drawn
+ * again. Bounded by bytes. Thread safe.
+ *
+ * Cached bitmaps are shared and must never be modified or recycled.
+ */
+public final class FuzzyFrameCache {
+
+    private static final int MAX_BYTES = 4 * 1024 * 1024;
+
+    // Access ordered for LRU eviction, guarded by itself
+    private static final LinkedHashMap<Key, Bitmap> sFrames = new LinkedHashMap<>(16, 0.75f, true);
+    private static int sBytes;
+
+    private FuzzyFrameCache() {
+        //static
+    }
+
+    /**
+     * @return shared bitmap or null
+     */
+    public static Bitmap get(Key key) {
+        synchronized (sFrames) {
+            return sFrames.get(key);
+        }
+    }
+
+    /**
+     * Offers a bitmap to the cache
+     * @return true if the cache took the bitmap, it is shared from now on
+     */
+    public static boolean put(Key key, Bitmap bitmap) {
+        final int bytes = bitmap.getByteCount();
+        if (bytes > MAX_BYTES / 4) {
+            return false;
+        }
+        synchronized (sFrames) {
+            if (sFrames.containsKey(key)) {
+                // Rendered twice in parallel, the first one is shared already
+                return false;
+            }
+            sFrames.put(key, bitmap);
+            sBytes += bytes;
+            final Iterator<Bitmap> it = sFrames.values().iterator();
+            while (sBytes > MAX_BYTES && it.hasNext()) {
+                final Bitmap eldest = it.next();
+                if (eldest == bitmap) {
+                    break;
+                }
+                // Not recycled, a widget being published may still hold it
+                sBytes -= eldest.getByteCount();
+                it.remove();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Drops all bitmaps
+     */
+    public static void clear() {
+        synchronized (sFrames) {
+            sFrames.clear();
+            sBytes = 0;
+        }
+    }
+
+    /**
+     * Rendering inputs of a word: text as drawn, font file, typeface, size, colour and density
+     */
+    public static final class Key {
+        private final String text;
+        private final String font;
+        private final int style;
+        private final float sizeSp;
+        private final int color;
+        private final float density;
+        private final int hash;
+
+        /**
+         * @param text word as drawn
+         * @param font font file path, empty for the built in families
+         * @param style FuzzyPrefs.TEXT_STYLE_*
+         * @param sizeSp text size in sp
+         * @param color text colour
+         * @param density display density the size is scaled with
+         */
+        public Key(String text, String font, int style, float sizeSp, int color, float density) {
+            this.text = text;
+            this.font = font;
+            this.style = style;
+            this.sizeSp = sizeSp;
+            // Opaque words are colourless masks, tinted when shown
+            this.color = (Color.alpha(color) == 0xff) ? Color.BLACK : color;
+            this.density = density;
+            int result = text.hashCode();
+            result = 31 * result + font.hashCode();
+            result = 31 * result + style;
+            result = 31 * result + Float.floatToIntBits(sizeSp);
+            result = 31 * result + this.color;
+            result = 31 * result + Float.floatToIntBits(density);
+            hash = result;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return hash == other.hash
+                    && style == other.style
+                    && color == other.color
+                    && Float.floatToIntBits(sizeSp) == Float.floatToIntBits(other.sizeSp)
+                    && Float.floatToIntBits(density) == Float.floatToIntBits(other.density)
+                    && text.equals(other.text)
+                    && font.equals(other.font);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+}
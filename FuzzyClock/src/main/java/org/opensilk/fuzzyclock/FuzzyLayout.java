@@ -0,0 +1,286 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+/**
+ * Places the minute, separator and hour words for a clock style. Plain Java,
+ * the sizes come either from measured views or from a {@link FuzzyRenderer}.
+ */
+public final class FuzzyLayout {
+
+    public static final int SEGMENT_MINUTE = 0;
+    public static final int SEGMENT_SEPARATOR = 1;
+    public static final int SEGMENT_HOUR = 2;
+    public static final int SEGMENT_COUNT = 3;
+
+    public static final int STYLE_HORIZONTAL = 0;
+    public static final int STYLE_VERTICAL = 1;
+    public static final int STYLE_STAGGERED = 2;
+
+    // Negative padding to scrunch the lines closer together
+    public static final float TOP_PADDING_RATIO = 0.25f;// 0.328f;
+    public static final float BOTTOM_PADDING_RATIO = 0.18f;// 0.25f;
+
+    private final FuzzyRenderer mRenderer;
+    private final String[] mText = { "", "", "" };
+    private final int[] mWidth = new int[SEGMENT_COUNT];
+    private final int[] mHeight = new int[SEGMENT_COUNT];
+    private final int[] mBaseline = new int[SEGMENT_COUNT];
+    private final int[] mX = new int[SEGMENT_COUNT];
+    private final int[] mY = new int[SEGMENT_COUNT];
+    private int mMeasuredWidth, mMeasuredHeight;
+
+    /**
+     * Layout for sizes set with {@link #setSegmentSize(int, int, int)}
+     */
+    public FuzzyLayout() {
+        this(null);
+    }
+
+    /**
+     * Layout sized and drawn by the renderer
+     */
+    public FuzzyLayout(FuzzyRenderer renderer) {
+        mRenderer = renderer;
+    }
+
+    /**
+     * @return top padding for text of this size in pixels, negative
+     */
+    public static int getTopPadding(float textSize) {
+        return (int) (-TOP_PADDING_RATIO * textSize);
+    }
+
+    /**
+     * @return bottom padding for text of this size in pixels, negative
+     */
+    public static int getBottomPadding(float textSize) {
+        return (int) (-BOTTOM_PADDING_RATIO * textSize);
+    }
+
+    /**
+     * @return true if the width of the segment changed
+     */
+    public boolean setText(int segment, String text) {
+        if (text.equals(mText[segment])) {
+            return false;
+        }
+        mText[segment] = text;
+        final int width = mWidth[segment];
+        updateMetrics(segment);
+        return width != mWidth[segment];
+    }
+
+    public String getText(int segment) {
+        return mText[segment];
+    }
+
+    /**
+     * Measures the segment again, call after changing its font
+     */
+    public void updateMetrics(int segment) {
+        final String text = mText[segment];
+        if (text.isEmpty()) {
+            // takes no room, like a view that is gone
+            mWidth[segment] = mHeight[segment] = mBaseline[segment] = 0;
+            return;
+        }
+        final float size = mRenderer.getTextSize(segment);
+        final int top = getTopPadding(size);
+        mWidth[segment] = mRenderer.getTextWidth(segment, text);
+        mHeight[segment] = mRenderer.getTextHeight(segment, text) + top + getBottomPadding(size);
+        mBaseline[segment] = mRenderer.getTextBaseline(segment, text) + top;
+    }
+
+    public void updateMetrics() {
+        for (int ii = 0; ii < SEGMENT_COUNT; ii++) {
+            updateMetrics(ii);
+        }
+    }
+
+    /**
+     * Sets the size of a segment measured elsewhere
+     */
+    public void setSegmentSize(int segment, int width, int height) {
+        mWidth[segment] = width;
+        mHeight[segment] = height;
+    }
+
+    public int getSegmentWidth(int segment) {
+        return mWidth[segment];
+    }
+
+    public int getSegmentHeight(int segment) {
+        return mHeight[segment];
+    }
+
+    /**
+     * Computes the size of all segments in the style, without padding
+     * @param style STYLE_*
+     */
+    public void measure(int style) {
+        switch (style) {
+            case STYLE_STAGGERED:
+                // minutes + hours
+                mMeasuredWidth = getSegmentWidth(SEGMENT_MINUTE) + getSegmentWidth(SEGMENT_HOUR);
+                // minutes + separator + hours
+                mMeasuredHeight = getSegmentHeight(SEGMENT_MINUTE) + getSegmentHeight(SEGMENT_SEPARATOR) + getSegmentHeight(SEGMENT_HOUR);
+                break;
+            case STYLE_VERTICAL:
+                // largest of minutes, separator, hours
+                mMeasuredWidth = Math.max(Math.max(getSegmentWidth(SEGMENT_MINUTE), getSegmentWidth(SEGMENT_SEPARATOR)), getSegmentWidth(SEGMENT_HOUR));
+                // minutes + separator + hours
+                mMeasuredHeight = getSegmentHeight(SEGMENT_MINUTE) + getSegmentHeight(SEGMENT_SEPARATOR) + getSegmentHeight(SEGMENT_HOUR);
+                break;
+            case STYLE_HORIZONTAL:
+            default:
+                // minutes + separator + hours
+                mMeasuredWidth = getSegmentWidth(SEGMENT_MINUTE) + getSegmentWidth(SEGMENT_SEPARATOR) + getSegmentWidth(SEGMENT_HOUR);
+                // largest of minutes, separator, hours
+                mMeasuredHeight = Math.max(Math.max(getSegmentHeight(SEGMENT_MINUTE), getSegmentHeight(SEGMENT_SEPARATOR)), getSegmentHeight(SEGMENT_HOUR));
+                break;
+        }
+    }
+
+    /**
+     * @return width from the last {@link #measure(int)}
+     */
+    public int getMeasuredWidth() {
+        return mMeasuredWidth;
+    }
+
+    /**
+     * @return height from the last {@link #measure(int)}
+     */
+    public int getMeasuredHeight() {
+        return mMeasuredHeight;
+    }
+
+    /**
+     * Positions the segments in the style
+     * @param style STYLE_*
+     * @param left left padding
+     * @param top top padding
+     * @param width width of the whole clock, padding included
+     * @param height height of the whole clock, padding included
+     */
+    public void layout(int style, int left, int top, int width, int height) {
+        int mX, mY, sX, sY, hX, hY;
+        mX = sX = hX = left;
+        mY = sY = hY = top;
+        switch (style) {
+            case STYLE_STAGGERED:
+                // left
+                mX += 0;
+                // top
+                mY += 0;
+
+                // end of minutes - half length of self
+                sX += getSegmentWidth(SEGMENT_MINUTE) - getSegmentWidth(SEGMENT_SEPARATOR) / 2;
+                // minutes + height of minutes
+                sY += mY + getSegmentHeight(SEGMENT_MINUTE);
+
+                // end of minutes
+                hX += getSegmentWidth(SEGMENT_MINUTE);
+                // separator + height of separator
+                hY += sY + getSegmentHeight(SEGMENT_SEPARATOR);
+                break;
+            case STYLE_VERTICAL:
+                // centered
+                mX += width / 2 - getSegmentWidth(SEGMENT_MINUTE) / 2;
+                // top
+                mY += 0;
+
+                // centered
+                sX += width / 2 - getSegmentWidth(SEGMENT_SEPARATOR) / 2;
+                // minutes + height of minutes
+                sY += mY + getSegmentHeight(SEGMENT_MINUTE);
+
+                // centered
+                hX += width / 2 - getSegmentWidth(SEGMENT_HOUR) / 2;
+                // separator + height of separator;
+                hY += sY + getSegmentHeight(SEGMENT_SEPARATOR);
+                break;
+            case STYLE_HORIZONTAL:
+            default:
+                // left
+                mX += 0;
+                // top
+                mY = height/2 - getSegmentHeight(SEGMENT_MINUTE)/2;
+
+                // end of minutes
+                sX += getSegmentWidth(SEGMENT_MINUTE);
+                // top
+                sY = height/2 - getSegmentHeight(SEGMENT_SEPARATOR)/2;
+
+                // end of minutes + separator
+                hX += sX + getSegmentWidth(SEGMENT_SEPARATOR);
+                // top
+                hY = height/2 - getSegmentHeight(SEGMENT_HOUR)/2;
+                break;
+        }
+        this.mX[SEGMENT_MINUTE] = mX;
+        this.mY[SEGMENT_MINUTE] = mY;
+        this.mX[SEGMENT_SEPARATOR] = sX;
+        this.mY[SEGMENT_SEPARATOR] = sY;
+        this.mX[SEGMENT_HOUR] = hX;
+        this.mY[SEGMENT_HOUR] = hY;
+    }
+
+    /**
+     * @return left of the segment from the last {@link #layout(int, int, int, int, int)}
+     */
+    public int getSegmentX(int segment) {
+        return mX[segment];
+    }
+
+    /**
+     * @return top of the segment from the last {@link #layout(int, int, int, int, int)}
+     */
+    public int getSegmentY(int segment) {
+        return mY[segment];
+    }
+
+    /**
+     * Measures and positions all segments at the origin, sized by the renderer
+     * @param style STYLE_*
+     */
+    public void measureAndLayout(int style) {
+        measure(style);
+        layout(style, 0, 0, mMeasuredWidth, mMeasuredHeight);
+    }
+
+    /**
+     * Draws the words with the renderer at the positions from the last layout
+     */
+    public void draw() {
+        for (int ii = 0; ii < SEGMENT_COUNT; ii++) {
+            drawSegment(ii, mX[ii], mY[ii]);
+        }
+    }
+
+    /**
+     * Draws one word with the renderer, its box's top left at x, y
+     */
+    public void drawSegment(int segment, int x, int y) {
+        if (!mText[segment].isEmpty()) {
+            mRenderer.drawText(segment, mText[segment], x, y + mBaseline[segment]);
+        }
+    }
+
+}
@@ -17,50 +17,67 @@
  */
 package org.opensilk.fuzzyclock;
 
-import java.util.Calendar;
+import java.util.TimeZone;
 
+/**
+ * Immutable fuzzy time engine, instances are shared through {@link FuzzyLogicRegistry}
+ */
 public abstract class FuzzyLogic {
 
-    protected Calendar mCalendar;
-    protected int mMinutes, mHours;
-    protected int mPrevMinutes, mPrevHours;
-    protected boolean m24HourFormat = false;
-
-    public FuzzyLogic() {
-        mCalendar = Calendar.getInstance();
-    }
-
-    public void setCalendar(Calendar c) {
-        mCalendar = c;
-    }
-
-    public Calendar getCalendar() {
-        return mCalendar;
-    }
-
-    public void setDateFormat(boolean is24hour) {
-        // From what i've read countries using 24hour time generally speak the time in 12hour format
-        //m24HourFormat = is24hour;
+    /**
+     * Evaluates the fuzzy time at the given instant without touching any instance state,
+     * safe to call concurrently from any thread.
+     * @param epochMillis instant to evaluate
+     * @param zone zone the instant is displayed in
+     * @param is24Hour use 24 hour names
+     * @return fuzzy time and the instant it will next change
+     */
+    public Evaluation evaluate(long epochMillis, FuzzyZone zone, boolean is24Hour) {
+        final FuzzyTable table = getTable(is24Hour);
+        int offset = zone.getOffset(epochMillis);
+        int minuteOfDay = FuzzyZone.getMinuteOfDay(epochMillis, offset);
+        final FuzzyTime time = table.get(minuteOfDay);
+        long nextChange = FuzzyZone.getStartOfMinute(epochMillis, offset)
+                + table.minutesUntilChange(minuteOfDay) * 60000L;
+        // A zone transition before the boundary moves the wall clock under us, so the
+        // boundary is recomputed from the wall clock on the other side of the transition.
+        long transition = zone.getNextTransition(epochMillis);
+        while (nextChange >= transition) {
+            offset = zone.getOffset(transition);
+            minuteOfDay = FuzzyZone.getMinuteOfDay(transition, offset);
+            if (table.get(minuteOfDay) != time) {
+                // The jump itself changes the time
+                nextChange = transition;
+                break;
+            }
+            nextChange = FuzzyZone.getStartOfMinute(transition, offset)
+                    + table.minutesUntilChange(minuteOfDay) * 60000L;
+            transition = zone.getNextTransition(transition);
+        }
+        return new Evaluation(time, nextChange);
     }
 
-    public boolean is24HourFormat() {
-        return m24HourFormat;
+    /**
+     * @see #evaluate(long, FuzzyZone, boolean)
+     */
+    public Evaluation evaluate(long epochMillis, TimeZone tz, boolean is24Hour) {
+        return evaluate(epochMillis, FuzzyZone.get(tz.getID()), is24Hour);
     }
 
-    public void updateTime() {
-        mPrevMinutes = mMinutes;
-        mMinutes = mCalendar.get(Calendar.MINUTE);
-        mPrevHours = mHours;
-        mHours = mCalendar.get(Calendar.HOUR_OF_DAY);
+    /**
+     * Plans every transition for the day following startMillis in one go
+     * @param startMillis first instant covered
+     * @param zone zone the instants are displayed in
+     * @param is24Hour use 24 hour names
+     * @return run length encoded transitions covering at least 24 hours
+     */
+    public FuzzySchedule schedule(long startMillis, FuzzyZone zone, boolean is24Hour) {
+        return new FuzzySchedule(this, startMillis, zone, is24Hour);
     }
 
-    public abstract boolean hasChanged();
+    public abstract FuzzyTable getTable(boolean is24Hour);
 
-    public abstract long getNextIntervalMilli();
-
-    public abstract FuzzyTime getFuzzyTime();
-
-    protected int getHourResourceId(int hour) {
+    protected static int getHourResourceId(int hour) {
         switch (hour) {
             case 0:  return R.string.fuzzy_twelve;
             case 1:  return R.string.fuzzy_one;
@@ -91,14 +108,39 @@ public abstract class FuzzyLogic {
         }
     }
 
+    public static final class Evaluation {
+        public final FuzzyTime time;
+        public final long nextChangeMillis;
+        public Evaluation(FuzzyTime time, long nextChangeMillis) {
+            this.time = time;
+            this.nextChangeMillis = nextChangeMillis;
+        }
+    }
+
     // int here are resource id's
     public static class FuzzyTime {
-        public int minute, hour, separator;
+        public final int minute, hour, separator;
         public FuzzyTime(int minute, int hour, int separator) {
             this.minute = minute;
             this.hour = hour;
             this.separator = separator;
         }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof FuzzyTime)) return false;
+            FuzzyTime other = (FuzzyTime) o;
+            return minute == other.minute && hour == other.hour && separator == other.separator;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = minute;
+            result = 31 * result + hour;
+            result = 31 * result + separator;
+            return result;
+        }
     }
 
 }
@@ -0,0 +1,37 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+/**
+ * Fuzzy time compiled from a {@link FuzzyLogicDefinition}
+ */
+public class FuzzyLogicDefined extends FuzzyLogic {
+
+    private final FuzzyTable mTable12Hour, mTable24Hour;
+
+    public FuzzyLogicDefined(FuzzyLogicDefinition definition) {
+        mTable12Hour = new FuzzyTable(definition, false);
+        mTable24Hour = new FuzzyTable(definition, true);
+    }
+
+    @Override
+    public FuzzyTable getTable(boolean is24Hour) {
+        return is24Hour ? mTable24Hour : mTable12Hour;
+    }
+
+}
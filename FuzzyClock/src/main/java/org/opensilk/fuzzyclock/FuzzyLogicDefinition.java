@@ -0,0 +1,103 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+import java.util.List;
+
+/**
+ * Declarative description of a fuzzy logic, a list of minute ranges within the hour
+ * each naming its minute phrase, separator and which hour it speaks of.
+ * Compiled into a {@link FuzzyTable} like the built in logics.
+ */
+public final class FuzzyLogicDefinition implements FuzzyTable.Rule {
+
+    public final int type;
+    public final int label;
+    // Indexed by minute of hour
+    private final int[] mMinute = new int[60];
+    private final int[] mSeparator = new int[60];
+    private final int[] mHourOffset = new int[60];
+
+    /**
+     * Minutes from start until the next range's start share the same phrase
+     */
+    public static class Range {
+        public final int start;
+        // string resource or -1 to show the hour o'clock
+        public final int minute;
+        public final int separator;
+        // added to the current hour, 1 for ranges that count down to the next hour
+        public final int hourOffset;
+        public Range(int start, int minute, int separator, int hourOffset) {
+            this.start = start;
+            this.minute = minute;
+            this.separator = separator;
+            this.hourOffset = hourOffset;
+        }
+    }
+
+    public FuzzyLogicDefinition(int type, int label, List<Range> ranges) {
+        this.type = type;
+        this.label = label;
+        if (ranges.isEmpty() || ranges.get(0).start != 0) {
+            throw new IllegalArgumentException("First range must start at minute 0");
+        }
+        for (int ii=0; ii<ranges.size(); ii++) {
+            final Range range = ranges.get(ii);
+            final int end = (ii + 1 < ranges.size()) ? ranges.get(ii + 1).start : 60;
+            if (end <= range.start || end > 60) {
+                throw new IllegalArgumentException("Range starts must increase within the hour: " + range.start);
+            }
+            if (range.hourOffset < 0) {
+                throw new IllegalArgumentException("Negative hour offset at minute " + range.start);
+            }
+            for (int jj=range.start; jj<end; jj++) {
+                mMinute[jj] = range.minute;
+                mSeparator[jj] = range.separator;
+                mHourOffset[jj] = range.hourOffset;
+            }
+        }
+    }
+
+    @Override
+    public FuzzyLogic.FuzzyTime compute(int hourOfDay, int minutes, boolean is24Hour) {
+        final int hourOfDaySpoken = (hourOfDay + mHourOffset[minutes]) % 24;
+        final int hours = is24Hour ? hourOfDaySpoken : hourOfDaySpoken % 12;
+
+        int timeH = FuzzyLogic.getHourResourceId(hours);
+
+        // Handle Noon and Midnight
+        if (hourOfDaySpoken == 0) {
+            timeH = R.string.fuzzy_midnight;
+        } else if (hourOfDaySpoken == 12) {
+            timeH = R.string.fuzzy_noon;
+        }
+
+        if (mMinute[minutes] == -1) {
+            if (hours == 0 || hours == 12) {
+                // minutes show noon/midnight
+                return new FuzzyLogic.FuzzyTime(timeH, -1, -1);
+            } else {
+                // put hour in minutes place
+                return new FuzzyLogic.FuzzyTime(timeH, R.string.fuzzy_oclock, -1);
+            }
+        }
+        return new FuzzyLogic.FuzzyTime(mMinute[minutes], timeH, mSeparator[minutes]);
+    }
+
+}
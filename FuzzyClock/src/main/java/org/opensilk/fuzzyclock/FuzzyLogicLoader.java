@@ -0,0 +1,122 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.content.res.TypedArray;
+import android.content.res.XmlResourceParser;
+import android.util.Log;
+
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compiles the xml logic definitions listed in R.array.fuzzy_logic_definitions
+ * and registers them with {@link FuzzyLogicRegistry}.
+ *
+ * <pre>
+ * &lt;fuzzy-logic type="4" label="@string/quarters"&gt;
+ *     &lt;range start="0" /&gt;
+ *     &lt;range start="8" minute="@string/fuzzy_quarter" separator="@string/fuzzy_past" /&gt;
+ *     &lt;range start="38" minute="@string/fuzzy_quarter" separator="@string/fuzzy_to" hourOffset="1" /&gt;
+ *     &lt;range start="53" hourOffset="1" /&gt;
+ * &lt;/fuzzy-logic&gt;
+ * </pre>
+ * A range without a minute shows the hour o'clock.
+ */
+public final class FuzzyLogicLoader {
+
+    private static final String TAG = FuzzyLogicLoader.class.getSimpleName();
+
+    private static final String TAG_LOGIC = "fuzzy-logic";
+    private static final String TAG_RANGE = "range";
+
+    private FuzzyLogicLoader() {
+        //static
+    }
+
+    /**
+     * Loads and registers every listed definition, broken definitions are logged and skipped
+     */
+    public static void loadAll(Context context) {
+        final Resources res = context.getResources();
+        final TypedArray definitions = res.obtainTypedArray(R.array.fuzzy_logic_definitions);
+        try {
+            for (int ii=0; ii<definitions.length(); ii++) {
+                final int id = definitions.getResourceId(ii, 0);
+                try {
+                    final FuzzyLogicDefinition definition = load(res, id);
+                    if (FuzzyLogicRegistry.isRegistered(definition.type)) {
+                        Log.e(TAG, "Logic type " + definition.type + " already registered, skipping "
+                                + res.getResourceEntryName(id));
+                        continue;
+                    }
+                    FuzzyLogicRegistry.register(definition.type, definition.label,
+                            new FuzzyLogicDefined(definition));
+                } catch (XmlPullParserException|IOException|IllegalArgumentException e) {
+                    Log.e(TAG, "Unable to load logic " + res.getResourceEntryName(id), e);
+                }
+            }
+        } finally {
+            definitions.recycle();
+        }
+    }
+
+    /**
+     * Parses a single xml definition
+     */
+    public static FuzzyLogicDefinition load(Resources res, int xmlId)
+            throws XmlPullParserException, IOException {
+        final XmlResourceParser parser = res.getXml(xmlId);
+        try {
+            int type = -1;
+            int label = 0;
+            final List<FuzzyLogicDefinition.Range> ranges = new ArrayList<>(12);
+            int event;
+            while ((event = parser.next()) != XmlPullParser.END_DOCUMENT) {
+                if (event != XmlPullParser.START_TAG) {
+                    continue;
+                }
+                if (TAG_LOGIC.equals(parser.getName())) {
+                    type = parser.getAttributeIntValue(null, "type", -1);
+                    label = parser.getAttributeResourceValue(null, "label", 0);
+                } else if (TAG_RANGE.equals(parser.getName())) {
+                    ranges.add(new FuzzyLogicDefinition.Range(
+                            parser.getAttributeIntValue(null, "start", -1),
+                            parser.getAttributeResourceValue(null, "minute", -1),
+                            parser.getAttributeResourceValue(null, "separator", -1),
+                            parser.getAttributeIntValue(null, "hourOffset", 0)));
+                } else {
+                    throw new XmlPullParserException("Unexpected tag " + parser.getName(), parser, null);
+                }
+            }
+            if (type < 0 || label == 0) {
+                throw new XmlPullParserException("Missing type or label", parser, null);
+            }
+            return new FuzzyLogicDefinition(type, label, ranges);
+        } finally {
+            parser.close();
+        }
+    }
+
+}
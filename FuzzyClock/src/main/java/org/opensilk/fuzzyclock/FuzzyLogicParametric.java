@@ -0,0 +1,122 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fuzzy time built from a bucket size, a lead or lag and a warp curve.
+ *
+ * The wall clock minute is shifted by the offset and the warp curve, rounded
+ * down to the bucket and then spoken the way {@link FuzzyLogicPrecise} would.
+ * Coarser buckets change less often, so the widget wakes up less.
+ *
+ * The warp curve runs behind over the first half of the hour and ahead over
+ * the second half, like {@link FuzzyLogicWarped}, by up to warp minutes.
+ */
+public class FuzzyLogicParametric extends FuzzyLogic {
+
+    public static final int[] BUCKETS = { 1, 5, 10, 15 };
+    public static final int MAX_OFFSET = 30;
+    // Larger amplitudes would make the curve run backwards
+    public static final int MAX_WARP = 9;
+
+    private static final ConcurrentHashMap<Integer, FuzzyLogicParametric> sCache = new ConcurrentHashMap<>(4);
+
+    public final int bucket;
+    public final int offset;
+    public final int warp;
+
+    private final FuzzyTable mTable12Hour, mTable24Hour;
+
+    /**
+     * @param bucket minutes per step, one of {@link #BUCKETS}
+     * @param offset minutes added to the wall clock, negative to lag behind
+     * @param warp amplitude of the warp curve in minutes, 0 for none
+     * @return shared engine for the parameters, compiled on first use
+     */
+    public static FuzzyLogicParametric get(int bucket, int offset, int warp) {
+        final int key = (bucket << 16) | ((offset + MAX_OFFSET) << 8) | warp;
+        FuzzyLogicParametric logic = sCache.get(key);
+        if (logic == null) {
+            logic = new FuzzyLogicParametric(bucket, offset, warp);
+            final FuzzyLogicParametric existing = sCache.putIfAbsent(key, logic);
+            if (existing != null) {
+                logic = existing;
+            }
+        }
+        return logic;
+    }
+
+    private FuzzyLogicParametric(int bucket, int offset, int warp) {
+        if (!isBucket(bucket)) {
+            throw new IllegalArgumentException("Unsupported bucket " + bucket);
+        }
+        if (offset < -MAX_OFFSET || offset > MAX_OFFSET) {
+            throw new IllegalArgumentException("Offset out of range " + offset);
+        }
+        if (warp < 0 || warp > MAX_WARP) {
+            throw new IllegalArgumentException("Warp out of range " + warp);
+        }
+        this.bucket = bucket;
+        this.offset = offset;
+        this.warp = warp;
+        final int[] shift = new int[60];
+        for (int ii=0; ii<60; ii++) {
+            shift[ii] = offset - (int) Math.round(warp * Math.sin(2 * Math.PI * ii / 60));
+        }
+        mTable12Hour = new FuzzyTable(new Rule(shift, bucket, false), false);
+        mTable24Hour = new FuzzyTable(new Rule(shift, bucket, true), true);
+    }
+
+    private static boolean isBucket(int bucket) {
+        for (int b : BUCKETS) {
+            if (b == bucket) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public FuzzyTable getTable(boolean is24Hour) {
+        return is24Hour ? mTable24Hour : mTable12Hour;
+    }
+
+    private static class Rule implements FuzzyTable.Rule {
+        private final int[] mShift;
+        private final int mBucket;
+        private final FuzzyTable mSpoken;
+
+        Rule(int[] shift, int bucket, boolean is24Hour) {
+            mShift = shift;
+            mBucket = bucket;
+            // Precise speaks every minute, so it names any bucket start
+            mSpoken = is24Hour ? FuzzyTables.Precise24.TABLE : FuzzyTables.Precise12.TABLE;
+        }
+
+        @Override
+        public FuzzyTime compute(int hourOfDay, int minutes, boolean is24Hour) {
+            int minuteOfDay = hourOfDay * 60 + minutes + mShift[minutes];
+            minuteOfDay = (minuteOfDay % FuzzyTable.MINUTES_PER_DAY + FuzzyTable.MINUTES_PER_DAY)
+                    % FuzzyTable.MINUTES_PER_DAY;
+            return mSpoken.get(minuteOfDay - minuteOfDay % mBucket);
+        }
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Process wide registry of shared logic engines keyed by FuzzyPrefs.CLOCK_LOGIC_*
+ */
+public final class FuzzyLogicRegistry {
+
+    private static final ConcurrentHashMap<Integer, FuzzyLogic> sLogics = new ConcurrentHashMap<>(8);
+    private static final ConcurrentHashMap<Integer, Integer> sLabels = new ConcurrentHashMap<>(8);
+
+    static {
+        register(FuzzyPrefs.CLOCK_LOGIC_FAST, R.string.fast, new FuzzyLogicFast());
+        register(FuzzyPrefs.CLOCK_LOGIC_PRECISE, R.string.precise, new FuzzyLogicPrecise());
+        register(FuzzyPrefs.CLOCK_LOGIC_SLOW, R.string.slow, new FuzzyLogicSlow());
+        register(FuzzyPrefs.CLOCK_LOGIC_WARPED, R.string.warped, new FuzzyLogicWarped());
+        // Widgets pick their own parameters through FuzzyPrefs.getLogic()
+        register(FuzzyPrefs.CLOCK_LOGIC_CUSTOM, R.string.custom_logic,
+                FuzzyLogicParametric.get(FuzzyPrefs.LOGIC_BUCKET_DEFAULT,
+                        FuzzyPrefs.LOGIC_OFFSET_DEFAULT, FuzzyPrefs.LOGIC_WARP_DEFAULT));
+    }
+
+    private FuzzyLogicRegistry() {
+        //static
+    }
+
+    /**
+     * Registers a logic engine, replacing any previously registered for type
+     * @param type logic type
+     * @param label string resource shown in the settings
+     * @param logic shared engine
+     */
+    public static void register(int type, int label, FuzzyLogic logic) {
+        if (logic == null) {
+            throw new IllegalArgumentException("Null logic for type " + type);
+        }
+        sLabels.put(type, label);
+        sLogics.put(type, logic);
+    }
+
+    /**
+     * @param type logic type
+     * @return shared engine for type, or the default engine if type is unknown
+     */
+    public static FuzzyLogic get(int type) {
+        final FuzzyLogic logic = sLogics.get(type);
+        return (logic != null) ? logic : sLogics.get(FuzzyPrefs.CLOCK_LOGIC_DEFAULT);
+    }
+
+    /**
+     * @return true if an engine is registered for type
+     */
+    public static boolean isRegistered(int type) {
+        return sLogics.containsKey(type);
+    }
+
+    /**
+     * @return registered types in ascending order
+     */
+    public static int[] getTypes() {
+        final Integer[] keys = sLogics.keySet().toArray(new Integer[0]);
+        final int[] types = new int[keys.length];
+        for (int ii=0; ii<keys.length; ii++) {
+            types[ii] = keys[ii];
+        }
+        Arrays.sort(types);
+        return types;
+    }
+
+    /**
+     * @return string resource naming type
+     */
+    public static int getLabel(int type) {
+        final Integer label = sLabels.get(type);
+        return (label != null) ? label : sLabels.get(FuzzyPrefs.CLOCK_LOGIC_DEFAULT);
+    }
+
+}
@@ -17,8 +17,6 @@
  */
 package org.opensilk.fuzzyclock;
 
-import java.util.Calendar;
-
 /**
  * The core logic here aims to warp your perception of time.
  *
@@ -32,131 +30,9 @@ import java.util.Calendar;
  */
 public class FuzzyLogicWarped extends FuzzyLogic {
 
-    public FuzzyLogicWarped() {
-        super();
-    }
-
-    public boolean hasChanged() {
-        return getMinutesState(mPrevMinutes) != getMinutesState(mMinutes)
-                || mPrevHours != mHours;
-    }
-
-    private int getMinutesState(int minutes) {
-        int minState;
-        if        (minutes >= 56) { minState = 1;
-        } else if (minutes >= 51) { minState = 2;
-        } else if (minutes >= 46) { minState = 3;
-        } else if (minutes >= 41) { minState = 4;
-        } else if (minutes >= 36) { minState = 5;
-        } else if (minutes == 35) { minState = 6;
-        } else if (minutes >= 30) { minState = 7;
-        } else if (minutes >= 25) { minState = 8;
-        } else if (minutes >= 20) { minState = 9;
-        } else if (minutes >= 15) { minState = 10;
-        } else if (minutes >= 10) { minState = 11;
-        } else if (minutes >= 5)  { minState = 12;
-        } else                    { minState = 1;
-        }
-        return minState;
-    }
-
-    public long getNextIntervalMilli() {
-        long nextMilli = 0;
-        int minutes = mMinutes;
-        int hours = mHours;
-        if        (minutes >= 56) { hours += 1; minutes = 5;
-        } else if (minutes >= 51) { minutes = 56;
-        } else if (minutes >= 46) { minutes = 51;
-        } else if (minutes >= 41) { minutes = 46;
-        } else if (minutes >= 36) { minutes = 41;
-        } else if (minutes == 35) { minutes = 36;
-        } else if (minutes >= 30) { minutes = 35;
-        } else if (minutes >= 25) { minutes = 30;
-        } else if (minutes >= 20) { minutes = 25;
-        } else if (minutes >= 15) { minutes = 20;
-        } else if (minutes >= 10) { minutes = 15;
-        } else if (minutes >= 5)  { minutes = 10;
-        } else                    { minutes = 5;
-        }
-        nextMilli += (hours - mHours) * 3600000;
-        nextMilli += (minutes - mMinutes) * 60000;
-        nextMilli -= mCalendar.get(Calendar.SECOND) * 1000;
-        return nextMilli;
-    }
-
-    public FuzzyLogic.FuzzyTime getFuzzyTime() {
-        int timeM, timeH, separator;
-        int minutes = mMinutes;
-        int hours = mHours;
-
-        if (!m24HourFormat) {
-            hours %= 12;
-        }
-
-        if        (minutes >= 56) { timeM = -1; // O'CLOCK
-        } else if (minutes >= 51) { timeM = R.string.fuzzy_five;
-        } else if (minutes >= 46) { timeM = R.string.fuzzy_ten;
-        } else if (minutes >= 41) { timeM = R.string.fuzzy_quarter;
-        } else if (minutes >= 36) { timeM = R.string.fuzzy_twenty;
-        } else if (minutes == 35) { timeM = R.string.fuzzy_twenty_five;
-        } else if (minutes >= 30) { timeM = R.string.fuzzy_half;
-        } else if (minutes >= 25) { timeM = R.string.fuzzy_twenty_five;
-        } else if (minutes >= 20) { timeM = R.string.fuzzy_twenty;
-        } else if (minutes >= 15) { timeM = R.string.fuzzy_quarter;
-        } else if (minutes >= 10) { timeM = R.string.fuzzy_ten;
-        } else if (minutes >= 5)  { timeM = R.string.fuzzy_five;
-        } else                    { timeM = -1; // O'CLOCK
-        }
-
-        // Adjust for next hour
-        if (minutes >= 35) {
-            if (m24HourFormat) {
-                hours = (hours + 1) % 24;
-            } else {
-                hours = (hours + 1) % 12;
-            }
-        }
-
-        timeH = getHourResourceId(hours);
-
-        // Handle Noon and Midnight
-        if (m24HourFormat) {
-            if (hours == 12) {
-                timeH = R.string.fuzzy_noon;
-            } else if (hours == 0) {
-                timeH = R.string.fuzzy_midnight;
-            }
-        } else {
-            if (hours == 0) {
-                if (minutes >= 35) {
-                    timeH = (mCalendar.get(Calendar.AM_PM) == Calendar.PM) ?
-                            R.string.fuzzy_midnight : R.string.fuzzy_noon;
-                } else {
-                    timeH = (mCalendar.get(Calendar.AM_PM) == Calendar.AM) ?
-                            R.string.fuzzy_midnight : R.string.fuzzy_noon;
-                }
-            }
-        }
-
-        // Final shuffle
-        if (minutes >= 56 || minutes < 5) {
-            if (hours == 0 || hours == 12) {
-                // minutes show noon/midnight
-                timeM = timeH;
-                timeH = -1;
-                separator = -1;
-            } else {
-                // put hour in minutes place
-                timeM = timeH;
-                timeH = R.string.fuzzy_oclock;
-                separator = -1;
-            }
-        } else if (minutes >= 35) {
-            separator = R.string.fuzzy_to;
-        } else /* minutes >= 5 */ {
-            separator = R.string.fuzzy_past;
-        }
-
-        return new FuzzyLogic.FuzzyTime(timeM, timeH, separator);
+    // Compiled from src/main/logic/fuzzy_logic_warped.xml
+    @Override
+    public FuzzyTable getTable(boolean is24Hour) {
+        return is24Hour ? FuzzyTables.Warped24.TABLE : FuzzyTables.Warped12.TABLE;
     }
 }
@@ -0,0 +1,86 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+import android.content.res.Resources;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolved strings for a fuzzy time, cached per locale so updates
+ * don't hit the resources or build new strings. Thread safe.
+ */
+public final class FuzzyPhrases {
+
+    // Keyed by locale first, a render racing a locale change can't store old strings
+    // under the new locale
+    private static final ConcurrentHashMap<Locale, ConcurrentHashMap<FuzzyLogic.FuzzyTime, FuzzyPhrases>>
+            sCache = new ConcurrentHashMap<>(2);
+
+    // empty when not shown
+    public final CharSequence minute;
+    public final CharSequence separator;
+    public final CharSequence hour;
+    // accessibility string
+    public final CharSequence description;
+
+    private FuzzyPhrases(Resources res, FuzzyLogic.FuzzyTime time) {
+        minute = (time.minute != -1) ? res.getString(time.minute) : "";
+        separator = (time.separator != -1) ? res.getString(time.separator) : "";
+        hour = (time.hour != -1) ? res.getString(time.hour) : "";
+        description = new StringBuilder(minute.length() + separator.length() + hour.length())
+                .append(minute).append(separator).append(hour).toString();
+    }
+
+    /**
+     * @return shared phrases for time, resolved on first use
+     */
+    public static FuzzyPhrases get(Resources res, FuzzyLogic.FuzzyTime time) {
+        Locale locale = res.getConfiguration().locale;
+        if (locale == null) {
+            locale = Locale.getDefault();
+        }
+        ConcurrentHashMap<FuzzyLogic.FuzzyTime, FuzzyPhrases> cache = sCache.get(locale);
+        if (cache == null) {
+            cache = new ConcurrentHashMap<>(64);
+            final ConcurrentHashMap<FuzzyLogic.FuzzyTime, FuzzyPhrases> existing =
+                    sCache.putIfAbsent(locale, cache);
+            if (existing != null) {
+                cache = existing;
+            }
+        }
+        FuzzyPhrases phrases = cache.get(time);
+        if (phrases == null) {
+            phrases = new FuzzyPhrases(res, time);
+            final FuzzyPhrases existing = cache.putIfAbsent(time, phrases);
+            if (existing != null) {
+                phrases = existing;
+            }
+        }
+        return phrases;
+    }
+
+    /**
+     * Drops all phrases, call when the locale changes to free the old ones
+     */
+    public static void invalidate() {
+        sCache.clear();
+    }
+
+}
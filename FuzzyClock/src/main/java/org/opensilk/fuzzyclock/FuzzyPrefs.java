@@ -46,10 +46,20 @@ public class FuzzyPrefs {
     private static final String DREAM_FONT_STYLE_SEPARATOR_LAND = "dream_font_style_separator_land";
     private static final String DREAM_FONT_STYLE_HOUR_PORT = "dream_font_style_hour_port";
     private static final String DREAM_FONT_STYLE_HOUR_LAND = "dream_font_style_hour_land";
+    private static final String DREAM_FONT_FILE_PORT = "dream_font_file_port";
+    private static final String DREAM_FONT_FILE_LAND = "dream_font_file_land";
     private static final String DREAM_STYLE_PORT = "dream_style_port";
     private static final String DREAM_STYLE_LAND = "dream_style_land";
     private static final String DREAM_LOGIC_PORT = "dream_logic_port";
     private static final String DREAM_LOGIC_LAND = "dream_logic_land";
+    private static final String DREAM_LOGIC_BUCKET_PORT = "dream_logic_bucket_port";
+    private static final String DREAM_LOGIC_BUCKET_LAND = "dream_logic_bucket_land";
+    private static final String DREAM_LOGIC_OFFSET_PORT = "dream_logic_offset_port";
+    private static final String DREAM_LOGIC_OFFSET_LAND = "dream_logic_offset_land";
+    private static final String DREAM_LOGIC_WARP_PORT = "dream_logic_warp_port";
+    private static final String DREAM_LOGIC_WARP_LAND = "dream_logic_warp_land";
+    private static final String DREAM_TOLERANCE_PORT = "dream_tolerance_port";
+    private static final String DREAM_TOLERANCE_LAND = "dream_tolerance_land";
 
     private static final String WIDGET_COLOR_MINUTE_PORT = "widget_%d_color_minute_port";
     private static final String WIDGET_COLOR_MINUTE_LAND = "widget_%d_color_minute_land";
@@ -69,10 +79,20 @@ public class FuzzyPrefs {
     private static final String WIDGET_FONT_STYLE_SEPARATOR_LAND = "widget_%d_font_style_separator_land";
     private static final String WIDGET_FONT_STYLE_HOUR_PORT = "widget_%d_font_style_hour_port";
     private static final String WIDGET_FONT_STYLE_HOUR_LAND = "widget_%d_font_style_hour_land";
+    private static final String WIDGET_FONT_FILE_PORT = "widget_%d_font_file_port";
+    private static final String WIDGET_FONT_FILE_LAND = "widget_%d_font_file_land";
     private static final String WIDGET_STYLE_PORT = "widget_%d_style_port";
     private static final String WIDGET_STYLE_LAND = "widget_%d_style_land";
     private static final String WIDGET_LOGIC_PORT = "widget_%d_logic_port";
     private static final String WIDGET_LOGIC_LAND = "widget_%d_logic_land";
+    private static final String WIDGET_LOGIC_BUCKET_PORT = "widget_%d_logic_bucket_port";
+    private static final String WIDGET_LOGIC_BUCKET_LAND = "widget_%d_logic_bucket_land";
+    private static final String WIDGET_LOGIC_OFFSET_PORT = "widget_%d_logic_offset_port";
+    private static final String WIDGET_LOGIC_OFFSET_LAND = "widget_%d_logic_offset_land";
+    private static final String WIDGET_LOGIC_WARP_PORT = "widget_%d_logic_warp_port";
+    private static final String WIDGET_LOGIC_WARP_LAND = "widget_%d_logic_warp_land";
+    private static final String WIDGET_TOLERANCE_PORT = "widget_%d_tolerance_port";
+    private static final String WIDGET_TOLERANCE_LAND = "widget_%d_tolerance_land";
 
     public static final int TEXT_COLOR_DEF_MIN = 0xffffffff; //android.R.color.white;
     public static final int TEXT_COLOR_DEF_SEP = 0xff33b5e5; //android.R.color.holo_blue_light;
@@ -86,17 +106,29 @@ public class FuzzyPrefs {
     public static final int TEXT_STYLE_THIN_BOLD = 5;
     public static final int TEXT_STYLE_DEFAULT = TEXT_STYLE_CONDENSED;
 
-    public static final int CLOCK_STYLE_HORIZONTAL = 0;
-    public static final int CLOCK_STYLE_VERTICAL = 1;
-    public static final int CLOCK_STYLE_STAGGERED = 2;
+    // Imported font file for all segments, empty uses the built in families
+    public static final String FONT_DEFAULT = "";
+
+    public static final int CLOCK_STYLE_HORIZONTAL = FuzzyLayout.STYLE_HORIZONTAL;
+    public static final int CLOCK_STYLE_VERTICAL = FuzzyLayout.STYLE_VERTICAL;
+    public static final int CLOCK_STYLE_STAGGERED = FuzzyLayout.STYLE_STAGGERED;
     public static final int CLOCK_STYLE_DEFAULT = CLOCK_STYLE_HORIZONTAL;
 
     public static final int CLOCK_LOGIC_FAST = 0;
     public static final int CLOCK_LOGIC_PRECISE = 1;
     public static final int CLOCK_LOGIC_SLOW = 2;
     public static final int CLOCK_LOGIC_WARPED = 3;
+    // Built from the logic bucket, offset and warp prefs
+    public static final int CLOCK_LOGIC_CUSTOM = 5;
     public static final int CLOCK_LOGIC_DEFAULT = CLOCK_LOGIC_WARPED;
 
+    public static final int LOGIC_BUCKET_DEFAULT = 5;
+    public static final int LOGIC_OFFSET_DEFAULT = 0;
+    public static final int LOGIC_WARP_DEFAULT = 0;
+
+    // Seconds a widget update may come early, 0 is exact
+    public static final int TOLERANCE_DEFAULT = 0;
+
     private final Context mContext;
     private final int mWidgetId;
     protected boolean isPortrait;
@@ -110,14 +142,24 @@ public class FuzzyPrefs {
     private String mPrefMinStyle;
     private String mPrefSepStyle;
     private String mPrefHourStyle;
+    private String mPrefFont;
     private String mPrefClockStyle;
     private String mPrefClockLogic;
+    private String mPrefLogicBucket;
+    private String mPrefLogicOffset;
+    private String mPrefLogicWarp;
+    private String mPrefTolerance;
 
     public final Settings minute = new Settings();
     public final Settings separator = new Settings();
     public final Settings hour = new Settings();
+    public String font;
     public int clockStyle;
     public int clockLogic;
+    public int logicBucket;
+    public int logicOffset;
+    public int logicWarp;
+    public int tolerance;
 
     public static class Settings {
         public int color;
@@ -156,8 +198,13 @@ public class FuzzyPrefs {
             mPrefHourColor = isPortrait ? DREAM_COLOR_HOUR_PORT : DREAM_COLOR_HOUR_LAND;
             mPrefHourSize = isPortrait ? DREAM_FONT_SIZE_HOUR_PORT : DREAM_FONT_SIZE_HOUR_LAND;
             mPrefHourStyle = isPortrait ? DREAM_FONT_STYLE_HOUR_PORT : DREAM_FONT_STYLE_HOUR_LAND;
+            mPrefFont = isPortrait ? DREAM_FONT_FILE_PORT : DREAM_FONT_FILE_LAND;
             mPrefClockStyle = isPortrait ? DREAM_STYLE_PORT : DREAM_STYLE_LAND;
             mPrefClockLogic = isPortrait ? DREAM_LOGIC_PORT : DREAM_LOGIC_LAND;
+            mPrefLogicBucket = isPortrait ? DREAM_LOGIC_BUCKET_PORT : DREAM_LOGIC_BUCKET_LAND;
+            mPrefLogicOffset = isPortrait ? DREAM_LOGIC_OFFSET_PORT : DREAM_LOGIC_OFFSET_LAND;
+            mPrefLogicWarp = isPortrait ? DREAM_LOGIC_WARP_PORT : DREAM_LOGIC_WARP_LAND;
+            mPrefTolerance = isPortrait ? DREAM_TOLERANCE_PORT : DREAM_TOLERANCE_LAND;
         } else {
             mPrefMinColor = String.format(Locale.US, isPortrait ? WIDGET_COLOR_MINUTE_PORT : WIDGET_COLOR_MINUTE_LAND, mWidgetId);
             mPrefMinSize = String.format(Locale.US, isPortrait ? WIDGET_FONT_SIZE_MINUTE_PORT : WIDGET_FONT_SIZE_MINUTE_LAND, mWidgetId);
@@ -168,8 +215,13 @@ public class FuzzyPrefs {
             mPrefHourColor = String.format(Locale.US, isPortrait ? WIDGET_COLOR_HOUR_PORT : WIDGET_COLOR_HOUR_LAND, mWidgetId);
             mPrefHourSize = String.format(Locale.US, isPortrait ? WIDGET_FONT_SIZE_HOUR_PORT : WIDGET_FONT_SIZE_HOUR_LAND, mWidgetId);
             mPrefHourStyle = String.format(Locale.US, isPortrait ? WIDGET_FONT_STYLE_HOUR_PORT : WIDGET_FONT_STYLE_HOUR_LAND, mWidgetId);
+            mPrefFont = String.format(Locale.US, isPortrait ? WIDGET_FONT_FILE_PORT : WIDGET_FONT_FILE_LAND, mWidgetId);
             mPrefClockStyle = String.format(Locale.US, isPortrait ? WIDGET_STYLE_PORT : WIDGET_STYLE_LAND, mWidgetId);
             mPrefClockLogic = String.format(Locale.US, isPortrait ? WIDGET_LOGIC_PORT : WIDGET_LOGIC_LAND, mWidgetId);
+            mPrefLogicBucket = String.format(Locale.US, isPortrait ? WIDGET_LOGIC_BUCKET_PORT : WIDGET_LOGIC_BUCKET_LAND, mWidgetId);
+            mPrefLogicOffset = String.format(Locale.US, isPortrait ? WIDGET_LOGIC_OFFSET_PORT : WIDGET_LOGIC_OFFSET_LAND, mWidgetId);
+            mPrefLogicWarp = String.format(Locale.US, isPortrait ? WIDGET_LOGIC_WARP_PORT : WIDGET_LOGIC_WARP_LAND, mWidgetId);
+            mPrefTolerance = String.format(Locale.US, isPortrait ? WIDGET_TOLERANCE_PORT : WIDGET_TOLERANCE_LAND, mWidgetId);
         }
         final SharedPreferences prefs = PreferenceManager.getDefaultSharedPreferences(mContext);
         minute.color = prefs.getInt(mPrefMinColor, TEXT_COLOR_DEF_MIN);
@@ -187,8 +239,13 @@ public class FuzzyPrefs {
                 ? (float) mContext.getResources().getInteger(R.integer.fuzzy_font_size_default_port)
                 : (float) mContext.getResources().getInteger(R.integer.fuzzy_font_size_default_land));
         hour.style = prefs.getInt(mPrefHourStyle, TEXT_STYLE_DEFAULT);
+        font = prefs.getString(mPrefFont, FONT_DEFAULT);
         clockStyle = prefs.getInt(mPrefClockStyle, CLOCK_STYLE_DEFAULT);
         clockLogic = prefs.getInt(mPrefClockLogic, CLOCK_LOGIC_DEFAULT);
+        logicBucket = prefs.getInt(mPrefLogicBucket, LOGIC_BUCKET_DEFAULT);
+        logicOffset = prefs.getInt(mPrefLogicOffset, LOGIC_OFFSET_DEFAULT);
+        logicWarp = prefs.getInt(mPrefLogicWarp, LOGIC_WARP_DEFAULT);
+        tolerance = prefs.getInt(mPrefTolerance, TOLERANCE_DEFAULT);
     }
 
     public void reset() {
@@ -200,8 +257,13 @@ public class FuzzyPrefs {
                 : (float) mContext.getResources().getInteger(R.integer.fuzzy_font_size_default_land);
         minute.style = separator.style = hour.style =
                 TEXT_STYLE_DEFAULT;
+        font = FONT_DEFAULT;
         clockStyle = CLOCK_STYLE_DEFAULT;
         clockLogic = CLOCK_LOGIC_DEFAULT;
+        logicBucket = LOGIC_BUCKET_DEFAULT;
+        logicOffset = LOGIC_OFFSET_DEFAULT;
+        logicWarp = LOGIC_WARP_DEFAULT;
+        tolerance = TOLERANCE_DEFAULT;
     }
 
     public void save() {
@@ -216,8 +278,13 @@ public class FuzzyPrefs {
                 .putInt(mPrefHourColor, hour.color)
                 .putFloat(mPrefHourSize, hour.size)
                 .putInt(mPrefHourStyle, hour.style)
+                .putString(mPrefFont, font)
                 .putInt(mPrefClockStyle, clockStyle)
                 .putInt(mPrefClockLogic, clockLogic)
+                .putInt(mPrefLogicBucket, logicBucket)
+                .putInt(mPrefLogicOffset, logicOffset)
+                .putInt(mPrefLogicWarp, logicWarp)
+                .putInt(mPrefTolerance, tolerance)
                 .commit();
     }
 
@@ -234,8 +301,13 @@ public class FuzzyPrefs {
                 .remove(mPrefHourColor)
                 .remove(mPrefHourSize)
                 .remove(mPrefHourStyle)
+                .remove(mPrefFont)
                 .remove(mPrefClockStyle)
                 .remove(mPrefClockLogic)
+                .remove(mPrefLogicBucket)
+                .remove(mPrefLogicOffset)
+                .remove(mPrefLogicWarp)
+                .remove(mPrefTolerance)
                 .apply();
         init(false); //Landscape prefs
         prefs.edit()
@@ -248,42 +320,38 @@ public class FuzzyPrefs {
                 .remove(mPrefHourColor)
                 .remove(mPrefHourSize)
                 .remove(mPrefHourStyle)
+                .remove(mPrefFont)
                 .remove(mPrefClockStyle)
                 .remove(mPrefClockLogic)
+                .remove(mPrefLogicBucket)
+                .remove(mPrefLogicOffset)
+                .remove(mPrefLogicWarp)
+                .remove(mPrefTolerance)
                 .apply();
     }
 
-    public static Typeface createTypeface(int style) {
-        switch (style) {
-            case FuzzyPrefs.TEXT_STYLE_REGULAR:
-                return Typeface.create("sans-serif", Typeface.NORMAL);
-            case FuzzyPrefs.TEXT_STYLE_REGULAR_BOLD:
-                return Typeface.create("sans-serif", Typeface.BOLD);
-            case FuzzyPrefs.TEXT_STYLE_CONDENSED:
-                return Typeface.create("sans-serif-condensed", Typeface.NORMAL);
-            case FuzzyPrefs.TEXT_STYLE_CONDENSED_BOLD:
-                return Typeface.create("sans-serif-condensed", Typeface.BOLD);
-            case FuzzyPrefs.TEXT_STYLE_THIN:
-                return Typeface.create("sans-serif-thin", Typeface.NORMAL);
-            case FuzzyPrefs.TEXT_STYLE_THIN_BOLD:
-                return Typeface.create("sans-serif-thin", Typeface.BOLD);
-            default:
-                return Typeface.defaultFromStyle(Typeface.NORMAL);
+    /**
+     * @return shared engine for clockLogic, custom logic is compiled from the logic prefs
+     */
+    public FuzzyLogic getLogic() {
+        if (clockLogic == CLOCK_LOGIC_CUSTOM) {
+            return FuzzyLogicParametric.get(logicBucket, logicOffset, logicWarp);
         }
+        return FuzzyLogicRegistry.get(clockLogic);
     }
 
-    public static FuzzyLogic createLogic(int type) {
-        switch (type) {
-            case CLOCK_LOGIC_FAST:
-                return new FuzzyLogicFast();
-            case CLOCK_LOGIC_PRECISE:
-                return new FuzzyLogicPrecise();
-            case CLOCK_LOGIC_SLOW:
-                return new FuzzyLogicSlow();
-            case CLOCK_LOGIC_DEFAULT:
-            default:
-                return new FuzzyLogicWarped();
-        }
+    /**
+     * @return shared typeface for style, see {@link FuzzyTypefaces}
+     */
+    public static Typeface createTypeface(int style) {
+        return FuzzyTypefaces.get(style);
+    }
+
+    /**
+     * @return shared typeface for style loaded from the font file, see {@link FuzzyTypefaces}
+     */
+    public static Typeface createTypeface(String font, int style) {
+        return FuzzyTypefaces.get(font, style);
     }
 
 }
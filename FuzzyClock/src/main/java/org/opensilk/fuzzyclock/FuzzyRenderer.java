@@ -0,0 +1,51 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+/**
+ * Measures and draws the words of a {@link FuzzyLayout}. Plain Java so the layout
+ * runs the same on a Canvas and off Android.
+ */
+public interface FuzzyRenderer {
+
+    /**
+     * @return advance width of the text in the segment's font, in pixels
+     */
+    public int getTextWidth(int segment, String text);
+
+    /**
+     * @return font bottom minus font top of the segment's font, in pixels
+     */
+    public int getTextHeight(int segment, String text);
+
+    /**
+     * @return distance from the font top to the baseline, in pixels
+     */
+    public int getTextBaseline(int segment, String text);
+
+    /**
+     * @return text size of the segment's font in pixels, the line spacing scales with it
+     */
+    public float getTextSize(int segment);
+
+    /**
+     * Draws the text with its baseline at y
+     */
+    public void drawText(int segment, String text, int x, int y);
+
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Every fuzzy time transition of one logic over a day, run length encoded.
+ * Looking up an instant is a binary search, nothing is evaluated. Immutable.
+ */
+public final class FuzzySchedule {
+
+    public static final long DURATION_MILLIS = 24 * 60 * 60 * 1000L;
+
+    public final FuzzyLogic logic;
+    public final FuzzyZone zone;
+    public final boolean is24Hour;
+    // Instant each run starts, the first is the start of the schedule
+    private final long[] mStarts;
+    // Evaluation of each run, nextChangeMillis is the start of the following run
+    private final FuzzyLogic.Evaluation[] mRuns;
+
+    /**
+     * @param logic engine to plan
+     * @param startMillis first instant covered
+     * @param zone zone the instants are displayed in
+     * @param is24Hour use 24 hour names
+     */
+    FuzzySchedule(FuzzyLogic logic, long startMillis, FuzzyZone zone, boolean is24Hour) {
+        this.logic = logic;
+        this.zone = zone;
+        this.is24Hour = is24Hour;
+        final long endMillis = startMillis + DURATION_MILLIS;
+        final ArrayList<FuzzyLogic.Evaluation> runs = new ArrayList<>(FuzzyTable.MINUTES_PER_DAY);
+        long[] starts = new long[FuzzyTable.MINUTES_PER_DAY];
+        long instant = startMillis;
+        do {
+            final FuzzyLogic.Evaluation evaluation = logic.evaluate(instant, zone, is24Hour);
+            if (runs.size() == starts.length) {
+                starts = Arrays.copyOf(starts, starts.length * 2);
+            }
+            starts[runs.size()] = instant;
+            runs.add(evaluation);
+            instant = evaluation.nextChangeMillis;
+        } while (instant < endMillis);
+        mStarts = Arrays.copyOf(starts, runs.size());
+        mRuns = runs.toArray(new FuzzyLogic.Evaluation[runs.size()]);
+    }
+
+    /**
+     * @return true if instant is covered and the schedule was planned with the same arguments
+     */
+    public boolean covers(long epochMillis, FuzzyLogic logic, FuzzyZone zone, boolean is24Hour) {
+        return this.logic == logic && this.zone == zone && this.is24Hour == is24Hour
+                && epochMillis >= mStarts[0] && epochMillis < getEndMillis();
+    }
+
+    /**
+     * @param epochMillis instant within the schedule
+     * @return shared evaluation of the run containing epochMillis
+     */
+    public FuzzyLogic.Evaluation get(long epochMillis) {
+        if (epochMillis < mStarts[0] || epochMillis >= getEndMillis()) {
+            throw new IllegalArgumentException("Instant outside schedule " + epochMillis);
+        }
+        int idx = Arrays.binarySearch(mStarts, epochMillis);
+        if (idx < 0) {
+            idx = -idx - 2;
+        }
+        return mRuns[idx];
+    }
+
+    /**
+     * @return first instant past the schedule, at least a day after the start
+     */
+    public long getEndMillis() {
+        return mRuns[mRuns.length - 1].nextChangeMillis;
+    }
+
+}
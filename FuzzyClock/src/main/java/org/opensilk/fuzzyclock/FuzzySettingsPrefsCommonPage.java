@@ -21,12 +21,15 @@ import android.app.Activity;
 import android.app.AlertDialog;
 import android.content.DialogInterface;
 import android.content.Intent;
+import android.net.Uri;
+import android.os.AsyncTask;
 import android.os.Bundle;
 import android.support.v4.app.Fragment;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.Button;
+import android.widget.Toast;
 
 import static android.appwidget.AppWidgetManager.EXTRA_APPWIDGET_ID;
 
@@ -36,23 +39,30 @@ import static android.appwidget.AppWidgetManager.EXTRA_APPWIDGET_ID;
 public class FuzzySettingsPrefsCommonPage extends Fragment implements
         View.OnClickListener {
 
+    private static final int LOGIC_PARAM_BUCKET = 0;
+    private static final int LOGIC_PARAM_OFFSET = 1;
+    private static final int LOGIC_PARAM_WARP = 2;
+
+    private static final int REQUEST_FONT = 1;
+
     protected FuzzySettings mActivity;
 
     protected Button mPreviewButton;
     protected Button mLogicButton;
+    protected Button mToleranceButton;
+    protected Button mFontButton;
     protected CharSequence[] mLogicEntries;
+    protected int[] mLogicTypes;
 
     @Override
     public void onAttach(Activity activity) {
         super.onAttach(activity);
         mActivity = (FuzzySettings) activity;
-        // DO NOT REORDER
-        mLogicEntries = new CharSequence[] {
-                getString(R.string.fast),
-                getString(R.string.precise),
-                getString(R.string.slow),
-                getString(R.string.warped)
-        };
+        mLogicTypes = FuzzyLogicRegistry.getTypes();
+        mLogicEntries = new CharSequence[mLogicTypes.length];
+        for (int ii=0; ii<mLogicTypes.length; ii++) {
+            mLogicEntries[ii] = getString(FuzzyLogicRegistry.getLabel(mLogicTypes[ii]));
+        }
     }
 
     @Override
@@ -67,6 +77,15 @@ public class FuzzySettingsPrefsCommonPage extends Fragment implements
         mPreviewButton.setOnClickListener(this);
         mLogicButton = (Button) v.findViewById(R.id.button_logic);
         mLogicButton.setOnClickListener(this);
+        mToleranceButton = (Button) v.findViewById(R.id.button_tolerance);
+        mToleranceButton.setOnClickListener(this);
+        mFontButton = (Button) v.findViewById(R.id.button_font);
+        mFontButton.setOnClickListener(this);
+        // Only widgets are woken by alarms
+        if (mActivity instanceof FuzzyWidgetSettings) {
+            mToleranceButton.setVisibility(View.VISIBLE);
+            v.findViewById(R.id.divider_zero).setVisibility(View.VISIBLE);
+        }
         return v;
     }
 
@@ -74,6 +93,10 @@ public class FuzzySettingsPrefsCommonPage extends Fragment implements
     public void onClick(View v) {
         if (v == mLogicButton) {
             chooseLogic();
+        } else if (v == mToleranceButton) {
+            chooseTolerance();
+        } else if (v == mFontButton) {
+            chooseFont();
         } else if (v == mPreviewButton) {
             Intent i = new Intent(mActivity, FuzzyPreview.class);
             if (mActivity instanceof FuzzyWidgetSettings) {
@@ -84,17 +107,186 @@ public class FuzzySettingsPrefsCommonPage extends Fragment implements
     }
 
     protected void chooseLogic() {
+        int checked = -1;
+        for (int ii=0; ii<mLogicTypes.length; ii++) {
+            if (mLogicTypes[ii] == mActivity.mFuzzyPrefs.clockLogic) {
+                checked = ii;
+                break;
+            }
+        }
         new AlertDialog.Builder(mActivity)
                 .setSingleChoiceItems(mLogicEntries,
-                        mActivity.mFuzzyPrefs.clockLogic,
+                        checked,
                         new DialogInterface.OnClickListener() {
                             @Override
                             public void onClick(DialogInterface dialog, int which) {
-                                mActivity.mFuzzyPrefs.clockLogic = which;
+                                mActivity.mFuzzyPrefs.clockLogic = mLogicTypes[which];
                                 mActivity.notifyPrefChanged();
                                 dialog.dismiss();
+                                if (mLogicTypes[which] == FuzzyPrefs.CLOCK_LOGIC_CUSTOM) {
+                                    chooseLogicParam(LOGIC_PARAM_BUCKET);
+                                }
                             }
                         })
                 .show();
     }
+
+    /**
+     * Asks for one parameter of the custom logic, then moves on to the next
+     */
+    protected void chooseLogicParam(final int param) {
+        final FuzzyPrefs prefs = mActivity.mFuzzyPrefs;
+        final int title, entries;
+        final int[] values;
+        final int current;
+        switch (param) {
+            case LOGIC_PARAM_BUCKET:
+                title = R.string.logic_bucket;
+                entries = R.array.logic_bucket_entries;
+                values = getResources().getIntArray(R.array.logic_bucket_values);
+                current = prefs.logicBucket;
+                break;
+            case LOGIC_PARAM_OFFSET:
+                title = R.string.logic_offset;
+                entries = R.array.logic_offset_entries;
+                values = getResources().getIntArray(R.array.logic_offset_values);
+                current = prefs.logicOffset;
+                break;
+            case LOGIC_PARAM_WARP:
+            default:
+                title = R.string.logic_warp;
+                entries = R.array.logic_warp_entries;
+                values = getResources().getIntArray(R.array.logic_warp_values);
+                current = prefs.logicWarp;
+                break;
+        }
+        int checked = -1;
+        for (int ii=0; ii<values.length; ii++) {
+            if (values[ii] == current) {
+                checked = ii;
+                break;
+            }
+        }
+        new AlertDialog.Builder(mActivity)
+                .setTitle(title)
+                .setSingleChoiceItems(entries,
+                        checked,
+                        new DialogInterface.OnClickListener() {
+                            @Override
+                            public void onClick(DialogInterface dialog, int which) {
+                                switch (param) {
+                                    case LOGIC_PARAM_BUCKET:
+                                        prefs.logicBucket = values[which];
+                                        break;
+                                    case LOGIC_PARAM_OFFSET:
+                                        prefs.logicOffset = values[which];
+                                        break;
+                                    case LOGIC_PARAM_WARP:
+                                        prefs.logicWarp = values[which];
+                                        break;
+                                }
+                                mActivity.notifyPrefChanged();
+                                dialog.dismiss();
+                                if (param < LOGIC_PARAM_WARP) {
+                                    chooseLogicParam(param + 1);
+                                }
+                            }
+                        })
+                .show();
+    }
+
+    /**
+     * Asks how early a widget update may come, a window lets the system batch wakeups
+     */
+    protected void chooseTolerance() {
+        final FuzzyPrefs prefs = mActivity.mFuzzyPrefs;
+        final int[] values = getResources().getIntArray(R.array.tolerance_values);
+        int checked = -1;
+        for (int ii=0; ii<values.length; ii++) {
+            if (values[ii] == prefs.tolerance) {
+                checked = ii;
+                break;
+            }
+        }
+        new AlertDialog.Builder(mActivity)
+                .setTitle(R.string.tolerance)
+                .setSingleChoiceItems(R.array.tolerance_entries,
+                        checked,
+                        new DialogInterface.OnClickListener() {
+                            @Override
+                            public void onClick(DialogInterface dialog, int which) {
+                                prefs.tolerance = values[which];
+                                mActivity.notifyPrefChanged();
+                                dialog.dismiss();
+                            }
+                        })
+                .show();
+    }
+
+    /**
+     * Switches back to the built in families or asks for a font file
+     */
+    protected void chooseFont() {
+        final FuzzyPrefs prefs = mActivity.mFuzzyPrefs;
+        final CharSequence[] entries = new CharSequence[] {
+                getString(R.string.font_builtin),
+                getString(R.string.font_choose),
+        };
+        new AlertDialog.Builder(mActivity)
+                .setTitle(R.string.font_file)
+                .setSingleChoiceItems(entries,
+                        prefs.font.isEmpty() ? 0 : 1,
+                        new DialogInterface.OnClickListener() {
+                            @Override
+                            public void onClick(DialogInterface dialog, int which) {
+                                dialog.dismiss();
+                                if (which == 0) {
+                                    prefs.font = FuzzyPrefs.FONT_DEFAULT;
+                                    mActivity.notifyPrefChanged();
+                                } else {
+                                    Intent i = new Intent(Intent.ACTION_GET_CONTENT);
+                                    i.addCategory(Intent.CATEGORY_OPENABLE);
+                                    // Font mime types aren't reported reliably
+                                    i.setType("*/*");
+                                    startActivityForResult(i, REQUEST_FONT);
+                                }
+                            }
+                        })
+                .show();
+    }
+
+    @Override
+    public void onActivityResult(int requestCode, int resultCode, Intent data) {
+        if (requestCode != REQUEST_FONT) {
+            super.onActivityResult(requestCode, resultCode, data);
+            return;
+        }
+        if (resultCode != Activity.RESULT_OK || data == null || data.getData() == null) {
+            return;
+        }
+        new ImportFontTask().execute(data.getData());
+    }
+
+    /**
+     * Copies the picked font into app storage, off the main thread
+     */
+    class ImportFontTask extends AsyncTask<Uri, Void, String> {
+        @Override
+        protected String doInBackground(Uri... params) {
+            return FuzzyTypefaces.importFont(mActivity.getApplicationContext(), params[0]);
+        }
+
+        @Override
+        protected void onPostExecute(String path) {
+            if (!isAdded()) {
+                return;
+            }
+            if (path == null) {
+                Toast.makeText(mActivity, R.string.font_file_invalid, Toast.LENGTH_SHORT).show();
+                return;
+            }
+            mActivity.mFuzzyPrefs.font = path;
+            mActivity.notifyPrefChanged();
+        }
+    }
 }
@@ -284,7 +284,8 @@ public class FuzzySettingsPrefsPage extends Fragment implements
         for (int ii=0; ii< typefaceChoices.length; ii++) {
             typefaceChoices[ii].isActive = checkTypeface(ii);
         }
-        final TypefacePrefAdapter adapter = new TypefacePrefAdapter(getActivity(), 0, typefaceChoices);
+        final TypefacePrefAdapter adapter = new TypefacePrefAdapter(getActivity(), 0, typefaceChoices,
+                mActivity.mFuzzyPrefs.font);
         new AlertDialog.Builder(mActivity)
                 .setAdapter(adapter, new DialogInterface.OnClickListener() {
                     @Override
@@ -348,8 +349,12 @@ public class FuzzySettingsPrefsPage extends Fragment implements
             }
         }
 
-        public TypefacePrefAdapter(Context context, int resource, TypefaceChoice[] objects) {
+        // Previewed in the chosen font file, empty for the built in families
+        private final String mFont;
+
+        public TypefacePrefAdapter(Context context, int resource, TypefaceChoice[] objects, String font) {
             super(context, resource, objects);
+            mFont = font;
         }
 
         @Override
@@ -364,7 +369,7 @@ public class FuzzySettingsPrefsPage extends Fragment implements
             if (v != null) {
                 TextView tv = (TextView) v.findViewById(R.id.entry_name);
                 tv.setText(getItem(position).name);
-                tv.setTypeface(FuzzyPrefs.createTypeface(position));
+                tv.setTypeface(FuzzyPrefs.createTypeface(mFont, position));
                 RadioButton r = (RadioButton) v.findViewById(R.id.radio_btn);
                 r.setChecked(getItem(position).isActive);
             }
@@ -0,0 +1,128 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable lookup table of fuzzy times indexed by minute of day.
+ * Equal entries share a single FuzzyTime so lookups never allocate.
+ */
+public final class FuzzyTable {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+
+    /**
+     * Computes the fuzzy time for a wall clock time, only used while building the table
+     */
+    public interface Rule {
+        FuzzyLogic.FuzzyTime compute(int hourOfDay, int minutes, boolean is24Hour);
+    }
+
+    private final FuzzyLogic.FuzzyTime[] mTimes;
+    // Sorted minutes of day where the entry differs from the previous minute
+    private final int[] mBoundaries;
+
+    public FuzzyTable(Rule rule, boolean is24Hour) {
+        mTimes = new FuzzyLogic.FuzzyTime[MINUTES_PER_DAY];
+        final Map<FuzzyLogic.FuzzyTime, FuzzyLogic.FuzzyTime> shared = new HashMap<>();
+        for (int ii=0; ii<MINUTES_PER_DAY; ii++) {
+            FuzzyLogic.FuzzyTime time = rule.compute(ii / 60, ii % 60, is24Hour);
+            FuzzyLogic.FuzzyTime existing = shared.get(time);
+            if (existing == null) {
+                shared.put(time, time);
+            } else {
+                time = existing;
+            }
+            mTimes[ii] = time;
+        }
+        mBoundaries = findBoundaries(mTimes);
+    }
+
+    private FuzzyTable(FuzzyLogic.FuzzyTime[] times, int[] boundaries) {
+        mTimes = times;
+        mBoundaries = boundaries;
+    }
+
+    /**
+     * Unpacks a table precompiled by the generateFuzzyTables gradle task
+     * @param phrases string resources referenced by index, index 0 is -1
+     * @param times minute, hour and separator phrase index of each distinct fuzzy time
+     * @param runs start minute and time index of each run of equal entries, ascending
+     * @param boundaries minutes of day where the entry changes, ascending
+     */
+    static FuzzyTable decode(int[] phrases, String times, String runs, String boundaries) {
+        final FuzzyLogic.FuzzyTime[] distinct = new FuzzyLogic.FuzzyTime[times.length() / 3];
+        for (int ii=0; ii<distinct.length; ii++) {
+            distinct[ii] = new FuzzyLogic.FuzzyTime(phrases[times.charAt(ii * 3)],
+                    phrases[times.charAt(ii * 3 + 1)], phrases[times.charAt(ii * 3 + 2)]);
+        }
+        final FuzzyLogic.FuzzyTime[] table = new FuzzyLogic.FuzzyTime[MINUTES_PER_DAY];
+        for (int ii=0; ii<runs.length(); ii+=2) {
+            final int end = (ii + 2 < runs.length()) ? runs.charAt(ii + 2) : MINUTES_PER_DAY;
+            Arrays.fill(table, runs.charAt(ii), end, distinct[runs.charAt(ii + 1)]);
+        }
+        final int[] changes = new int[boundaries.length()];
+        for (int ii=0; ii<changes.length; ii++) {
+            changes[ii] = boundaries.charAt(ii);
+        }
+        return new FuzzyTable(table, changes);
+    }
+
+    private static int[] findBoundaries(FuzzyLogic.FuzzyTime[] times) {
+        final int[] boundaries = new int[MINUTES_PER_DAY];
+        int count = 0;
+        for (int ii=0; ii<MINUTES_PER_DAY; ii++) {
+            // Entries are shared so identity is enough
+            if (times[ii] != times[(ii + MINUTES_PER_DAY - 1) % MINUTES_PER_DAY]) {
+                boundaries[count++] = ii;
+            }
+        }
+        return Arrays.copyOf(boundaries, count);
+    }
+
+    /**
+     * @param minuteOfDay 0 - 1439
+     * @return shared fuzzy time for the given minute
+     */
+    public FuzzyLogic.FuzzyTime get(int minuteOfDay) {
+        return mTimes[minuteOfDay];
+    }
+
+    /**
+     * @param minuteOfDay 0 - 1439
+     * @return minutes until the entry after minuteOfDay differs, wrapping past midnight,
+     *         a full day if the table never changes
+     */
+    public int minutesUntilChange(int minuteOfDay) {
+        if (mBoundaries.length == 0) {
+            return MINUTES_PER_DAY;
+        }
+        int idx = Arrays.binarySearch(mBoundaries, minuteOfDay + 1);
+        if (idx < 0) {
+            idx = -idx - 1;
+        }
+        if (idx < mBoundaries.length) {
+            return mBoundaries[idx] - minuteOfDay;
+        }
+        return MINUTES_PER_DAY - minuteOfDay + mBoundaries[0];
+    }
+
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+/**
+ * Cache key for text drawn with a font file, TEXT_STYLE_*, size in sp and density,
+ * mutable so lookups can reuse one instance
+ */
+final class FuzzyTextKey {
+    String text;
+    // Font file path, empty for the built in families. Imported fonts are named after
+    // their contents, so a path never changes meaning and entries don't go stale.
+    String font;
+    int style;
+    float sizeSp;
+    float density;
+
+    void set(String text, String font, int style, float sizeSp, float density) {
+        this.text = text;
+        this.font = font;
+        this.style = style;
+        this.sizeSp = sizeSp;
+        this.density = density;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FuzzyTextKey)) return false;
+        FuzzyTextKey other = (FuzzyTextKey) o;
+        return style == other.style
+                && Float.floatToIntBits(sizeSp) == Float.floatToIntBits(other.sizeSp)
+                && Float.floatToIntBits(density) == Float.floatToIntBits(other.density)
+                && text.equals(other.text)
+                && font.equals(other.font);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = text.hashCode();
+        result = 31 * result + font.hashCode();
+        result = 31 * result + style;
+        result = 31 * result + Float.floatToIntBits(sizeSp);
+        result = 31 * result + Float.floatToIntBits(density);
+        return result;
+    }
+}
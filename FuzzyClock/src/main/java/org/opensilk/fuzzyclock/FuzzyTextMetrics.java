@@ -0,0 +1,83 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+import android.graphics.Paint;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cached text measurements keyed by phrase, font, text style, size and density.
+ * The clock only ever shows a few dozen phrases, so after warming up a
+ * layout is computed from cached numbers without measuring. Thread safe.
+ */
+public final class FuzzyTextMetrics {
+
+    private static final int MAX_ENTRIES = 256;
+
+    private static final LinkedHashMap<FuzzyTextKey, FuzzyTextMetrics> sCache =
+            new LinkedHashMap<FuzzyTextKey, FuzzyTextMetrics>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<FuzzyTextKey, FuzzyTextMetrics> eldest) {
+                    return size() > MAX_ENTRIES;
+                }
+            };
+    // Reused for lookups so a hit allocates nothing, guarded by sCache
+    private static final FuzzyTextKey sProbe = new FuzzyTextKey();
+
+    // Advance width of the text
+    public final int width;
+    // Font bottom minus font top
+    public final int height;
+    // Distance from the font top to the baseline
+    public final int baseline;
+
+    private FuzzyTextMetrics(int width, int height, int baseline) {
+        this.width = width;
+        this.height = height;
+        this.baseline = baseline;
+    }
+
+    /**
+     * @param text phrase as drawn
+     * @param font font file the paint's typeface was loaded from, empty for built in ones
+     * @param style FuzzyPrefs.TEXT_STYLE_* the paint's typeface was created from
+     * @param sizeSp text size in sp the paint's text size was computed from
+     * @param density display density the size was scaled with
+     * @param paint paint set up for style and size, only used on a miss
+     * @return shared measurements
+     */
+    public static FuzzyTextMetrics get(String text, String font, int style, float sizeSp, float density,
+                                       Paint paint) {
+        synchronized (sCache) {
+            sProbe.set(text, font, style, sizeSp, density);
+            FuzzyTextMetrics metrics = sCache.get(sProbe);
+            if (metrics == null) {
+                final Paint.FontMetricsInt fm = paint.getFontMetricsInt();
+                metrics = new FuzzyTextMetrics((int) Math.ceil(paint.measureText(text)),
+                        fm.bottom - fm.top, -fm.top);
+                final FuzzyTextKey key = new FuzzyTextKey();
+                key.set(text, font, style, sizeSp, density);
+                sCache.put(key, metrics);
+            }
+            return metrics;
+        }
+    }
+
+}
@@ -0,0 +1,228 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+import android.content.Context;
+import android.graphics.Typeface;
+import android.net.Uri;
+import android.os.Process;
+import android.util.Log;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Process wide typefaces for the TEXT_STYLE_* styles and user font files,
+ * each created once. Thread safe.
+ */
+public final class FuzzyTypefaces {
+
+    private static final String TAG = FuzzyTypefaces.class.getSimpleName();
+
+    private static final int STYLE_COUNT = FuzzyPrefs.TEXT_STYLE_THIN_BOLD + 1;
+
+    // Indexed by TEXT_STYLE_*, guarded by itself
+    private static final Typeface[] sStyles = new Typeface[STYLE_COUNT];
+    // Keyed by path, then path and style for the bold variants
+    private static final ConcurrentHashMap<String, Typeface> sFiles = new ConcurrentHashMap<>(4);
+
+    // Imported fonts live here, named after their contents
+    private static final String FONT_DIR = "fonts";
+
+    private FuzzyTypefaces() {
+        //static
+    }
+
+    /**
+     * Creates the TEXT_STYLE_* typefaces on a background thread so the first
+     * widget or dream update doesn't have to
+     */
+    public static void preload() {
+        new Thread(new Runnable() {
+            @Override
+            public void run() {
+                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                for (int ii=0; ii<STYLE_COUNT; ii++) {
+                    get(ii);
+                }
+            }
+        }, TAG).start();
+    }
+
+    /**
+     * @param style FuzzyPrefs.TEXT_STYLE_*
+     * @return shared typeface for style
+     */
+    public static Typeface get(int style) {
+        if (style < 0 || style >= STYLE_COUNT) {
+            return Typeface.defaultFromStyle(Typeface.NORMAL);
+        }
+        synchronized (sStyles) {
+            if (sStyles[style] == null) {
+                sStyles[style] = create(style);
+            }
+            return sStyles[style];
+        }
+    }
+
+    /**
+     * @param font path of a font file from {@link #importFont(Context, Uri)}, empty for
+     *             the built in family of style
+     * @param style FuzzyPrefs.TEXT_STYLE_*, bold styles embolden a font file
+     * @return shared typeface, the built in one if the file can't be loaded
+     */
+    public static Typeface get(String font, int style) {
+        if (font == null || font.isEmpty()) {
+            return get(style);
+        }
+        final Typeface regular = getFile(font);
+        if (regular == null) {
+            return get(style);
+        }
+        if (!isBold(style)) {
+            return regular;
+        }
+        final String key = font + "#bold";
+        Typeface bold = sFiles.get(key);
+        if (bold == null) {
+            bold = Typeface.create(regular, Typeface.BOLD);
+            final Typeface existing = sFiles.putIfAbsent(key, bold);
+            if (existing != null) {
+                bold = existing;
+            }
+        }
+        return bold;
+    }
+
+    /**
+     * Loads a font file once, the file is mapped by the platform rather
+     * than read into the heap
+     * @return shared typeface or null if the file can't be loaded
+     */
+    private static Typeface getFile(String path) {
+        Typeface typeface = sFiles.get(path);
+        if (typeface == null) {
+            try {
+                typeface = Typeface.createFromFile(path);
+            } catch (RuntimeException e) {
+                Log.e(TAG, "Unable to load font " + path, e);
+                return null;
+            }
+            final Typeface existing = sFiles.putIfAbsent(path, typeface);
+            if (existing != null) {
+                typeface = existing;
+            }
+        }
+        return typeface;
+    }
+
+    /**
+     * Copies a user picked font into app storage. The copy is named after a checksum and
+     * the length of its contents, so a path always stands for the same font and can key the text caches.
+     * Does io, call off the main thread.
+     * @return path to store in FuzzyPrefs.font, null if it isn't a usable font
+     */
+    public static String importFont(Context context, Uri uri) {
+        final File dir = new File(context.getFilesDir(), FONT_DIR);
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            Log.e(TAG, "Can't create " + dir);
+            return null;
+        }
+        final File tmp = new File(dir, "import.tmp");
+        final CRC32 crc = new CRC32();
+        long length = 0;
+        InputStream in = null;
+        OutputStream out = null;
+        try {
+            in = context.getContentResolver().openInputStream(uri);
+            if (in == null) {
+                return null;
+            }
+            out = new FileOutputStream(tmp);
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+                length += read;
+                out.write(buffer, 0, read);
+            }
+        } catch (IOException e) {
+            Log.e(TAG, "Unable to copy font " + uri, e);
+            tmp.delete();
+            return null;
+        } finally {
+            closeQuietly(in);
+            closeQuietly(out);
+        }
+        final File file = new File(dir, String.format(Locale.US, "%08x_%d.ttf",
+                crc.getValue(), length));
+        if (!file.exists() && !tmp.renameTo(file)) {
+            tmp.delete();
+            return null;
+        }
+        tmp.delete();
+        final String path = file.getAbsolutePath();
+        if (getFile(path) == null) {
+            file.delete();
+            return null;
+        }
+        return path;
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable != null) {
+            try {
+                closeable.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static boolean isBold(int style) {
+        return style == FuzzyPrefs.TEXT_STYLE_REGULAR_BOLD
+                || style == FuzzyPrefs.TEXT_STYLE_CONDENSED_BOLD
+                || style == FuzzyPrefs.TEXT_STYLE_THIN_BOLD;
+    }
+
+    private static Typeface create(int style) {
+        switch (style) {
+            case FuzzyPrefs.TEXT_STYLE_REGULAR:
+                return Typeface.create("sans-serif", Typeface.NORMAL);
+            case FuzzyPrefs.TEXT_STYLE_REGULAR_BOLD:
+                return Typeface.create("sans-serif", Typeface.BOLD);
+            case FuzzyPrefs.TEXT_STYLE_CONDENSED:
+                return Typeface.create("sans-serif-condensed", Typeface.NORMAL);
+            case FuzzyPrefs.TEXT_STYLE_CONDENSED_BOLD:
+                return Typeface.create("sans-serif-condensed", Typeface.BOLD);
+            case FuzzyPrefs.TEXT_STYLE_THIN:
+                return Typeface.create("sans-serif-thin", Typeface.NORMAL);
+            case FuzzyPrefs.TEXT_STYLE_THIN_BOLD:
+                return Typeface.create("sans-serif-thin", Typeface.BOLD);
+            default:
+                return Typeface.defaultFromStyle(Typeface.NORMAL);
+        }
+    }
+
+}
@@ -29,16 +29,31 @@ import android.content.IntentFilter;
 import android.content.res.Configuration;
 import android.database.ContentObserver;
 import android.graphics.Bitmap;
+import android.graphics.Color;
 import android.os.Build;
 import android.os.Handler;
+import android.os.HandlerThread;
 import android.os.IBinder;
+import android.os.Looper;
 import android.os.Message;
+import android.os.Process;
 import android.support.v4.util.ArrayMap;
 import android.util.Log;
 import android.view.LayoutInflater;
+import android.view.View;
 import android.widget.RemoteViews;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 import hugo.weaving.DebugLog;
 
@@ -47,13 +62,44 @@ public class FuzzyWidgetService extends Service {
     private static final String TAG = FuzzyWidgetService.class.getSimpleName();
     private static final boolean LOGV = BuildConfig.DEBUG;
 
+    // Action of the one update alarm shared by all widgets
+    static final String ACTION_SCHEDULED_UPDATE = "scheduled_update";
+
     private Context mContext;
     private FormatChangeObserver mFormatChangeObserver;
     private AlarmManager mAlarmManager;
-    private FuzzyClockView mFuzzyClock;
     private AppWidgetManager mWidgetManager;
+    // Guarded by itself, read from onStartCommand()
     private static final ArrayMap<Integer, FuzzyPrefs> sWidgetSettings = new ArrayMap<>(4);
-    private final Handler mHandler = new UpdateHandler();
+    // Guarded by itself, read from the render threads
+    private static final ArrayMap<Integer, FuzzySchedule> sWidgetSchedules = new ArrayMap<>(4);
+    // Update thread, owns the settings, scheduling and publishing
+    private HandlerThread mUpdateThread;
+    private Handler mHandler;
+    // Renders frames in parallel when several widgets update together
+    private ExecutorService mRenderPool;
+    // Views aren't thread safe so every render thread has its own clock
+    private final ArrayList<FuzzyClockView> mFuzzyClocks = new ArrayList<>(4);
+    private final ThreadLocal<FuzzyClockView> mFuzzyClock = new ThreadLocal<FuzzyClockView>() {
+        @Override
+        protected FuzzyClockView initialValue() {
+            LayoutInflater layoutInflater = (LayoutInflater) getSystemService(Context.LAYOUT_INFLATER_SERVICE);
+            FuzzyClockView clock = (FuzzyClockView) layoutInflater.inflate(R.layout.fuzzy_clock, null);
+            clock.setRenderMode(FuzzyClockView.RENDER_CANVAS);
+            synchronized (mFuzzyClocks) {
+                mFuzzyClocks.add(clock);
+            }
+            return clock;
+        }
+    };
+    // Guarded by itself, what each widget was last sent
+    private static final ArrayMap<Integer, Fingerprint> sWidgetFingerprints = new ArrayMap<>(4);
+    // Guarded by itself, when each widget next changes, the one alarm is set for the head.
+    // Outlives the service, which stops between updates
+    private static final FuzzyDeadlines sWidgetDeadlines = new FuzzyDeadlines();
+    // Guarded by sWidgetDeadlines, window the alarm is set for
+    private static long sAlarmStartMillis = -1;
+    private static long sAlarmMillis = -1;
 
     private class FormatChangeObserver extends ContentObserver {
         public FormatChangeObserver() {
@@ -77,8 +123,24 @@ public class FuzzyWidgetService extends Service {
 
         mWidgetManager = AppWidgetManager.getInstance(mContext);
         mAlarmManager = (AlarmManager) getSystemService(Context.ALARM_SERVICE);
-        LayoutInflater layoutInflater = (LayoutInflater) getSystemService(Context.LAYOUT_INFLATER_SERVICE);
-        mFuzzyClock = (FuzzyClockView) layoutInflater.inflate(R.layout.fuzzy_clock, null);
+        mUpdateThread = new HandlerThread(TAG, Process.THREAD_PRIORITY_BACKGROUND);
+        mUpdateThread.start();
+        mHandler = new UpdateHandler(mUpdateThread.getLooper());
+        final int threads = Math.max(1, Math.min(RENDER_THREADS_MAX,
+                Runtime.getRuntime().availableProcessors() - 1));
+        mRenderPool = Executors.newFixedThreadPool(threads, new ThreadFactory() {
+            private int mCount;
+            @Override
+            public Thread newThread(final Runnable r) {
+                return new Thread(new Runnable() {
+                    @Override
+                    public void run() {
+                        Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                        r.run();
+                    }
+                }, TAG + "-render-" + (mCount++));
+            }
+        });
     }
 
     @DebugLog
@@ -88,27 +150,22 @@ public class FuzzyWidgetService extends Service {
         if (intent == null || intent.getAction() == null) {
             mHandler.sendEmptyMessage(UPDATE_SETTINGS);
             mHandler.sendMessage(mHandler.obtainMessage(UPDATE_ALL_WIDGETS, startId));
-        // Update the specified widget
-        } else if (intent.getAction().startsWith("scheduled_update")) {
-            final int id = intent.getIntExtra(AppWidgetManager.EXTRA_APPWIDGET_ID,
-                    AppWidgetManager.INVALID_APPWIDGET_ID);
-            if (!sWidgetSettings.containsKey((Integer) id)) {
-                mHandler.sendEmptyMessage(UPDATE_SETTINGS);
-            }
-            if (id != AppWidgetManager.INVALID_APPWIDGET_ID) {
-                mHandler.sendMessage(mHandler.obtainMessage(UPDATE_SINGLE_WIDGET, id, startId));
-            }
+        // Update the widgets that are due, per widget alarms of older versions start with it too
+        } else if (intent.getAction().startsWith(ACTION_SCHEDULED_UPDATE)) {
+            mHandler.sendMessage(mHandler.obtainMessage(UPDATE_DUE_WIDGETS, startId, 0));
         // A widget was deleted, remove it from our settings map
         } else if (intent.getAction().equals(AppWidgetManager.ACTION_APPWIDGET_DELETED)) {
             int[] ids = intent.getIntArrayExtra(AppWidgetManager.EXTRA_APPWIDGET_IDS);
             if (ids != null) {
                 for (int id: ids) {
-                    cancelUpdate(id);
                     new FuzzyPrefs(mContext, id).remove();
-                    if (sWidgetSettings.containsKey((Integer) id)) {
-                        sWidgetSettings.remove((Integer) id);
+                    synchronized (sWidgetSettings) {
+                        if (sWidgetSettings.containsKey((Integer) id)) {
+                            sWidgetSettings.remove((Integer) id);
+                        }
                     }
                 }
+                mHandler.sendMessage(mHandler.obtainMessage(REMOVE_SCHEDULES, ids));
             }
             mHandler.sendMessage(mHandler.obtainMessage(UPDATE_ALL_WIDGETS, startId));
         }
@@ -123,6 +180,21 @@ public class FuzzyWidgetService extends Service {
     @DebugLog
     @Override
     public void onDestroy() {
+        // The update thread may be waiting on renders, let it finish before the pool goes
+        mUpdateThread.quit();
+        try {
+            mUpdateThread.join();
+            mRenderPool.shutdown();
+            mRenderPool.awaitTermination(RENDER_SHUTDOWN_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            mRenderPool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        synchronized (mFuzzyClocks) {
+            for (FuzzyClockView clock : mFuzzyClocks) {
+                clock.getBitmapPool().clear();
+            }
+        }
         //mContext.getContentResolver().unregisterContentObserver(mFormatChangeObserver);
         super.onDestroy();
     }
@@ -134,9 +206,11 @@ public class FuzzyWidgetService extends Service {
     private void updateWidgets() {
         int[] widgetIds = mWidgetManager.getAppWidgetIds(new ComponentName(mContext, FuzzyWidget.class));
         if (widgetIds != null && widgetIds.length > 0) {
+            final ArrayList<Integer> ids = new ArrayList<>(widgetIds.length);
             for (int id: widgetIds) {
-                 updateWidget(id);
+                ids.add(id);
             }
+            updateWidgets(ids);
         } else {
             Log.i(TAG, "No widgets left to update...");
             stopSelf();
@@ -144,81 +218,311 @@ public class FuzzyWidgetService extends Service {
     }
 
     /**
-     * Updates single appwidget, will schedule next update based on current logic
-     * @param id
+     * Renders the widgets in parallel and publishes them in order, will schedule
+     * next updates based on current logic. Runs on the update thread.
+     * @param ids
      */
     @DebugLog
-    private void updateWidget(int id) {
-        FuzzyPrefs settings = sWidgetSettings.get((Integer) id);
+    private void updateWidgets(List<Integer> ids) {
+        if (ids.size() == 1) {
+            // Not worth the hop
+            publishFrame(renderFrame(ids.get(0)));
+            updateAlarm();
+            return;
+        }
+        final ArrayList<Future<Frame>> frames = new ArrayList<>(ids.size());
+        for (final Integer id : ids) {
+            frames.add(mRenderPool.submit(new Callable<Frame>() {
+                @Override
+                public Frame call() {
+                    return renderFrame(id);
+                }
+            }));
+        }
+        for (int ii=0; ii<frames.size(); ii++) {
+            try {
+                publishFrame(frames.get(ii).get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                Log.e(TAG, "Failed to render widget " + ids.get(ii), e.getCause());
+            }
+        }
+        updateAlarm();
+    }
+
+    /**
+     * Renders a frame for a single appwidget on the calling thread
+     * @param id
+     * @return frame or null if the widget isn't set up
+     */
+    private Frame renderFrame(int id) {
+        FuzzyPrefs settings;
+        synchronized (sWidgetSettings) {
+            settings = sWidgetSettings.get((Integer) id);
+        }
         if (settings == null) {
-            return; // Once setup is done we will be called again.
+            return null; // Once setup is done we will be called again.
         }
         if (LOGV) Log.v(TAG, "Updating widget id=" + id + " " + settings.toString());
-        mFuzzyClock.loadPreferences(settings);
-        mFuzzyClock.setDateFormat();
-        mFuzzyClock.updateTime();
-        Bitmap bitmap = mFuzzyClock.createBitmap();
-        if (bitmap == null) {
+        final FuzzyClockView clock = mFuzzyClock.get();
+        clock.loadPreferences(settings);
+        clock.setDateFormat();
+        // Each widget keeps its own day of transitions, so a wakeup is just a lookup
+        FuzzySchedule schedule;
+        synchronized (sWidgetSchedules) {
+            schedule = sWidgetSchedules.get((Integer) id);
+        }
+        clock.setSchedule(schedule);
+        // Woken inside its window the widget shows the coming time, so it is never late
+        final long tolerance = settings.tolerance * 1000L;
+        clock.setToleranceMillis(tolerance);
+        clock.updateTime();
+        final float density = getResources().getDisplayMetrics().scaledDensity;
+        final FuzzyPrefs.Settings[] looks = { settings.minute, settings.separator, settings.hour };
+        final FuzzyFrameCache.Key[] keys = new FuzzyFrameCache.Key[FuzzyLayout.SEGMENT_COUNT];
+        final int[] tints = new int[FuzzyLayout.SEGMENT_COUNT];
+        for (int ii = 0; ii < keys.length; ii++) {
+            final String text = clock.getSegmentText(ii);
+            if (!text.isEmpty()) {
+                final int color = clock.getSegmentColor(ii);
+                keys[ii] = new FuzzyFrameCache.Key(text, settings.font, looks[ii].style,
+                        looks[ii].size, color, density);
+                // Opaque words are coverage masks painted in the text colour by the host,
+                // a transparent filter leaves full colour words alone
+                tints[ii] = (Color.alpha(color) == 0xff) ? color : Color.TRANSPARENT;
+            }
+        }
+        // Words are stacked by the layout, the staggered style indents them
+        int separatorIndent = 0, hourIndent = 0;
+        if (settings.clockStyle == FuzzyPrefs.CLOCK_STYLE_STAGGERED) {
+            final int minuteWidth = clock.getSegmentWidth(FuzzyLayout.SEGMENT_MINUTE);
+            separatorIndent = Math.max(0, minuteWidth - clock.getSegmentWidth(FuzzyLayout.SEGMENT_SEPARATOR) / 2);
+            hourIndent = minuteWidth;
+        }
+        final Fingerprint fingerprint = new Fingerprint(settings.clockStyle, keys, tints,
+                separatorIndent, hourIndent, clock.getContentDescription());
+        final Fingerprint sent;
+        synchronized (sWidgetFingerprints) {
+            sent = sWidgetFingerprints.get((Integer) id);
+        }
+        // Only words that changed are drawn and sent, unless the layout itself has to be
+        final boolean full = sent == null || sent.clockStyle != fingerprint.clockStyle;
+        final Bitmap[] bitmaps = new Bitmap[FuzzyLayout.SEGMENT_COUNT];
+        final boolean[] shared = new boolean[FuzzyLayout.SEGMENT_COUNT];
+        for (int ii = 0; ii < keys.length; ii++) {
+            if (keys[ii] == null || (!full && keys[ii].equals(sent.keys[ii]))) {
+                continue;
+            }
+            // Same look and same word give the same pixels, whichever widget drew them
+            bitmaps[ii] = FuzzyFrameCache.get(keys[ii]);
+            shared[ii] = true;
+            if (bitmaps[ii] == null) {
+                bitmaps[ii] = clock.createSegmentBitmap(ii);
+                shared[ii] = bitmaps[ii] != null && FuzzyFrameCache.put(keys[ii], bitmaps[ii]);
+            }
+        }
+        return new Frame(id, clock.getBitmapPool(), full, bitmaps, shared, fingerprint, sent,
+                clock.getTimeMillis(), clock.getNextChangeMillis(), tolerance, clock.getSchedule());
+    }
+
+    /**
+     * Sends a rendered frame to the appwidget unless it already shows it, and schedules
+     * the next update
+     * @param frame
+     */
+    @DebugLog
+    private void publishFrame(Frame frame) {
+        if (frame == null) {
             return;
         }
-        // build onClick intent
-        Intent intent = new Intent(mContext, FuzzyWidgetSettings.class);
-        intent.setAction(String.format(Locale.US, "dummy_%d", id));
-        intent.putExtra(AppWidgetManager.EXTRA_APPWIDGET_ID, id);
-        PendingIntent pi = PendingIntent.getActivity(mContext, 0, intent, PendingIntent.FLAG_UPDATE_CURRENT);
-        // send bitmap to remote view
-        RemoteViews views = new RemoteViews(mContext.getPackageName(), R.layout.fuzzy_widget);
-        views.setImageViewBitmap(R.id.fuzzy_clock_image, bitmap);
-        views.setContentDescription(R.id.fuzzy_clock_image, mFuzzyClock.getContentDescription());
-        views.setOnClickPendingIntent(R.id.fuzzy_clock_image, pi);
-        mWidgetManager.updateAppWidget(id, views);
-        scheduleUpdate(mFuzzyClock.getLogic().getCalendar().getTimeInMillis(), mFuzzyClock.getLogic().getNextIntervalMilli(), id);
+        final int id = frame.id;
+        synchronized (sWidgetSchedules) {
+            sWidgetSchedules.put((Integer) id, frame.schedule);
+        }
+        if (frame.fingerprint.isEmpty()) {
+            return;
+        }
+        if (frame.fingerprint.equals(frame.sent)) {
+            if (LOGV) Log.v(TAG, "Widget " + id + " unchanged, not sent");
+        } else {
+            sendFrame(frame);
+        }
+        // Not before the shown time starts either, or an early wakeup would skip a phrase
+        final long startMillis = Math.max(frame.nextChangeMillis - frame.toleranceMillis,
+                frame.timeMillis);
+        synchronized (sWidgetDeadlines) {
+            sWidgetDeadlines.set(id, startMillis, frame.nextChangeMillis);
+        }
     }
 
     /**
-     * Schedules next update with alarmManager
-     * @param now
-     * @param nextMilli
-     * @param id
+     * Builds the remote views for a frame and sends them to the appwidget, a full update
+     * replaces the layout, otherwise only what changed since the last frame is sent
+     * @param frame
+     */
+    private void sendFrame(Frame frame) {
+        final int id = frame.id;
+        final Fingerprint fingerprint = frame.fingerprint;
+        final Fingerprint sent = frame.full ? null : frame.sent;
+        final RemoteViews views = new RemoteViews(mContext.getPackageName(),
+                getWidgetLayout(fingerprint.clockStyle));
+        if (sent == null) {
+            // build onClick intent
+            Intent intent = new Intent(mContext, FuzzyWidgetSettings.class);
+            intent.setAction(String.format(Locale.US, "dummy_%d", id));
+            intent.putExtra(AppWidgetManager.EXTRA_APPWIDGET_ID, id);
+            PendingIntent pi = PendingIntent.getActivity(mContext, 0, intent, PendingIntent.FLAG_UPDATE_CURRENT);
+            views.setOnClickPendingIntent(R.id.fuzzy_widget, pi);
+        }
+        if (sent == null || !fingerprint.contentDescription.equals(sent.contentDescription)) {
+            views.setContentDescription(R.id.fuzzy_clock_segments, fingerprint.contentDescription);
+        }
+        for (int ii = 0; ii < FuzzyLayout.SEGMENT_COUNT; ii++) {
+            final int viewId = getSegmentViewId(ii);
+            final Bitmap bitmap = frame.bitmaps[ii];
+            if (bitmap != null) {
+                views.setViewVisibility(viewId, View.VISIBLE);
+                views.setImageViewBitmap(viewId, bitmap);
+            }
+            if (fingerprint.keys[ii] != null
+                    && (sent == null || bitmap != null || fingerprint.tints[ii] != sent.tints[ii])) {
+                // A new colour alone keeps the mask, only the filter is resent
+                views.setInt(viewId, "setColorFilter", fingerprint.tints[ii]);
+            } else if (fingerprint.keys[ii] == null && (sent == null || sent.keys[ii] != null)) {
+                views.setViewVisibility(viewId, View.GONE);
+            }
+        }
+        if (sent == null || fingerprint.separatorIndent != sent.separatorIndent) {
+            views.setViewPadding(R.id.fuzzy_clock_separator, fingerprint.separatorIndent, 0, 0, 0);
+        }
+        if (sent == null || fingerprint.hourIndent != sent.hourIndent) {
+            views.setViewPadding(R.id.fuzzy_clock_hour, fingerprint.hourIndent, 0, 0, 0);
+        }
+        if (sent == null) {
+            mWidgetManager.updateAppWidget(id, views);
+        } else {
+            // Merged into the views the host already has
+            mWidgetManager.partiallyUpdateAppWidget(id, views);
+        }
+        synchronized (sWidgetFingerprints) {
+            sWidgetFingerprints.put((Integer) id, fingerprint);
+        }
+        // The words were copied into the transaction, reuse them for the next widget
+        for (int ii = 0; ii < FuzzyLayout.SEGMENT_COUNT; ii++) {
+            if (frame.bitmaps[ii] != null && !frame.shared[ii]) {
+                frame.pool.put(frame.bitmaps[ii]);
+            }
+        }
+        if (LOGV) Log.v(TAG, frame.pool.toString());
+    }
+
+    /**
+     * @return segmented widget layout for a FuzzyPrefs.CLOCK_STYLE_*
+     */
+    private static int getWidgetLayout(int clockStyle) {
+        switch (clockStyle) {
+            case FuzzyPrefs.CLOCK_STYLE_STAGGERED:
+                return R.layout.fuzzy_widget_staggered;
+            case FuzzyPrefs.CLOCK_STYLE_VERTICAL:
+                return R.layout.fuzzy_widget_vertical;
+            case FuzzyPrefs.CLOCK_STYLE_HORIZONTAL:
+            default:
+                return R.layout.fuzzy_widget_horizontal;
+        }
+    }
+
+    /**
+     * @return image view in the widget layouts for a FuzzyLayout.SEGMENT_*
+     */
+    private static int getSegmentViewId(int segment) {
+        switch (segment) {
+            case FuzzyLayout.SEGMENT_MINUTE:
+                return R.id.fuzzy_clock_minute;
+            case FuzzyLayout.SEGMENT_SEPARATOR:
+                return R.id.fuzzy_clock_separator;
+            case FuzzyLayout.SEGMENT_HOUR:
+            default:
+                return R.id.fuzzy_clock_hour;
+        }
+    }
+
+    /**
+     * Updates the widgets whose deadline has passed in one batch
      */
     @DebugLog
-    private void scheduleUpdate(long now, long nextMilli, int id) {
-        PendingIntent pendingIntent = createPendingIntent(id);
-        cancelUpdate(pendingIntent);
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
-            mAlarmManager.setExact(AlarmManager.RTC, now+nextMilli, pendingIntent);
+    private void updateDueWidgets() {
+        final List<Integer> ids;
+        synchronized (sWidgetDeadlines) {
+            if (sWidgetDeadlines.isEmpty()) {
+                ids = null;
+            } else {
+                ids = sWidgetDeadlines.pollDue(System.currentTimeMillis());
+                // Early or stale wakeups set the alarm again
+                sAlarmStartMillis = sAlarmMillis = -1;
+            }
+        }
+        if (ids == null) {
+            // The process was restarted by the alarm, nothing is planned yet
+            updateSettings();
+            updateWidgets();
+        } else if (ids.isEmpty()) {
+            updateAlarm();
         } else {
-            mAlarmManager.set(AlarmManager.RTC, now+nextMilli, pendingIntent);
+            updateWidgets(ids);
         }
-        if (LOGV) Log.i(TAG, "Scheduled update for " +
-                (nextMilli/1000) + "s from now for widget " + id);
     }
 
     /**
-     * Cancels pending updates for appwidget id
-     * @param id
+     * Points the update alarm at the window of the earliest deadline, it is only touched
+     * when that changed. A window lets the system batch our wakeup with others.
      */
-    private void cancelUpdate(int id) {
-        cancelUpdate(createPendingIntent(id));
+    @DebugLog
+    private void updateAlarm() {
+        final long startMillis, triggerAtMillis;
+        synchronized (sWidgetDeadlines) {
+            startMillis = sWidgetDeadlines.getNextStartMillis();
+            triggerAtMillis = sWidgetDeadlines.getNextMillis();
+            if (startMillis == sAlarmStartMillis && triggerAtMillis == sAlarmMillis) {
+                return;
+            }
+            sAlarmStartMillis = startMillis;
+            sAlarmMillis = triggerAtMillis;
+        }
+        if (triggerAtMillis == Long.MAX_VALUE) {
+            cancelUpdate();
+            return;
+        }
+        // Replaces the previous alarm, the intent is the same
+        PendingIntent pendingIntent = createPendingIntent();
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+            if (startMillis < triggerAtMillis) {
+                mAlarmManager.setWindow(AlarmManager.RTC, startMillis,
+                        triggerAtMillis - startMillis, pendingIntent);
+            } else {
+                mAlarmManager.setExact(AlarmManager.RTC, triggerAtMillis, pendingIntent);
+            }
+        } else {
+            mAlarmManager.set(AlarmManager.RTC, triggerAtMillis, pendingIntent);
+        }
+        if (LOGV) Log.i(TAG, "Scheduled update for " +
+                ((triggerAtMillis - System.currentTimeMillis())/1000) + "s from now");
     }
 
     /**
-     * Cancels pending updates for pending intent
-     * @param pendingIntent
+     * Cancels the pending update alarm
      */
-    private void cancelUpdate(PendingIntent pendingIntent) {
-        mAlarmManager.cancel(pendingIntent);
+    private void cancelUpdate() {
+        mAlarmManager.cancel(createPendingIntent());
     }
 
     /**
-     * Creates unique pending intent for given appwidget id
-     * @param id
+     * Creates the pending intent of the update alarm
      * @return
      */
-    private PendingIntent createPendingIntent(int id) {
-        Intent i = new Intent(String.format(Locale.US, "scheduled_update_%d", id),
-                null, mContext, FuzzyWidgetService.class);
-        i.putExtra(AppWidgetManager.EXTRA_APPWIDGET_ID, id);
+    private PendingIntent createPendingIntent() {
+        Intent i = new Intent(ACTION_SCHEDULED_UPDATE, null, mContext, FuzzyWidgetService.class);
         return PendingIntent.getService(mContext, 0, i, PendingIntent.FLAG_UPDATE_CURRENT);
     }
 
@@ -227,21 +531,40 @@ public class FuzzyWidgetService extends Service {
      */
     @DebugLog
     private void updateSettings() {
-        sWidgetSettings.clear();
+        final ArrayMap<Integer, FuzzyPrefs> settings = new ArrayMap<>(4);
         int[] widgetIds = mWidgetManager.getAppWidgetIds(new ComponentName(mContext, FuzzyWidget.class));
         if (widgetIds != null && widgetIds.length > 0) {
             for (int id: widgetIds) {
                 if (LOGV) Log.v(TAG, "Updating widget settings id=" + id);
-                sWidgetSettings.put((Integer) id, new FuzzyPrefs(mContext, id));
+                settings.put((Integer) id, new FuzzyPrefs(mContext, id));
+            }
+        }
+        synchronized (sWidgetSettings) {
+            sWidgetSettings.clear();
+            // putAll() is ambiguous between the ArrayMap and SimpleArrayMap overloads
+            for (int ii = 0; ii < settings.size(); ii++) {
+                sWidgetSettings.put(settings.keyAt(ii), settings.valueAt(ii));
             }
         }
+        // Settings, zone or clock may have changed, plan again
+        synchronized (sWidgetSchedules) {
+            sWidgetSchedules.clear();
+        }
     }
 
     static final int UPDATE_SETTINGS = 0;
     static final int UPDATE_ALL_WIDGETS = 1;
-    static final int UPDATE_SINGLE_WIDGET = 2;
+    static final int UPDATE_DUE_WIDGETS = 2;
+    static final int REMOVE_SCHEDULES = 3;
+
+    static final int RENDER_THREADS_MAX = 4;
+    static final long RENDER_SHUTDOWN_SECONDS = 5;
 
     class UpdateHandler extends Handler {
+        UpdateHandler(Looper looper) {
+            super(looper);
+        }
+
         @Override
         public void handleMessage(Message msg) {
             switch (msg.what) {
@@ -254,14 +577,127 @@ public class FuzzyWidgetService extends Service {
                         stopSelf(msg.arg1);
                     }
                     break;
-                case UPDATE_SINGLE_WIDGET:
-                    updateWidget(msg.arg1);
-                    if (msg.arg2 != -1) {
-                        stopSelf(msg.arg2);
+                case UPDATE_DUE_WIDGETS:
+                    updateDueWidgets();
+                    stopSelf(msg.arg1);
+                    break;
+                case REMOVE_SCHEDULES:
+                    synchronized (sWidgetSchedules) {
+                        for (int id : (int[]) msg.obj) {
+                            sWidgetSchedules.remove((Integer) id);
+                        }
+                    }
+                    synchronized (sWidgetDeadlines) {
+                        for (int id : (int[]) msg.obj) {
+                            sWidgetDeadlines.remove(id);
+                        }
                     }
+                    synchronized (sWidgetFingerprints) {
+                        for (int id : (int[]) msg.obj) {
+                            sWidgetFingerprints.remove((Integer) id);
+                        }
+                    }
+                    updateAlarm();
                     break;
             }
         }
     }
 
+    /**
+     * A rendered widget waiting to be published
+     */
+    private static final class Frame {
+        final int id;
+        // The render thread's view is busy with other widgets by now, only its pool is shared
+        final FuzzyBitmapPool pool;
+        // Replaces the whole layout instead of updating it
+        final boolean full;
+        // Words to send, null where the host has it already or the segment is empty
+        final Bitmap[] bitmaps;
+        // Owned by the frame cache, not handed back to the pool
+        final boolean[] shared;
+        final Fingerprint fingerprint;
+        // What the widget showed when the frame was rendered, null if nothing yet
+        final Fingerprint sent;
+        final long timeMillis;
+        final long nextChangeMillis;
+        final long toleranceMillis;
+        final FuzzySchedule schedule;
+
+        Frame(int id, FuzzyBitmapPool pool, boolean full, Bitmap[] bitmaps, boolean[] shared,
+              Fingerprint fingerprint, Fingerprint sent, long timeMillis, long nextChangeMillis,
+              long toleranceMillis, FuzzySchedule schedule) {
+            this.id = id;
+            this.pool = pool;
+            this.full = full;
+            this.bitmaps = bitmaps;
+            this.shared = shared;
+            this.fingerprint = fingerprint;
+            this.sent = sent;
+            this.timeMillis = timeMillis;
+            this.nextChangeMillis = nextChangeMillis;
+            this.toleranceMillis = toleranceMillis;
+            this.schedule = schedule;
+        }
+    }
+
+    /**
+     * Everything that goes into a widget's remote views: the layout, each word and its
+     * tint, the staggered indents and the description. The click intent only depends on the
+     * widget id, so it needs no field.
+     */
+    private static final class Fingerprint {
+        final int clockStyle;
+        // null for empty segments
+        final FuzzyFrameCache.Key[] keys;
+        // Colour filter of each segment, the keys share masks between colours
+        final int[] tints;
+        final int separatorIndent;
+        final int hourIndent;
+        final String contentDescription;
+
+        Fingerprint(int clockStyle, FuzzyFrameCache.Key[] keys, int[] tints, int separatorIndent,
+                    int hourIndent, CharSequence contentDescription) {
+            this.clockStyle = clockStyle;
+            this.keys = keys;
+            this.tints = tints;
+            this.separatorIndent = separatorIndent;
+            this.hourIndent = hourIndent;
+            this.contentDescription = String.valueOf(contentDescription);
+        }
+
+        boolean isEmpty() {
+            for (FuzzyFrameCache.Key key : keys) {
+                if (key != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Fingerprint)) return false;
+            Fingerprint other = (Fingerprint) o;
+            return clockStyle == other.clockStyle
+                    && separatorIndent == other.separatorIndent
+                    && hourIndent == other.hourIndent
+                    && Arrays.equals(keys, other.keys)
+                    && Arrays.equals(tints, other.tints)
+                    && contentDescription.equals(other.contentDescription);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = clockStyle;
+            result = 31 * result + Arrays.hashCode(keys);
+            result = 31 * result + Arrays.hashCode(tints);
+            result = 31 * result + separatorIndent;
+            result = 31 * result + hourIndent;
+            result = 31 * result + contentDescription.hashCode();
+            return result;
+        }
+    }
+
 }
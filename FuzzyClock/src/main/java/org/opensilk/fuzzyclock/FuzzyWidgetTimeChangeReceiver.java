@@ -11,6 +11,9 @@ public class FuzzyWidgetTimeChangeReceiver extends BroadcastReceiver {
 
     @Override
     public void onReceive(Context context, Intent intent) {
+        if (Intent.ACTION_TIMEZONE_CHANGED.equals(intent.getAction())) {
+            FuzzyZone.invalidateDefault();
+        }
         if (Intent.ACTION_TIME_CHANGED.equals(intent.getAction())
                 || Intent.ACTION_TIMEZONE_CHANGED.equals(intent.getAction())) {
             context.startService(new Intent(context, FuzzyWidgetService.class));
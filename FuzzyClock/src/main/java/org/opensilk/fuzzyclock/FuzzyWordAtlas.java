@@ -0,0 +1,143 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Words rasterised once per font, text style, size and density as ALPHA_8 masks.
+ * Software frames are composed by blitting the masks, the paint supplies
+ * the colour so one mask serves every colour. Bounded by bytes. Thread safe.
+ */
+public final class FuzzyWordAtlas {
+
+    private static final int MAX_BYTES = 4 * 1024 * 1024;
+
+    // Access ordered for LRU eviction, guarded by itself
+    private static final LinkedHashMap<FuzzyTextKey, Entry> sEntries = new LinkedHashMap<>(64, 0.75f, true);
+    private static final FuzzyTextKey sProbe = new FuzzyTextKey();
+    private static int sBytes;
+
+    private FuzzyWordAtlas() {
+        //static
+    }
+
+    /**
+     * A rasterised word, the mask's top left sits at (-pad, -baseline) from the pen position
+     */
+    public static final class Entry {
+        public final Bitmap mask;
+        public final int pad;
+        public final int baseline;
+
+        Entry(Bitmap mask, int pad, int baseline) {
+            this.mask = mask;
+            this.pad = pad;
+            this.baseline = baseline;
+        }
+    }
+
+    /**
+     * @param text word as drawn
+     * @param font font file the paint's typeface was loaded from, empty for built in ones
+     * @param style FuzzyPrefs.TEXT_STYLE_* the paint's typeface was created from
+     * @param sizeSp text size in sp the paint's text size was computed from
+     * @param density display density the size was scaled with
+     * @param paint paint set up for style and size, only used to rasterise on a miss
+     * @return shared mask or null if the word is too large to keep
+     */
+    public static Entry get(String text, String font, int style, float sizeSp, float density,
+                            Paint paint) {
+        synchronized (sEntries) {
+            sProbe.set(text, font, style, sizeSp, density);
+            Entry entry = sEntries.get(sProbe);
+            if (entry != null) {
+                return entry;
+            }
+        }
+        // Rasterise outside the lock, a racing thread just does the same work
+        final FuzzyTextMetrics metrics = FuzzyTextMetrics.get(text, font, style, sizeSp,
+                density, paint);
+        // Room for glyphs overhanging their advance
+        final int pad = (int) Math.ceil(paint.getTextSize() / 8);
+        final int width = metrics.width + 2 * pad;
+        final int bytes = width * metrics.height;
+        if (width <= 0 || metrics.height <= 0 || bytes > MAX_BYTES / 4) {
+            return null;
+        }
+        final Bitmap mask = Bitmap.createBitmap(width, metrics.height, Bitmap.Config.ALPHA_8);
+        final Paint fill = new Paint(paint);
+        fill.setColor(0xff000000);
+        new Canvas(mask).drawText(text, pad, metrics.baseline, fill);
+        final Entry entry = new Entry(mask, pad, metrics.baseline);
+        synchronized (sEntries) {
+            final FuzzyTextKey key = new FuzzyTextKey();
+            key.set(text, font, style, sizeSp, density);
+            final Entry existing = sEntries.get(key);
+            if (existing != null) {
+                mask.recycle();
+                return existing;
+            }
+            sEntries.put(key, entry);
+            sBytes += bytes;
+            final Iterator<Entry> it = sEntries.values().iterator();
+            while (sBytes > MAX_BYTES && it.hasNext()) {
+                final Entry eldest = it.next();
+                if (eldest == entry) {
+                    break;
+                }
+                // Not recycled, a frame being drawn may still hold it
+                sBytes -= eldest.mask.getWidth() * eldest.mask.getHeight();
+                it.remove();
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Draws text with its pen at (x, baseline) from the atlas
+     * @return false if the word isn't available as a mask and must be drawn as text
+     */
+    public static boolean draw(Canvas canvas, String text, String font, int style, float sizeSp,
+                               float density, Paint paint, float x, float baseline) {
+        final Entry entry = get(text, font, style, sizeSp, density, paint);
+        if (entry == null) {
+            return false;
+        }
+        // ALPHA_8 bitmaps are drawn in the paint colour
+        canvas.drawBitmap(entry.mask, x - entry.pad, baseline - entry.baseline, paint);
+        return true;
+    }
+
+    /**
+     * Drops all masks, call when fonts change
+     */
+    public static void clear() {
+        synchronized (sEntries) {
+            sEntries.clear();
+            sBytes = 0;
+        }
+    }
+
+}
@@ -0,0 +1,194 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Splits epoch millis into wall clock minute of day without a Calendar.
+ * The offset is cached for the span between two transitions so the common
+ * case is a range check and a couple of divisions. Thread safe.
+ */
+public final class FuzzyZone {
+
+    private static final long MILLIS_PER_DAY = 86400000L;
+    // No zone transitions twice within this step
+    private static final long PROBE_STEP = 7 * MILLIS_PER_DAY;
+    private static final long PROBE_HORIZON = 366 * MILLIS_PER_DAY;
+
+    private static final ConcurrentHashMap<String, FuzzyZone> sZones = new ConcurrentHashMap<>(4);
+    private static volatile FuzzyZone sDefault;
+
+    private final TimeZone mTimeZone;
+    // Last two spans looked up, so evaluating now and planning past the next
+    // transition don't keep replacing each other
+    private volatile Window mWindow;
+    private volatile Window mOtherWindow;
+
+    /**
+     * Span of time with a constant offset
+     */
+    private static final class Window {
+        final long start, end; // [start, end)
+        final int offset;
+        Window(long start, long end, int offset) {
+            this.start = start;
+            this.end = end;
+            this.offset = offset;
+        }
+    }
+
+    private FuzzyZone(TimeZone tz) {
+        mTimeZone = tz;
+    }
+
+    /**
+     * @param id zone id as accepted by TimeZone.getTimeZone()
+     * @return shared zone for id
+     */
+    public static FuzzyZone get(String id) {
+        FuzzyZone zone = sZones.get(id);
+        if (zone == null) {
+            zone = new FuzzyZone(TimeZone.getTimeZone(id));
+            final FuzzyZone existing = sZones.putIfAbsent(id, zone);
+            if (existing != null) {
+                zone = existing;
+            }
+        }
+        return zone;
+    }
+
+    /**
+     * @return shared zone for the system default, see {@link #invalidateDefault()}
+     */
+    public static FuzzyZone getDefault() {
+        FuzzyZone zone = sDefault;
+        if (zone == null) {
+            zone = sDefault = get(TimeZone.getDefault().getID());
+        }
+        return zone;
+    }
+
+    /**
+     * Must be called when the system timezone changes
+     */
+    public static void invalidateDefault() {
+        sDefault = null;
+    }
+
+    /**
+     * @return offset from UTC in effect at epochMillis
+     */
+    public int getOffset(long epochMillis) {
+        return getWindow(epochMillis).offset;
+    }
+
+    /**
+     * @return first instant after epochMillis with a different offset, or the end
+     *         of the probe window, about 371 days out, if there is none
+     */
+    public long getNextTransition(long epochMillis) {
+        return getWindow(epochMillis).end;
+    }
+
+    /**
+     * @return wall clock minute of day 0 - 1439 at epochMillis with the given offset,
+     *         values from 720 are PM
+     */
+    static int getMinuteOfDay(long epochMillis, int offset) {
+        return (int) (mod(epochMillis + offset, MILLIS_PER_DAY) / 60000);
+    }
+
+    /**
+     * @return instant the wall clock minute containing epochMillis began, with the given offset
+     */
+    static long getStartOfMinute(long epochMillis, int offset) {
+        return epochMillis - mod(epochMillis + offset, 60000L);
+    }
+
+    private Window getWindow(long epochMillis) {
+        Window window = mWindow;
+        if (contains(window, epochMillis)) {
+            return window;
+        }
+        window = mOtherWindow;
+        if (contains(window, epochMillis)) {
+            return window;
+        }
+        window = computeWindow(epochMillis);
+        mOtherWindow = mWindow;
+        mWindow = window;
+        return window;
+    }
+
+    private static boolean contains(Window window, long epochMillis) {
+        return window != null && epochMillis >= window.start && epochMillis < window.end;
+    }
+
+    /**
+     * @return span from the transition before epochMillis to the one after it,
+     *         each side capped at the probe window
+     */
+    private Window computeWindow(long epochMillis) {
+        final int offset = mTimeZone.getOffset(epochMillis);
+        long start = epochMillis;
+        while (epochMillis - start < PROBE_HORIZON) {
+            final long lo = start - PROBE_STEP;
+            final int before = mTimeZone.getOffset(lo);
+            if (before != offset) {
+                start = findTransition(lo, start, before);
+                break;
+            }
+            start = lo;
+        }
+        long end = epochMillis;
+        while (end - epochMillis < PROBE_HORIZON) {
+            final long hi = end + PROBE_STEP;
+            if (mTimeZone.getOffset(hi) != offset) {
+                end = findTransition(end, hi, offset);
+                break;
+            }
+            end = hi;
+        }
+        return new Window(start, end, offset);
+    }
+
+    /**
+     * Binary searches for the first instant in (from, to] where the offset
+     * differs from offsetAtFrom.
+     */
+    private long findTransition(long from, long to, int offsetAtFrom) {
+        long lo = from, hi = to;
+        while (hi - lo > 1) {
+            final long mid = lo + (hi - lo) / 2;
+            if (mTimeZone.getOffset(mid) == offsetAtFrom) {
+                lo = mid;
+            } else {
+                hi = mid;
+            }
+        }
+        return hi;
+    }
+
+    private static long mod(long value, long divisor) {
+        final long result = value % divisor;
+        return result < 0 ? result + divisor : result;
+    }
+
+}
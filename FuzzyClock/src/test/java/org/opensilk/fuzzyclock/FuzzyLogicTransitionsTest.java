@@ -0,0 +1,144 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensilk.fuzzyclock;
+
+import org.junit.Test;
+
+import java.util.TimeZone;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Walks every minute of a year through each logic and checks the fuzzy time and the
+ * instant it next changes against the wall clock, across DST transitions, odd offsets
+ * and transitions at midnight.
+ */
+public class FuzzyLogicTransitionsTest {
+
+    // 2016-01-01T00:00:00Z, a leap year
+    private static final long START_MILLIS = 1451606400000L;
+    private static final long END_MILLIS = START_MILLIS + 366 * 86400000L;
+
+    private static final String[] ZONES = {
+            "UTC",
+            "America/New_York",
+            "America/St_Johns",   // -3:30
+            "America/Santiago",   // transitions at midnight
+            "America/Havana",     // transitions at midnight
+            "Europe/London",
+            "Europe/Berlin",
+            "Africa/Casablanca",  // DST suspended for Ramadan
+            "Asia/Kolkata",       // +5:30, no DST
+            "Asia/Kathmandu",     // +5:45
+            "Australia/Lord_Howe", // 30 minute DST
+            "Pacific/Chatham",    // +12:45, DST
+    };
+
+    private static FuzzyLogic[] getLogics() {
+        return new FuzzyLogic[] {
+                new FuzzyLogicFast(),
+                new FuzzyLogicPrecise(),
+                new FuzzyLogicSlow(),
+                new FuzzyLogicWarped(),
+                FuzzyLogicParametric.get(1, 0, 0),
+                FuzzyLogicParametric.get(15, -10, 9),
+                FuzzyLogicParametric.get(10, 30, 4),
+        };
+    }
+
+    @Test
+    public void evaluateMatchesWallClock() {
+        for (String id : ZONES) {
+            for (FuzzyLogic logic : getLogics()) {
+                checkYear(id, logic, false);
+                checkYear(id, logic, true);
+            }
+        }
+    }
+
+    @Test
+    public void scheduleMatchesEvaluate() {
+        for (String id : ZONES) {
+            final FuzzyZone zone = FuzzyZone.get(id);
+            for (FuzzyLogic logic : getLogics()) {
+                for (boolean is24Hour : new boolean[] { false, true }) {
+                    // Odd start so the days don't line up with wall clock midnight
+                    for (long start = START_MILLIS; start < END_MILLIS; start += 86400000L + 12345) {
+                        final FuzzySchedule schedule = logic.schedule(start, zone, is24Hour);
+                        final String where = id + " " + logic.getClass().getSimpleName()
+                                + " " + is24Hour + " at " + start;
+                        assertTrue(where, schedule.getEndMillis() >= start + FuzzySchedule.DURATION_MILLIS);
+                        assertTrue(where, schedule.covers(start, logic, zone, is24Hour));
+                        for (long t = start; t < schedule.getEndMillis(); t += 7 * 60000L + 1) {
+                            final FuzzyLogic.Evaluation expected = logic.evaluate(t, zone, is24Hour);
+                            final FuzzyLogic.Evaluation actual = schedule.get(t);
+                            assertEquals(where, expected.time, actual.time);
+                            assertEquals(where, expected.nextChangeMillis, actual.nextChangeMillis);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Splits the year into runs of minutes showing the same time and checks that
+     * evaluating anywhere inside a run gives its time and the instant the run ends.
+     * Every offset in the zones above is a whole number of minutes.
+     */
+    private static void checkYear(String id, FuzzyLogic logic, boolean is24Hour) {
+        final FuzzyZone zone = FuzzyZone.get(id);
+        final TimeZone tz = TimeZone.getTimeZone(id);
+        final FuzzyTable table = logic.getTable(is24Hour);
+        final String name = id + " " + logic.getClass().getSimpleName() + " " + is24Hour;
+        long runStart = START_MILLIS;
+        FuzzyLogic.FuzzyTime runTime = getWallClockTime(table, tz, runStart);
+        while (runStart < END_MILLIS) {
+            long runEnd = runStart + 60000L;
+            FuzzyLogic.FuzzyTime next;
+            while ((next = getWallClockTime(table, tz, runEnd)).equals(runTime)) {
+                runEnd += 60000L;
+            }
+            for (long t = runStart; t < runEnd; t += 60000L) {
+                checkEvaluation(name, logic, zone, is24Hour, t, runTime, runEnd);
+            }
+            checkEvaluation(name, logic, zone, is24Hour, runEnd - 1, runTime, runEnd);
+            runStart = runEnd;
+            runTime = next;
+        }
+    }
+
+    private static void checkEvaluation(String name, FuzzyLogic logic, FuzzyZone zone,
+            boolean is24Hour, long t, FuzzyLogic.FuzzyTime time, long nextChangeMillis) {
+        final FuzzyLogic.Evaluation evaluation = logic.evaluate(t, zone, is24Hour);
+        assertEquals(name + " time at " + t, time, evaluation.time);
+        assertEquals(name + " next change at " + t, nextChangeMillis, evaluation.nextChangeMillis);
+    }
+
+    /**
+     * @return fuzzy time for the wall clock at epochMillis, straight from the zone rules
+     */
+    private static FuzzyLogic.FuzzyTime getWallClockTime(FuzzyTable table, TimeZone tz, long epochMillis) {
+        final long local = epochMillis + tz.getOffset(epochMillis);
+        final long minuteOfDay = ((local / 60000L) % 1440 + 1440) % 1440;
+        return table.get((int) minuteOfDay);
+    }
+
+}
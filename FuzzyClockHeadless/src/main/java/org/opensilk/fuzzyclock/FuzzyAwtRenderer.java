@@ -0,0 +1,115 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+
+/**
+ * Draws a {@link FuzzyLayout} into a BufferedImage with java.awt
+ */
+public class FuzzyAwtRenderer implements FuzzyRenderer {
+
+    private final Font[] mFonts = new Font[FuzzyLayout.SEGMENT_COUNT];
+    private final Color[] mColors = new Color[FuzzyLayout.SEGMENT_COUNT];
+    private final FontMetrics[] mMetrics = new FontMetrics[FuzzyLayout.SEGMENT_COUNT];
+    // Only measures, fonts are looked up against it
+    private final Graphics2D mMeasureGraphics;
+    private Graphics2D mGraphics;
+
+    public FuzzyAwtRenderer(Font font, Color color) {
+        mMeasureGraphics = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB).createGraphics();
+        setHints(mMeasureGraphics);
+        for (int ii = 0; ii < FuzzyLayout.SEGMENT_COUNT; ii++) {
+            setFont(ii, font);
+            mColors[ii] = color;
+        }
+    }
+
+    public void setFont(int segment, Font font) {
+        mFonts[segment] = font;
+        mMetrics[segment] = mMeasureGraphics.getFontMetrics(font);
+    }
+
+    public void setColor(int segment, Color color) {
+        mColors[segment] = color;
+    }
+
+    /**
+     * Lays out and draws the clock
+     * @param layout layout created with this renderer
+     * @param style FuzzyLayout.STYLE_*
+     * @return image sized to the clock, null if there is nothing to draw
+     */
+    public BufferedImage render(FuzzyLayout layout, int style) {
+        layout.measureAndLayout(style);
+        if (layout.getMeasuredWidth() <= 0 || layout.getMeasuredHeight() <= 0) {
+            return null;
+        }
+        final BufferedImage image = new BufferedImage(layout.getMeasuredWidth(),
+                layout.getMeasuredHeight(), BufferedImage.TYPE_INT_ARGB);
+        mGraphics = image.createGraphics();
+        try {
+            setHints(mGraphics);
+            layout.draw();
+        } finally {
+            mGraphics.dispose();
+            mGraphics = null;
+        }
+        return image;
+    }
+
+    @Override
+    public int getTextWidth(int segment, String text) {
+        return mMetrics[segment].stringWidth(text);
+    }
+
+    @Override
+    public int getTextHeight(int segment, String text) {
+        // Like Paint.FontMetricsInt top and bottom
+        return mMetrics[segment].getMaxAscent() + mMetrics[segment].getMaxDescent();
+    }
+
+    @Override
+    public int getTextBaseline(int segment, String text) {
+        return mMetrics[segment].getMaxAscent();
+    }
+
+    @Override
+    public float getTextSize(int segment) {
+        return mFonts[segment].getSize2D();
+    }
+
+    @Override
+    public void drawText(int segment, String text, int x, int y) {
+        mGraphics.setFont(mFonts[segment]);
+        mGraphics.setColor(mColors[segment]);
+        mGraphics.drawString(text, x, y);
+    }
+
+    private static void setHints(Graphics2D g) {
+        // Fixed hints so the same input always gives the same pixels
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setRenderingHint(RenderingHints.KEY_FRACTIONALMETRICS, RenderingHints.VALUE_FRACTIONALMETRICS_OFF);
+    }
+
+}
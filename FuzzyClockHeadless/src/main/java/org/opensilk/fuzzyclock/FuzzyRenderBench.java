@@ -0,0 +1,75 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package org.opensilk.fuzzyclock;
+
+import java.awt.Color;
+import java.awt.Font;
+
+/**
+ * Renders every clock style with {@link FuzzyAwtRenderer} and reports frames per second.
+ * Pixel comparisons live in FuzzyRenderTest.
+ */
+public final class FuzzyRenderBench {
+
+    private static final int ITERATIONS = 2000;
+
+    // minute, separator, hour as the clock shows them, covers empty segments too
+    private static final String[][] PHRASES = {
+            { "FIVE", "PAST", "TWELVE" },
+            { "QUARTER", "PAST", "THREE" },
+            { "TWENTY FIVE", "TO", "ELEVEN" },
+            { "HALF", "PAST", "SEVEN" },
+            { "NINE", "", "O'CLOCK" },
+            { "NOON", "", "" },
+    };
+
+    private static final String[] STYLE_NAMES = { "horizontal", "vertical", "staggered" };
+
+    private FuzzyRenderBench() {
+        //static
+    }
+
+    public static void main(String[] args) {
+        final FuzzyAwtRenderer renderer = new FuzzyAwtRenderer(
+                new Font(Font.SANS_SERIF, Font.PLAIN, 96), Color.WHITE);
+        final FuzzyLayout layout = new FuzzyLayout(renderer);
+        for (int style = 0; style < STYLE_NAMES.length; style++) {
+            // warm up, then time
+            render(renderer, layout, style, ITERATIONS / 10);
+            final long start = System.nanoTime();
+            render(renderer, layout, style, ITERATIONS);
+            final long elapsed = System.nanoTime() - start;
+            System.out.println(String.format("%-10s %8.1f frames/s", STYLE_NAMES[style],
+                    ITERATIONS * 1e9 / elapsed));
+        }
+    }
+
+    private static void render(FuzzyAwtRenderer renderer, FuzzyLayout layout, int style, int count) {
+        for (int ii = 0; ii < count; ii++) {
+            setText(layout, PHRASES[ii % PHRASES.length]);
+            renderer.render(layout, style);
+        }
+    }
+
+    private static void setText(FuzzyLayout layout, String[] phrase) {
+        layout.setText(FuzzyLayout.SEGMENT_MINUTE, phrase[0]);
+        layout.setText(FuzzyLayout.SEGMENT_SEPARATOR, phrase[1]);
+        layout.setText(FuzzyLayout.SEGMENT_HOUR, phrase[2]);
+    }
+
+}
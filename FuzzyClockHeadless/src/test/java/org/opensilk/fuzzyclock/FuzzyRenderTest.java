@@ -0,0 +1,171 @@
+/*
+ *  Copyright (C) 2014 OpenSilk Productions LLC
+ *
+ *  This file is part of Fuzzy Clock
+ *
+ *  Fuzzy Clock is free software: you can redistribute it and/or modify
+ *  it under the terms of the GNU General Public License as published by
+ *  the Free Software Foundation, either version 3 of the License, or
+ *  (at your option) any later version.
+ *  Fuzzy Clock is distributed in the hope that it will be useful,
+ *  but WITHOUT ANY WARRANTY; without even the implied warranty of
+ *  MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ *  GNU General Public License for more details.
+ *
+ *  You should have received a copy of the GNU General Public License
+ *  along with Fuzzy Clock.  If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package org.opensilk.fuzzyclock;
+
+import org.junit.Test;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.GraphicsEnvironment;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+import javax.imageio.ImageIO;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Draws every clock style with {@link FuzzyAwtRenderer} and compares the frames with
+ * the reference PNGs in src/test/resources. Frames that don't match are written to
+ * build/frames, copy them over the references once they have been checked by eye.
+ */
+public class FuzzyRenderTest {
+
+    // Ships with most JDK images, the references are drawn with it
+    private static final String FONT_FAMILY = "DejaVu Sans";
+
+    // A pixel differs when a channel is further off than this, absorbs antialiasing noise
+    private static final int CHANNEL_TOLERANCE = 16;
+    // Share of differing pixels a frame may have
+    private static final double PIXEL_TOLERANCE = 0.005;
+
+    // minute, separator, hour as the clock shows them, covers empty segments too
+    private static final String[][] PHRASES = {
+            { "FIVE", "PAST", "TWELVE" },
+            { "QUARTER", "PAST", "THREE" },
+            { "TWENTY FIVE", "TO", "ELEVEN" },
+            { "HALF", "PAST", "SEVEN" },
+            { "NINE", "", "O'CLOCK" },
+            { "NOON", "", "" },
+    };
+
+    private static final String[] STYLE_NAMES = { "horizontal", "vertical", "staggered" };
+
+    @Test
+    public void framesMatchReferences() throws IOException {
+        assumeTrue(FONT_FAMILY + " not installed", isFontInstalled());
+        final FuzzyAwtRenderer renderer = new FuzzyAwtRenderer(
+                new Font(FONT_FAMILY, Font.PLAIN, 48), Color.WHITE);
+        // Mixed sizes and colours like the clock settings allow
+        renderer.setFont(FuzzyLayout.SEGMENT_SEPARATOR, new Font(FONT_FAMILY, Font.BOLD, 32));
+        renderer.setColor(FuzzyLayout.SEGMENT_SEPARATOR, new Color(0x80ff8000, true));
+        renderer.setColor(FuzzyLayout.SEGMENT_HOUR, Color.CYAN);
+        final FuzzyLayout layout = new FuzzyLayout(renderer);
+        final File out = new File("build/frames");
+        int failures = 0;
+        final StringBuilder report = new StringBuilder();
+        for (int style = 0; style < STYLE_NAMES.length; style++) {
+            for (int ii = 0; ii < PHRASES.length; ii++) {
+                layout.setText(FuzzyLayout.SEGMENT_MINUTE, PHRASES[ii][0]);
+                layout.setText(FuzzyLayout.SEGMENT_SEPARATOR, PHRASES[ii][1]);
+                layout.setText(FuzzyLayout.SEGMENT_HOUR, PHRASES[ii][2]);
+                final BufferedImage frame = renderer.render(layout, style);
+                assertNotNull(Arrays.toString(PHRASES[ii]), frame);
+                final String name = STYLE_NAMES[style] + "_" + ii + ".png";
+                final String result = compare(readReference(name), frame);
+                if (result != null) {
+                    report.append('\n').append(name).append(": ").append(result);
+                    if (!out.isDirectory() && !out.mkdirs()) {
+                        throw new IOException("Can't create " + out);
+                    }
+                    ImageIO.write(frame, "png", new File(out, name));
+                    failures++;
+                }
+            }
+        }
+        assertEquals("Frames differ, see " + out + report, 0, failures);
+    }
+
+    @Test
+    public void diffCatchesChanges() {
+        final BufferedImage expected = new BufferedImage(100, 10, BufferedImage.TYPE_INT_ARGB);
+        final BufferedImage actual = new BufferedImage(100, 10, BufferedImage.TYPE_INT_ARGB);
+        // Within tolerance: faint noise and a handful of pixels
+        actual.setRGB(0, 0, 0x08080808);
+        actual.setRGB(1, 0, 0xffffffff);
+        assertNull(compare(expected, actual));
+        for (int x = 0; x < 10; x++) {
+            actual.setRGB(x, 5, 0xffffffff);
+        }
+        assertNotNull(compare(expected, actual));
+        assertNotNull(compare(expected, new BufferedImage(101, 10, BufferedImage.TYPE_INT_ARGB)));
+        assertNotNull(compare(null, actual));
+    }
+
+    /**
+     * @return null if actual is within tolerance of expected, what differs otherwise
+     */
+    private static String compare(BufferedImage expected, BufferedImage actual) {
+        if (expected == null) {
+            return "no reference";
+        }
+        if (expected.getWidth() != actual.getWidth() || expected.getHeight() != actual.getHeight()) {
+            return "size " + actual.getWidth() + "x" + actual.getHeight() + ", expected "
+                    + expected.getWidth() + "x" + expected.getHeight();
+        }
+        int count = 0;
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                if (!isClose(expected.getRGB(x, y), actual.getRGB(x, y))) {
+                    count++;
+                }
+            }
+        }
+        final int allowed = (int) (PIXEL_TOLERANCE * expected.getWidth() * expected.getHeight());
+        return (count > allowed) ? count + " pixels differ, " + allowed + " allowed" : null;
+    }
+
+    private static boolean isClose(int expected, int actual) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            if (Math.abs(((expected >>> shift) & 0xff) - ((actual >>> shift) & 0xff)) > CHANNEL_TOLERANCE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static BufferedImage readReference(String name) throws IOException {
+        final InputStream in = FuzzyRenderTest.class.getResourceAsStream("frames/" + name);
+        if (in == null) {
+            return null;
+        }
+        try {
+            return ImageIO.read(in);
+        } finally {
+            in.close();
+        }
+    }
+
+    private static boolean isFontInstalled() {
+        for (String family : GraphicsEnvironment.getLocalGraphicsEnvironment()
+                .getAvailableFontFamilyNames()) {
+            if (FONT_FAMILY.equals(family)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}